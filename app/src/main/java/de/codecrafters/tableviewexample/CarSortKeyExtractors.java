@@ -0,0 +1,69 @@
+package de.codecrafters.tableviewexample;
+
+import de.codecrafters.tableview.extractors.ColumnDoubleKeyExtractor;
+import de.codecrafters.tableview.extractors.ColumnIntKeyExtractor;
+import de.codecrafters.tableview.extractors.ColumnSortKeyExtractor;
+import de.codecrafters.tableviewexample.data.Car;
+
+
+/**
+ * A collection of sort key extractors for {@link Car} objects.
+ *
+ * @author ISchwarz
+ */
+public final class CarSortKeyExtractors {
+
+    private CarSortKeyExtractors() {
+        //no instance
+    }
+
+    public static ColumnSortKeyExtractor<Car, String> getCarProducerKeyExtractor() {
+        return new CarProducerKeyExtractor();
+    }
+
+    public static ColumnSortKeyExtractor<Car, String> getCarNameKeyExtractor() {
+        return new CarNameKeyExtractor();
+    }
+
+    public static ColumnIntKeyExtractor<Car> getCarPowerKeyExtractor() {
+        return new CarPowerKeyExtractor();
+    }
+
+    public static ColumnDoubleKeyExtractor<Car> getCarPriceKeyExtractor() {
+        return new CarPriceKeyExtractor();
+    }
+
+
+    private static class CarProducerKeyExtractor implements ColumnSortKeyExtractor<Car, String> {
+
+        @Override
+        public String getSortKey(final Car car) {
+            return car.getProducer().getName();
+        }
+    }
+
+    private static class CarNameKeyExtractor implements ColumnSortKeyExtractor<Car, String> {
+
+        @Override
+        public String getSortKey(final Car car) {
+            return car.getName();
+        }
+    }
+
+    private static class CarPowerKeyExtractor implements ColumnIntKeyExtractor<Car> {
+
+        @Override
+        public int getSortKey(final Car car) {
+            return car.getPs();
+        }
+    }
+
+    private static class CarPriceKeyExtractor implements ColumnDoubleKeyExtractor<Car> {
+
+        @Override
+        public double getSortKey(final Car car) {
+            return car.getPrice();
+        }
+    }
+
+}
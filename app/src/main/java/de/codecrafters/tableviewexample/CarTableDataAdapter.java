@@ -1,6 +1,7 @@
 package de.codecrafters.tableviewexample;
 
 import android.content.Context;
+import android.content.res.ColorStateList;
 import android.support.v4.content.ContextCompat;
 import android.text.Editable;
 import android.text.TextWatcher;
@@ -23,11 +24,14 @@ import static java.lang.String.format;
 public class CarTableDataAdapter extends LongPressAwareTableDataAdapter<Car> {
 
     private static final int TEXT_SIZE = 14;
+    private static final int CELL_VIEW_POOL_SIZE = 12;
     private static final NumberFormat PRICE_FORMATTER = NumberFormat.getNumberInstance();
 
 
     public CarTableDataAdapter(final Context context, final List<Car> data, final TableView<Car> tableView) {
         super(context, data, tableView);
+        registerCellLayout(R.layout.table_cell_image, CELL_VIEW_POOL_SIZE);
+        registerCellLayout(R.layout.table_cell_power, CELL_VIEW_POOL_SIZE);
     }
 
     @Override
@@ -53,6 +57,28 @@ public class CarTableDataAdapter extends LongPressAwareTableDataAdapter<Car> {
         return renderedView;
     }
 
+    @Override
+    public boolean bindDefaultCellView(int rowIndex, int columnIndex, View recycledView) {
+        final Car car = getRowData(rowIndex);
+
+        switch (columnIndex) {
+            case 0:
+                bindProducerLogo(car, recycledView);
+                return true;
+            case 1:
+                bindString(car.getName(), (TextView) recycledView);
+                return true;
+            case 2:
+                bindPower(car, recycledView);
+                return true;
+            case 3:
+                bindPrice(car, (TextView) recycledView);
+                return true;
+        }
+
+        return false;
+    }
+
     @Override
     public View getLongPressCellView(int rowIndex, int columnIndex, ViewGroup parentView) {
         final Car car = getRowData(rowIndex);
@@ -80,31 +106,39 @@ public class CarTableDataAdapter extends LongPressAwareTableDataAdapter<Car> {
     }
 
     private View renderPrice(final Car car) {
-        final String priceString = PRICE_FORMATTER.format(car.getPrice()) + " €";
-
         final TextView textView = new TextView(getContext());
-        textView.setText(priceString);
         textView.setPadding(20, 10, 20, 10);
         textView.setTextSize(TEXT_SIZE);
+        textView.setTag(textView.getTextColors());
+        bindPrice(car, textView);
+        return textView;
+    }
+
+    private void bindPrice(final Car car, final TextView textView) {
+        final String priceString = PRICE_FORMATTER.format(car.getPrice()) + " €";
+        textView.setText(priceString);
 
         if (car.getPrice() < 50000) {
             textView.setTextColor(ContextCompat.getColor(getContext(), R.color.table_price_low));
         } else if (car.getPrice() > 100000) {
             textView.setTextColor(ContextCompat.getColor(getContext(), R.color.table_price_high));
+        } else {
+            textView.setTextColor((ColorStateList) textView.getTag());
         }
-
-        return textView;
     }
 
     private View renderPower(final Car car, final ViewGroup parentView) {
-        final View view = getLayoutInflater().inflate(R.layout.table_cell_power, parentView, false);
+        final View view = obtainCellView(R.layout.table_cell_power, parentView);
+        bindPower(car, view);
+        return view;
+    }
+
+    private void bindPower(final Car car, final View view) {
         final TextView kwView = (TextView) view.findViewById(R.id.kw_view);
         final TextView psView = (TextView) view.findViewById(R.id.ps_view);
 
         kwView.setText(format(Locale.ENGLISH, "%d %s", car.getKw(), getContext().getString(R.string.kw)));
         psView.setText(format(Locale.ENGLISH, "%d %s", car.getPs(), getContext().getString(R.string.ps)));
-
-        return view;
     }
 
     private View renderCatName(final Car car) {
@@ -112,21 +146,29 @@ public class CarTableDataAdapter extends LongPressAwareTableDataAdapter<Car> {
     }
 
     private View renderProducerLogo(final Car car, final ViewGroup parentView) {
-        final View view = getLayoutInflater().inflate(R.layout.table_cell_image, parentView, false);
+        final View view = obtainCellView(R.layout.table_cell_image, parentView);
+        bindProducerLogo(car, view);
+        return view;
+    }
+
+    private void bindProducerLogo(final Car car, final View view) {
         final ImageView imageView = (ImageView) view.findViewById(R.id.imageView);
         imageView.setImageResource(car.getProducer().getLogo());
-        return view;
     }
 
     private View renderString(final String value) {
         final TextView textView = new TextView(getContext());
-        textView.setText(value);
         textView.setPadding(20, 10, 20, 10);
         textView.setTextSize(TEXT_SIZE);
+        bindString(value, textView);
         return textView;
     }
 
-    private static class CarNameUpdater implements TextWatcher {
+    private void bindString(final String value, final TextView textView) {
+        textView.setText(value);
+    }
+
+    private class CarNameUpdater implements TextWatcher {
 
         private Car carToUpdate;
 
@@ -147,6 +189,12 @@ public class CarTableDataAdapter extends LongPressAwareTableDataAdapter<Car> {
         @Override
         public void afterTextChanged(Editable s) {
             carToUpdate.setName(s.toString());
+
+            // the sort keys and the search index of the row have to be updated as well
+            final int dataIndex = getData().indexOf(carToUpdate);
+            if (dataIndex >= 0) {
+                notifyRowsChanged(dataIndex, 1);
+            }
         }
     }
 
@@ -41,7 +41,7 @@ public class MainActivity extends AppCompatActivity {
                         public void run() {
                             final Car randomCar = getRandomCar();
                             carTableDataAdapter.getData().add(randomCar);
-                            carTableDataAdapter.notifyDataSetChanged();
+                            carTableDataAdapter.notifyRowsInserted(carTableDataAdapter.getData().size() - 1, 1);
                             refreshIndicator.hide();
                             Toast.makeText(MainActivity.this, "Added: " + randomCar, Toast.LENGTH_SHORT).show();
                         }
@@ -39,16 +39,13 @@ public class SortableCarTableView extends SortableTableView<Car> {
         setHeaderSortStateViewProvider(SortStateViewProviders.brightArrows());
 
         final TableColumnWeightModel tableColumnWeightModel = new TableColumnWeightModel(4);
-        tableColumnWeightModel.setColumnWeight(0, 2);
-        tableColumnWeightModel.setColumnWeight(1, 3);
-        tableColumnWeightModel.setColumnWeight(2, 3);
-        tableColumnWeightModel.setColumnWeight(3, 2);
+        tableColumnWeightModel.setColumnWeights(2, 3, 3, 2);
         setColumnModel(tableColumnWeightModel);
 
-        setColumnComparator(0, CarComparators.getCarProducerComparator());
-        setColumnComparator(1, CarComparators.getCarNameComparator());
-        setColumnComparator(2, CarComparators.getCarPowerComparator());
-        setColumnComparator(3, CarComparators.getCarPriceComparator());
+        setColumnSortKeyExtractor(0, CarSortKeyExtractors.getCarProducerKeyExtractor());
+        setColumnSortKeyExtractor(1, CarSortKeyExtractors.getCarNameKeyExtractor());
+        setColumnIntKey(2, CarSortKeyExtractors.getCarPowerKeyExtractor());
+        setColumnDoubleKey(3, CarSortKeyExtractors.getCarPriceKeyExtractor());
     }
 
 }
@@ -0,0 +1,42 @@
+package de.codecrafters.tableview;
+
+import android.os.Process;
+
+import java.util.concurrent.ThreadFactory;
+
+
+/**
+ * A {@link ThreadFactory} creating daemon threads with background priority. It is used by the executors that
+ * prepare table data off the main thread (e.g. sorting rows, precomputing text layouts, inflating cell views or
+ * loading pages).
+ *
+ * @author ISchwarz
+ */
+final class BackgroundThreadFactory implements ThreadFactory {
+
+    private final String threadName;
+
+
+    /**
+     * Creates a new BackgroundThreadFactory.
+     *
+     * @param threadName The name of the created threads.
+     */
+    BackgroundThreadFactory(final String threadName) {
+        this.threadName = threadName;
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        final Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                runnable.run();
+            }
+        }, threadName);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+}
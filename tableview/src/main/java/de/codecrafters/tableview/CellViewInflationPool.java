@@ -0,0 +1,169 @@
+package de.codecrafters.tableview;
+
+import android.content.Context;
+import android.util.Log;
+import android.util.SparseArray;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+
+
+/**
+ * Pool of cell views, that are inflated from layout resources on a background thread. For every registered layout
+ * the given number of cell views is inflated in advance and inflated again in the background as soon as cell views
+ * are taken from the pool. If the pool of a layout is empty, the cell view is inflated on the calling thread.
+ *
+ * @author ISchwarz
+ */
+final class CellViewInflationPool {
+
+    private static final String LOG_TAG = CellViewInflationPool.class.getName();
+
+    private final LayoutInflater layoutInflater;
+    private final LayoutInflater backgroundLayoutInflater;
+    private final Executor executor;
+    private final SparseArray<LayoutPool> layoutPools = new SparseArray<>();
+
+
+    /**
+     * Creates a new CellViewInflationPool.
+     *
+     * @param context  The context that shall be used to inflate the cell views.
+     * @param executor The {@link Executor} the cell views are inflated on. It has to run the inflations one after
+     *                 another, as they share one {@link LayoutInflater}.
+     */
+    CellViewInflationPool(final Context context, final Executor executor) {
+        this.layoutInflater = LayoutInflater.from(context);
+        // a LayoutInflater must not be used by multiple threads at once
+        this.backgroundLayoutInflater = layoutInflater.cloneInContext(context);
+        this.executor = executor;
+    }
+
+    /**
+     * Registers the layout with the given resource id and starts inflating cell views in the background until the
+     * given number of cell views is available.
+     *
+     * @param layoutRes The resource id of the layout.
+     * @param poolSize  The number of cell views that shall be kept available.
+     */
+    void register(final int layoutRes, final int poolSize) {
+        LayoutPool layoutPool = layoutPools.get(layoutRes);
+        if (layoutPool == null) {
+            layoutPool = new LayoutPool(layoutRes);
+            layoutPools.put(layoutRes, layoutPool);
+        }
+        layoutPool.setPoolSize(poolSize);
+        fill(layoutPool);
+    }
+
+    /**
+     * Gives a cell view of the layout with the given resource id. If a cell view has been inflated in advance, it is
+     * taken from the pool, else it is inflated on the calling thread. (Hint: the returned cell view has no layout
+     * parameters, as they are defined by the row the cell view is added to)
+     *
+     * @param layoutRes  The resource id of the layout.
+     * @param parentView The view the cell view will be added to.
+     * @return The cell view of the given layout.
+     */
+    View obtain(final int layoutRes, final ViewGroup parentView) {
+        final LayoutPool layoutPool = layoutPools.get(layoutRes);
+        View cellView = null;
+        if (layoutPool != null) {
+            cellView = layoutPool.poll();
+            fill(layoutPool);
+        }
+        if (cellView == null) {
+            cellView = layoutInflater.inflate(layoutRes, parentView, false);
+        }
+        return cellView;
+    }
+
+    private void fill(final LayoutPool layoutPool) {
+        final int missingViewCount = layoutPool.reserveMissingViews();
+        for (int i = 0; i < missingViewCount; i++) {
+            executor.execute(new Inflation(layoutPool));
+        }
+    }
+
+    /**
+     * The cell views inflated in advance for one layout. It is accessed by the main thread as well as by the
+     * background thread.
+     *
+     * @author ISchwarz
+     */
+    private static class LayoutPool {
+
+        private final int layoutRes;
+        private final ArrayDeque<View> cellViews = new ArrayDeque<>();
+        private int poolSize;
+        private int pendingInflationCount;
+        private boolean inflationFailed;
+
+        private LayoutPool(final int layoutRes) {
+            this.layoutRes = layoutRes;
+        }
+
+        private synchronized void setPoolSize(final int poolSize) {
+            this.poolSize = poolSize;
+            while (cellViews.size() > poolSize) {
+                cellViews.poll();
+            }
+        }
+
+        private synchronized View poll() {
+            return cellViews.poll();
+        }
+
+        private synchronized int reserveMissingViews() {
+            if (inflationFailed) {
+                return 0;
+            }
+            final int missingViewCount = poolSize - cellViews.size() - pendingInflationCount;
+            if (missingViewCount <= 0) {
+                return 0;
+            }
+            pendingInflationCount += missingViewCount;
+            return missingViewCount;
+        }
+
+        private synchronized void onInflated(final View cellView) {
+            pendingInflationCount--;
+            if (cellView == null) {
+                inflationFailed = true;
+            } else if (cellViews.size() < poolSize) {
+                cellViews.add(cellView);
+            }
+        }
+    }
+
+    /**
+     * Inflates one cell view in the background and puts it into its {@link LayoutPool}.
+     *
+     * @author ISchwarz
+     */
+    private class Inflation implements Runnable {
+
+        private final LayoutPool layoutPool;
+
+        private Inflation(final LayoutPool layoutPool) {
+            this.layoutPool = layoutPool;
+        }
+
+        @Override
+        public void run() {
+            View cellView = null;
+            try {
+                cellView = backgroundLayoutInflater.inflate(layoutPool.layoutRes, null, false);
+            } catch (final RuntimeException e) {
+                // some views can only be created on the main thread, so this layout is inflated there from now on
+                Log.w(LOG_TAG, "Inflating layout " + layoutPool.layoutRes + " in the background failed. " +
+                        "Caught Exception: " + e.getMessage());
+            }
+            layoutPool.onInflated(cellView);
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package de.codecrafters.tableview;
+
+import android.util.SparseArray;
+import android.view.View;
+
+import java.util.ArrayDeque;
+
+
+/**
+ * A pool that holds cell views, which have been removed from a recycled row because the cell view type of their
+ * column changed or their column has been scrolled out of the viewport. The views are kept separately for every
+ * column and cell view type, so they can be reused as soon as a row needs a cell view of this type in this column
+ * again. Cell views that can be used in every column are kept under the column index {@link #ANY_COLUMN}.
+ *
+ * @author ISchwarz
+ */
+final class CellViewScrapPool {
+
+    /**
+     * The column index under which cell views are kept, that can be reused in any column.
+     */
+    static final int ANY_COLUMN = -1;
+
+    private static final int MAX_SCRAP_VIEWS_PER_TYPE = 10;
+    private static final int MAX_SHARED_SCRAP_VIEWS_PER_TYPE = 64;
+
+    private final SparseArray<SparseArray<ArrayDeque<View>>> scrapViews = new SparseArray<>();
+
+
+    /**
+     * Puts the given cell view into the pool. If the pool already holds the maximum number of cell views for the
+     * given column and cell view type, the given view is dropped.
+     *
+     * @param columnIndex  The index of the column the given cell view was displayed in or {@link #ANY_COLUMN}.
+     * @param cellViewType The cell view type of the given cell view.
+     * @param cellView     The cell view that shall be put into the pool.
+     */
+    void putScrapView(final int columnIndex, final int cellViewType, final View cellView) {
+        SparseArray<ArrayDeque<View>> columnScrapViews = scrapViews.get(columnIndex);
+        if (columnScrapViews == null) {
+            columnScrapViews = new SparseArray<>();
+            scrapViews.put(columnIndex, columnScrapViews);
+        }
+
+        ArrayDeque<View> typeScrapViews = columnScrapViews.get(cellViewType);
+        if (typeScrapViews == null) {
+            typeScrapViews = new ArrayDeque<>();
+            columnScrapViews.put(cellViewType, typeScrapViews);
+        }
+
+        final int maxScrapViews = columnIndex == ANY_COLUMN ? MAX_SHARED_SCRAP_VIEWS_PER_TYPE : MAX_SCRAP_VIEWS_PER_TYPE;
+        if (typeScrapViews.size() < maxScrapViews) {
+            typeScrapViews.push(cellView);
+        }
+    }
+
+    /**
+     * Takes a cell view of the given column and cell view type out of the pool.
+     *
+     * @param columnIndex  The index of the column the cell view is requested for or {@link #ANY_COLUMN}.
+     * @param cellViewType The cell view type of the requested cell view.
+     * @return A cell view with the given cell view type or {@code NULL} if the pool contains no such view.
+     */
+    View getScrapView(final int columnIndex, final int cellViewType) {
+        final SparseArray<ArrayDeque<View>> columnScrapViews = scrapViews.get(columnIndex);
+        if (columnScrapViews == null) {
+            return null;
+        }
+
+        final ArrayDeque<View> typeScrapViews = columnScrapViews.get(cellViewType);
+        if (typeScrapViews == null) {
+            return null;
+        }
+        return typeScrapViews.poll();
+    }
+
+    /**
+     * Removes all cell views from the pool.
+     */
+    void clear() {
+        scrapViews.clear();
+    }
+
+}
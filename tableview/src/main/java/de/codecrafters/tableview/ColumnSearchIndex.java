@@ -0,0 +1,230 @@
+package de.codecrafters.tableview;
+
+import android.os.Handler;
+import android.os.Looper;
+import de.codecrafters.tableview.extractors.ColumnTextExtractor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * The search index of one column of a {@link TableView}. The texts of all rows are extracted and indexed in a
+ * {@link NGramIndex} on a background thread, using a snapshot of the data. Afterwards the index is updated on the
+ * main thread whenever rows are inserted, changed or removed. Changes made while the index is built are queued and
+ * applied to the built index, before it is used. Until then, searches check the texts of all rows. (Hint: this index
+ * must only be accessed on the main thread)
+ *
+ * @author ISchwarz
+ */
+final class ColumnSearchIndex<T> {
+
+    private static ExecutorService indexingExecutor;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final ColumnTextExtractor<? super T> textExtractor;
+    private NGramIndex index;
+    private int generation;
+
+    private List<DataChangeBatch> queuedBatches;
+    private List<String[]> queuedTexts;
+    private int queuedRowCount;
+
+
+    /**
+     * Creates a new ColumnSearchIndex.
+     *
+     * @param textExtractor The {@link ColumnTextExtractor} giving the text of a row.
+     */
+    ColumnSearchIndex(final ColumnTextExtractor<? super T> textExtractor) {
+        this.textExtractor = textExtractor;
+    }
+
+    /**
+     * Builds the index of the given data in the background. A build that is still running is discarded.
+     *
+     * @param data The data of the table.
+     */
+    void build(final List<T> data) {
+        final int buildGeneration = ++generation;
+        index = null;
+        queuedBatches = new ArrayList<>();
+        queuedTexts = new ArrayList<>();
+        queuedRowCount = data.size();
+
+        final List<T> dataSnapshot = new ArrayList<>(data);
+        getIndexingExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                final NGramIndex builtIndex = new NGramIndex();
+                builtIndex.insertRows(0, extractTexts(dataSnapshot, 0, dataSnapshot.size()));
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (buildGeneration == generation) {
+                            for (int i = 0; i < queuedBatches.size(); i++) {
+                                builtIndex.applyBatch(queuedBatches.get(i), queuedTexts.get(i));
+                            }
+                            index = builtIndex;
+                            queuedBatches = null;
+                            queuedTexts = null;
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Discards the index and a build that is still running.
+     */
+    void cancel() {
+        generation++;
+        index = null;
+        queuedBatches = null;
+        queuedTexts = null;
+    }
+
+    /**
+     * Finds the rows whose text contains the given query, ignoring the case.
+     *
+     * @param data  The data of the table.
+     * @param query The text to search for.
+     * @return The data indices of the matching rows in ascending order.
+     */
+    int[] find(final List<T> data, final String query) {
+        if (index != null) {
+            return index.find(query);
+        }
+
+        final String normalizedQuery = NGramIndex.normalize(query);
+        final int[] matches = new int[data.size()];
+        int matchCount = 0;
+        for (int dataIndex = 0; dataIndex < data.size(); dataIndex++) {
+            if (NGramIndex.normalize(textExtractor.getText(data.get(dataIndex))).contains(normalizedQuery)) {
+                matches[matchCount++] = dataIndex;
+            }
+        }
+        return Arrays.copyOf(matches, matchCount);
+    }
+
+    /**
+     * Indexes the inserted rows.
+     *
+     * @param data           The data of the table.
+     * @param dataIndexStart The data index of the first inserted row.
+     * @param rowCount       The number of inserted rows.
+     */
+    void onRowsInserted(final List<T> data, final int dataIndexStart, final int rowCount) {
+        if (queuedBatches != null) {
+            if (dataIndexStart <= queuedRowCount) {
+                queueBatch(data, DataChangeBatch.ofRowsInserted(queuedRowCount, dataIndexStart, rowCount));
+                return;
+            }
+        } else if (index != null && index.getRowCount() + rowCount == data.size()) {
+            index.insertRows(dataIndexStart, extractTexts(data, dataIndexStart, rowCount));
+            return;
+        }
+        build(data);
+    }
+
+    /**
+     * Indexes the changed rows again.
+     *
+     * @param data           The data of the table.
+     * @param dataIndexStart The data index of the first changed row.
+     * @param rowCount       The number of changed rows.
+     */
+    void onRowsChanged(final List<T> data, final int dataIndexStart, final int rowCount) {
+        final int changedRowCount = Math.max(0, Math.min(rowCount, data.size() - dataIndexStart));
+        if (queuedBatches != null) {
+            if (queuedRowCount == data.size()) {
+                queueBatch(data, DataChangeBatch.ofRowsChanged(queuedRowCount, dataIndexStart, changedRowCount));
+                return;
+            }
+        } else if (index != null && index.getRowCount() == data.size()) {
+            index.changeRows(dataIndexStart, extractTexts(data, dataIndexStart, changedRowCount));
+            return;
+        }
+        build(data);
+    }
+
+    /**
+     * Removes the removed rows from the index.
+     *
+     * @param data           The data of the table.
+     * @param dataIndexStart The data index the first removed row had.
+     * @param rowCount       The number of removed rows.
+     */
+    void onRowsRemoved(final List<T> data, final int dataIndexStart, final int rowCount) {
+        if (queuedBatches != null) {
+            if (dataIndexStart + rowCount <= queuedRowCount) {
+                queueBatch(data, DataChangeBatch.ofRowsRemoved(queuedRowCount, dataIndexStart, rowCount));
+                return;
+            }
+        } else if (index != null && index.getRowCount() - rowCount == data.size()) {
+            index.removeRows(dataIndexStart, rowCount);
+            return;
+        }
+        build(data);
+    }
+
+    /**
+     * Indexes the inserted and updated rows of a batch of changes and removes the removed rows from the index.
+     *
+     * @param data  The data of the table.
+     * @param batch The {@link DataChangeBatch} describing the changes.
+     */
+    void onBatchApplied(final List<T> data, final DataChangeBatch batch) {
+        if (queuedBatches != null) {
+            if (queuedRowCount == batch.getOldRowCount()) {
+                queueBatch(data, batch);
+                return;
+            }
+        } else if (index != null && index.getRowCount() == batch.getOldRowCount()
+                && batch.getNewRowCount() == data.size()) {
+            index.applyBatch(batch, extractChangedTexts(data, batch));
+            return;
+        }
+        build(data);
+    }
+
+    private void queueBatch(final List<T> data, final DataChangeBatch batch) {
+        if (batch.getNewRowCount() != data.size()) {
+            build(data);
+            return;
+        }
+        // the texts are extracted now, as the rows may change again until the index is built
+        queuedBatches.add(batch);
+        queuedTexts.add(extractChangedTexts(data, batch));
+        queuedRowCount = batch.getNewRowCount();
+    }
+
+    private String[] extractChangedTexts(final List<T> data, final DataChangeBatch batch) {
+        final int[] changedDataIndices = batch.getChangedDataIndices();
+        final String[] texts = new String[changedDataIndices.length];
+        for (int i = 0; i < changedDataIndices.length; i++) {
+            texts[i] = textExtractor.getText(data.get(changedDataIndices[i]));
+        }
+        return texts;
+    }
+
+    private String[] extractTexts(final List<T> data, final int dataIndexStart, final int rowCount) {
+        final String[] texts = new String[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            texts[i] = textExtractor.getText(data.get(dataIndexStart + i));
+        }
+        return texts;
+    }
+
+    private static synchronized ExecutorService getIndexingExecutor() {
+        if (indexingExecutor == null) {
+            indexingExecutor = Executors.newSingleThreadExecutor(new BackgroundThreadFactory("TableView-SearchIndex"));
+        }
+        return indexingExecutor;
+    }
+
+}
@@ -0,0 +1,234 @@
+package de.codecrafters.tableview;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+
+
+/**
+ * The sort keys of a column of a {@link SortableTableView}. The key of every row is extracted only once and
+ * cached by its data index, until the row is changed. The keys are stored in an array, that is specific to
+ * the type of the keys.
+ *
+ * @param <T> The type of the row data.
+ * @author ISchwarz
+ */
+abstract class ColumnSortKeys<T> {
+
+    private static final int INTERRUPTION_CHECK_INTERVAL = 1024;
+
+    private Keys keys = new Keys(createKeyArray(0), new boolean[0]);
+
+
+    /**
+     * Gives the keys of all rows of the given data. Keys that are not cached yet are extracted. This has to be
+     * called on the main thread.
+     *
+     * @param data The data of the table.
+     * @return The keys of all rows of the given data.
+     */
+    Keys getKeys(final List<T> data) {
+        if (keys.extracted.length != data.size()) {
+            keys = new Keys(createKeyArray(data.size()), new boolean[data.size()]);
+        }
+        extractMissingKeys(data, keys);
+        return keys;
+    }
+
+    /**
+     * Gives a copy of the cached keys, that can be completed on a background thread using
+     * {@link #extractMissingKeys(List, Keys)}. This has to be called on the main thread.
+     *
+     * @param rowCount The number of rows of the table.
+     * @return A copy of the cached keys.
+     */
+    Keys copyKeys(final int rowCount) {
+        final Object keyArray = createKeyArray(rowCount);
+        final boolean[] extracted = new boolean[rowCount];
+        if (keys.extracted.length == rowCount) {
+            System.arraycopy(keys.values, 0, keyArray, 0, rowCount);
+            System.arraycopy(keys.extracted, 0, extracted, 0, rowCount);
+        }
+        return new Keys(keyArray, extracted);
+    }
+
+    /**
+     * Replaces the cached keys by the given ones. This has to be called on the main thread.
+     *
+     * @param keys The keys that shall be cached.
+     */
+    void setKeys(final Keys keys) {
+        this.keys = keys;
+    }
+
+    /**
+     * Extracts the keys of the given data, that are missing in the given keys. If the current thread is
+     * interrupted, the extraction is aborted with a {@link CancellationException}.
+     *
+     * @param data The data to extract the keys of.
+     * @param keys The keys that shall be completed.
+     */
+    void extractMissingKeys(final List<T> data, final Keys keys) {
+        for (int dataIndex = 0; dataIndex < keys.extracted.length; dataIndex++) {
+            if (dataIndex % INTERRUPTION_CHECK_INTERVAL == 0 && Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            if (!keys.extracted[dataIndex]) {
+                extractKey(data.get(dataIndex), keys.values, dataIndex);
+                keys.extracted[dataIndex] = true;
+            }
+        }
+    }
+
+    /**
+     * Updates the cached keys after rows have been inserted into the data.
+     *
+     * @param dataIndexStart The data index of the first inserted row.
+     * @param rowCount       The number of inserted rows.
+     */
+    void onRowsInserted(final int dataIndexStart, final int rowCount) {
+        final int oldRowCount = keys.extracted.length;
+        if (dataIndexStart > oldRowCount) {
+            clear();
+            return;
+        }
+
+        final Object keyArray = createKeyArray(oldRowCount + rowCount);
+        final boolean[] extracted = new boolean[oldRowCount + rowCount];
+        System.arraycopy(keys.values, 0, keyArray, 0, dataIndexStart);
+        System.arraycopy(keys.extracted, 0, extracted, 0, dataIndexStart);
+        final int movedRowCount = oldRowCount - dataIndexStart;
+        System.arraycopy(keys.values, dataIndexStart, keyArray, dataIndexStart + rowCount, movedRowCount);
+        System.arraycopy(keys.extracted, dataIndexStart, extracted, dataIndexStart + rowCount, movedRowCount);
+        keys = new Keys(keyArray, extracted);
+    }
+
+    /**
+     * Updates the cached keys after the content of rows has changed.
+     *
+     * @param dataIndexStart The data index of the first changed row.
+     * @param rowCount       The number of changed rows.
+     */
+    void onRowsChanged(final int dataIndexStart, final int rowCount) {
+        final int dataIndexEnd = Math.min(dataIndexStart + rowCount, keys.extracted.length);
+        if (dataIndexStart < dataIndexEnd) {
+            Arrays.fill(keys.extracted, dataIndexStart, dataIndexEnd, false);
+        }
+    }
+
+    /**
+     * Updates the cached keys after rows have been removed from the data.
+     *
+     * @param dataIndexStart The data index the first removed row had.
+     * @param rowCount       The number of removed rows.
+     */
+    void onRowsRemoved(final int dataIndexStart, final int rowCount) {
+        final int oldRowCount = keys.extracted.length;
+        if (dataIndexStart + rowCount > oldRowCount) {
+            clear();
+            return;
+        }
+
+        final Object keyArray = createKeyArray(oldRowCount - rowCount);
+        final boolean[] extracted = new boolean[oldRowCount - rowCount];
+        System.arraycopy(keys.values, 0, keyArray, 0, dataIndexStart);
+        System.arraycopy(keys.extracted, 0, extracted, 0, dataIndexStart);
+        final int movedRowCount = oldRowCount - dataIndexStart - rowCount;
+        System.arraycopy(keys.values, dataIndexStart + rowCount, keyArray, dataIndexStart, movedRowCount);
+        System.arraycopy(keys.extracted, dataIndexStart + rowCount, extracted, dataIndexStart, movedRowCount);
+        keys = new Keys(keyArray, extracted);
+    }
+
+    /**
+     * Updates the cached keys after a batch of changes has been applied to the data. The keys of the inserted and
+     * updated rows are extracted again.
+     *
+     * @param batch The {@link DataChangeBatch} describing the changes.
+     */
+    void onBatchApplied(final DataChangeBatch batch) {
+        if (keys.extracted.length != batch.getOldRowCount()) {
+            clear();
+            return;
+        }
+
+        final Object keyArray = createKeyArray(batch.getNewRowCount());
+        final boolean[] extracted = new boolean[batch.getNewRowCount()];
+        batch.copyKeptValues(keys.values, keyArray);
+        batch.copyKeptValues(keys.extracted, extracted);
+        keys = new Keys(keyArray, extracted);
+    }
+
+    /**
+     * Removes all cached keys.
+     */
+    void clear() {
+        keys = new Keys(createKeyArray(0), new boolean[0]);
+    }
+
+    /**
+     * Gives a {@link Comparator} that compares the row data by their keys, without using the cache.
+     *
+     * @return A {@link Comparator} comparing the row data by their keys.
+     */
+    abstract Comparator<T> getComparator();
+
+    /**
+     * Gives an {@link IndexComparator} that compares the rows by the given keys.
+     *
+     * @param keys         The keys of all rows.
+     * @param sortingOrder The order in which the rows shall be sorted.
+     * @return An {@link IndexComparator} comparing the rows by the given keys.
+     */
+    abstract IndexComparator createIndexComparator(final Keys keys, final SortingOrder sortingOrder);
+
+    /**
+     * Sorts the given row order by the given keys with a sort that is specialized to the type of the keys. The
+     * result has to be the same as a stable sort with the {@link IndexComparator} given by
+     * {@link #createIndexComparator(Keys, SortingOrder)}.
+     *
+     * @param rowOrder     The row order that shall be sorted.
+     * @param keys         The keys of all rows.
+     * @param sortingOrder The order in which the rows shall be sorted.
+     * @return {@code TRUE} if the row order has been sorted, {@code FALSE} if there is no specialized sort for the
+     * type of the keys.
+     */
+    boolean sort(final int[] rowOrder, final Keys keys, final SortingOrder sortingOrder) {
+        return false;
+    }
+
+    /**
+     * Creates an array that can hold the given number of keys.
+     *
+     * @param rowCount The number of keys the array shall hold.
+     * @return An array that can hold the given number of keys.
+     */
+    abstract Object createKeyArray(final int rowCount);
+
+    /**
+     * Extracts the key of the given row data into the given key array.
+     *
+     * @param rowData   The data of the row to extract the key of.
+     * @param keyArray  The key array the key shall be stored in.
+     * @param dataIndex The data index of the given row data.
+     */
+    abstract void extractKey(final T rowData, final Object keyArray, final int dataIndex);
+
+
+    /**
+     * The keys of all rows of a table, stored by their data index.
+     *
+     * @author ISchwarz
+     */
+    static final class Keys {
+
+        final Object values;
+        final boolean[] extracted;
+
+        private Keys(final Object values, final boolean[] extracted) {
+            this.values = values;
+            this.extracted = extracted;
+        }
+    }
+
+}
@@ -0,0 +1,147 @@
+package de.codecrafters.tableview;
+
+
+/**
+ * The range of columns, that has to be materialized for a horizontally scrolled table. A column is part of the
+ * window if it intersects the visible part of the table beside the frozen columns. To have the neighbouring columns
+ * ready before they are scrolled into the viewport, the window is extended by {@value #EXTRA_COLUMNS} column on both
+ * sides.
+ *
+ * @author ISchwarz
+ */
+final class ColumnWindow {
+
+    private static final int EXTRA_COLUMNS = 1;
+
+    private final int firstColumnIndex;
+    private final int lastColumnIndex;
+    private final int firstColumnStart;
+    private final int scrollOffset;
+
+
+    private ColumnWindow(final int firstColumnIndex, final int lastColumnIndex, final int firstColumnStart,
+                         final int scrollOffset) {
+        this.firstColumnIndex = firstColumnIndex;
+        this.lastColumnIndex = lastColumnIndex;
+        this.firstColumnStart = firstColumnStart;
+        this.scrollOffset = scrollOffset;
+    }
+
+    /**
+     * Creates a window that contains all columns of a table, that is not scrolled horizontally.
+     *
+     * @param columnCount The number of columns of the table.
+     * @return The window containing all columns.
+     */
+    static ColumnWindow all(final int columnCount) {
+        return new ColumnWindow(0, columnCount - 1, 0, 0);
+    }
+
+    /**
+     * Creates the window of the columns, that are visible if the table is scrolled horizontally by the given
+     * offset. The frozen columns are not scrolled and therefore not part of the window. The offset is clamped, so
+     * the table is never scrolled beyond its last column.
+     *
+     * @param columnWidths      The widths of all columns, ordered by column index.
+     * @param frozenColumnCount The number of leading columns, that are not scrolled horizontally.
+     * @param tableWidth        The width of the table.
+     * @param scrollOffset      The horizontal scroll offset of the table.
+     * @return The window of the scrolled columns, that are visible with the given scroll offset. The start of the
+     * first column is given relative to the first column that is not frozen.
+     */
+    static ColumnWindow of(final int[] columnWidths, final int frozenColumnCount, final int tableWidth,
+                           final int scrollOffset) {
+        final int columnCount = columnWidths.length;
+        final int scrolledColumnIndex = Math.min(frozenColumnCount, columnCount);
+        if (tableWidth <= 0) {
+            return new ColumnWindow(scrolledColumnIndex, columnCount - 1, 0, 0);
+        }
+
+        final int viewportWidth = tableWidth - TableColumnWidths.sum(columnWidths, 0, scrolledColumnIndex);
+        final int offset = clampScrollOffset(columnWidths, tableWidth, scrollOffset);
+
+        int firstColumnIndex = scrolledColumnIndex;
+        int firstColumnStart = 0;
+        while (firstColumnIndex < columnCount && firstColumnStart + columnWidths[firstColumnIndex] <= offset) {
+            firstColumnStart += columnWidths[firstColumnIndex];
+            firstColumnIndex++;
+        }
+
+        int lastColumnIndex = firstColumnIndex;
+        int lastColumnEnd = firstColumnStart;
+        while (lastColumnIndex < columnCount && lastColumnEnd < offset + viewportWidth) {
+            lastColumnEnd += columnWidths[lastColumnIndex];
+            lastColumnIndex++;
+        }
+        lastColumnIndex--;
+
+        for (int i = 0; i < EXTRA_COLUMNS && firstColumnIndex > scrolledColumnIndex; i++) {
+            firstColumnIndex--;
+            firstColumnStart -= columnWidths[firstColumnIndex];
+        }
+        lastColumnIndex = Math.min(lastColumnIndex + EXTRA_COLUMNS, columnCount - 1);
+
+        return new ColumnWindow(firstColumnIndex, lastColumnIndex, firstColumnStart, offset);
+    }
+
+    /**
+     * Limits the given scroll offset to the range in which the table can be scrolled horizontally. As the frozen
+     * columns take the same width from the columns and the table, the range does not depend on them.
+     *
+     * @param columnWidths The widths of all columns, ordered by column index.
+     * @param tableWidth   The width of the table.
+     * @param scrollOffset The horizontal scroll offset that shall be limited.
+     * @return The scroll offset between {@code 0} and the width the columns exceed the table.
+     */
+    static int clampScrollOffset(final int[] columnWidths, final int tableWidth, final int scrollOffset) {
+        final int maxScrollOffset = Math.max(0, TableColumnWidths.sum(columnWidths) - tableWidth);
+        return Math.max(0, Math.min(scrollOffset, maxScrollOffset));
+    }
+
+    /**
+     * Gives the index of the first column of this window.
+     *
+     * @return The index of the first column that has to be materialized.
+     */
+    int getFirstColumnIndex() {
+        return firstColumnIndex;
+    }
+
+    /**
+     * Gives the index of the last column of this window.
+     *
+     * @return The index of the last column that has to be materialized.
+     */
+    int getLastColumnIndex() {
+        return lastColumnIndex;
+    }
+
+    /**
+     * Gives the horizontal position of the first column of this window, relative to the start of the table.
+     *
+     * @return The number of pixels the columns before this window take.
+     */
+    int getFirstColumnStart() {
+        return firstColumnStart;
+    }
+
+    /**
+     * Gives the (clamped) horizontal scroll offset this window was created for.
+     *
+     * @return The horizontal scroll offset of the table.
+     */
+    int getScrollOffset() {
+        return scrollOffset;
+    }
+
+    /**
+     * Checks if the column with the given index is part of this window.
+     *
+     * @param columnIndex The index of the column to check.
+     * @return {@code TRUE} if the column has to be materialized, else {@code FALSE}.
+     */
+    boolean contains(final int columnIndex) {
+        return columnIndex >= firstColumnIndex && columnIndex <= lastColumnIndex;
+    }
+
+}
@@ -0,0 +1,471 @@
+package de.codecrafters.tableview;
+
+import de.codecrafters.tableview.extractors.ColumnIntKeyExtractor;
+import de.codecrafters.tableview.extractors.ColumnLongKeyExtractor;
+import de.codecrafters.tableview.extractors.ColumnSortKeyExtractor;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * A read only table of strings, that is stored column by column instead of row by row. Every column is backed by a
+ * single array, so no array object is held per row. String columns with few distinct values can be dictionary
+ * encoded: each distinct value is stored once and the rows only hold an int code. Numeric columns are stored in
+ * primitive arrays and formatted when they are displayed.
+ * <p>
+ * This data can be given to a {@link de.codecrafters.tableview.toolkit.SimpleTableDataAdapter}. If it is displayed
+ * in a {@link SortableTableView}, its columns can be made sortable using
+ * {@link SortableTableView#setColumnarSortKey(int)}. Dictionary encoded and numeric columns are then sorted by
+ * their primitive values. (Hint: the rows given by {@link #get(int)} are created on every call, so prefer
+ * {@link #getString(int, int)} to access single cells.)
+ *
+ * @author ISchwarz
+ */
+public final class ColumnarTableData extends AbstractList<String[]> {
+
+    private final int rowCount;
+    private final Column[] columns;
+
+
+    /**
+     * Creates a new ColumnarTableData with empty columns. Use the setter methods to set the values of the columns.
+     *
+     * @param rowCount    The number of rows.
+     * @param columnCount The number of columns.
+     */
+    public ColumnarTableData(final int rowCount, final int columnCount) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("The row count must not be negative: " + rowCount);
+        }
+        if (columnCount < 0) {
+            throw new IllegalArgumentException("The column count must not be negative: " + columnCount);
+        }
+        this.rowCount = rowCount;
+        this.columns = new Column[columnCount];
+    }
+
+    /**
+     * Creates a new ColumnarTableData containing the given rows. Every column whose number of distinct values is at
+     * most half of the row count is dictionary encoded.
+     *
+     * @param rows        The rows that shall be stored.
+     * @param columnCount The number of columns.
+     * @return The ColumnarTableData containing the given rows.
+     */
+    public static ColumnarTableData fromRows(final List<String[]> rows, final int columnCount) {
+        final ColumnarTableData data = new ColumnarTableData(rows.size(), columnCount);
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            final String[] values = new String[rows.size()];
+            for (int rowIndex = 0; rowIndex < values.length; rowIndex++) {
+                final String[] row = rows.get(rowIndex);
+                values[rowIndex] = columnIndex < row.length ? row[columnIndex] : null;
+            }
+
+            if (hasFewDistinctValues(values, values.length / 2)) {
+                data.columns[columnIndex] = new DictionaryColumn(values);
+            } else {
+                data.columns[columnIndex] = new StringColumn(values);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Sets the values of the column with the given index. The values are stored as they are. (Hint: the given array
+     * is used directly, so it must not be changed afterwards)
+     *
+     * @param columnIndex The index of the column.
+     * @param values      The values of all rows.
+     */
+    public void setStringColumn(final int columnIndex, final String[] values) {
+        checkValueCount(values.length);
+        columns[columnIndex] = new StringColumn(values);
+    }
+
+    /**
+     * Sets the values of the column with the given index. Every distinct value is stored only once, so this is
+     * recommended for columns with few distinct values (e.g. states or categories).
+     *
+     * @param columnIndex The index of the column.
+     * @param values      The values of all rows.
+     */
+    public void setDictionaryColumn(final int columnIndex, final String[] values) {
+        checkValueCount(values.length);
+        columns[columnIndex] = new DictionaryColumn(values);
+    }
+
+    /**
+     * Sets the values of the column with the given index. (Hint: the given array is used directly, so it must not be
+     * changed afterwards)
+     *
+     * @param columnIndex The index of the column.
+     * @param values      The values of all rows.
+     */
+    public void setIntColumn(final int columnIndex, final int[] values) {
+        checkValueCount(values.length);
+        columns[columnIndex] = new IntColumn(values);
+    }
+
+    /**
+     * Sets the values of the column with the given index. (Hint: the given array is used directly, so it must not be
+     * changed afterwards)
+     *
+     * @param columnIndex The index of the column.
+     * @param values      The values of all rows.
+     */
+    public void setLongColumn(final int columnIndex, final long[] values) {
+        checkValueCount(values.length);
+        columns[columnIndex] = new LongColumn(values);
+    }
+
+    /**
+     * Sets the values of the column with the given index. (Hint: the given array is used directly, so it must not be
+     * changed afterwards)
+     *
+     * @param columnIndex The index of the column.
+     * @param values      The values of all rows.
+     */
+    public void setDoubleColumn(final int columnIndex, final double[] values) {
+        checkValueCount(values.length);
+        columns[columnIndex] = new DoubleColumn(values);
+    }
+
+    /**
+     * Gives the number of columns.
+     *
+     * @return The number of columns.
+     */
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Gives the value of a single cell.
+     *
+     * @param rowIndex    The index of the row.
+     * @param columnIndex The index of the column.
+     * @return The value of the cell or {@code NULL} if the column has no values.
+     */
+    public String getString(final int rowIndex, final int columnIndex) {
+        if (rowIndex < 0 || rowIndex >= rowCount) {
+            throw new IndexOutOfBoundsException("Invalid index " + rowIndex + ", size is " + rowCount);
+        }
+        final Column column = columns[columnIndex];
+        return column != null ? column.getString(rowIndex) : null;
+    }
+
+    @Override
+    public String[] get(final int rowIndex) {
+        final String[] row = new String[columns.length];
+        for (int columnIndex = 0; columnIndex < columns.length; columnIndex++) {
+            row[columnIndex] = getString(rowIndex, columnIndex);
+        }
+        return row;
+    }
+
+    @Override
+    public int size() {
+        return rowCount;
+    }
+
+    /**
+     * Creates the {@link ColumnSortKeys} of the column with the given index. The keys are copied from the column
+     * instead of being extracted row by row.
+     *
+     * @param columnIndex The index of the column.
+     * @return The {@link ColumnSortKeys} of the column.
+     */
+    ColumnSortKeys<String[]> createSortKeys(final int columnIndex) {
+        final Column column = columns[columnIndex];
+        if (column == null) {
+            throw new IllegalArgumentException("The column has no values: " + columnIndex);
+        }
+        return column.createSortKeys(columnIndex);
+    }
+
+    private static boolean hasFewDistinctValues(final String[] values, final int maxDistinctValueCount) {
+        final Set<String> distinctValues = new HashSet<>();
+        for (final String value : values) {
+            // counting stops as soon as there are too many values, so no dictionary is built for such columns
+            if (value != null && distinctValues.add(value) && distinctValues.size() > maxDistinctValueCount) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void checkValueCount(final int valueCount) {
+        if (valueCount != rowCount) {
+            throw new IllegalArgumentException("The column must have " + rowCount + " values: " + valueCount);
+        }
+    }
+
+    /**
+     * A column of a {@link ColumnarTableData}, backed by a single array.
+     *
+     * @author ISchwarz
+     */
+    private abstract static class Column {
+
+        abstract String getString(int rowIndex);
+
+        abstract ColumnSortKeys<String[]> createSortKeys(int columnIndex);
+
+        /**
+         * Checks if the keys can be copied from this column, as it is still the given column of the given data.
+         */
+        boolean isColumnOf(final List<String[]> data, final int columnIndex) {
+            return data instanceof ColumnarTableData && ((ColumnarTableData) data).columns[columnIndex] == this;
+        }
+    }
+
+    /**
+     * A column storing its values as they are.
+     *
+     * @author ISchwarz
+     */
+    private static final class StringColumn extends Column {
+
+        private final String[] values;
+
+        private StringColumn(final String[] values) {
+            this.values = values;
+        }
+
+        @Override
+        String getString(final int rowIndex) {
+            return values[rowIndex];
+        }
+
+        @Override
+        ColumnSortKeys<String[]> createSortKeys(final int columnIndex) {
+            final ColumnSortKeyExtractor<String[], String> extractor = new ColumnSortKeyExtractor<String[], String>() {
+                @Override
+                public String getSortKey(final String[] rowData) {
+                    return rowData[columnIndex];
+                }
+            };
+            return new ObjectColumnSortKeys<String[], String>(extractor, new NullsFirstComparator()) {
+                @Override
+                void extractMissingKeys(final List<String[]> data, final Keys keys) {
+                    if (!isColumnOf(data, columnIndex)) {
+                        super.extractMissingKeys(data, keys);
+                        return;
+                    }
+                    System.arraycopy(values, 0, keys.values, 0, values.length);
+                    Arrays.fill(keys.extracted, true);
+                }
+            };
+        }
+    }
+
+    /**
+     * A column storing every distinct value once in a sorted dictionary. The rows hold the index of their value in
+     * the dictionary, so the codes have the same order as the values. {@code NULL} values have the code -1.
+     *
+     * @author ISchwarz
+     */
+    private static final class DictionaryColumn extends Column {
+
+        private final String[] dictionary;
+        private final int[] codes;
+
+        private DictionaryColumn(final String[] values) {
+            final Map<String, Integer> codesByValue = new HashMap<>();
+            for (final String value : values) {
+                if (value != null) {
+                    codesByValue.put(value, 0);
+                }
+            }
+
+            dictionary = codesByValue.keySet().toArray(new String[codesByValue.size()]);
+            Arrays.sort(dictionary);
+            for (int code = 0; code < dictionary.length; code++) {
+                codesByValue.put(dictionary[code], code);
+            }
+
+            codes = new int[values.length];
+            for (int rowIndex = 0; rowIndex < values.length; rowIndex++) {
+                codes[rowIndex] = values[rowIndex] == null ? -1 : codesByValue.get(values[rowIndex]);
+            }
+        }
+
+        @Override
+        String getString(final int rowIndex) {
+            final int code = codes[rowIndex];
+            return code < 0 ? null : dictionary[code];
+        }
+
+        @Override
+        ColumnSortKeys<String[]> createSortKeys(final int columnIndex) {
+            final ColumnIntKeyExtractor<String[]> extractor = new ColumnIntKeyExtractor<String[]>() {
+                @Override
+                public int getSortKey(final String[] rowData) {
+                    final String value = rowData[columnIndex];
+                    return value == null ? -1 : Arrays.binarySearch(dictionary, value);
+                }
+            };
+            return new IntColumnSortKeys<String[]>(extractor) {
+                @Override
+                void extractMissingKeys(final List<String[]> data, final Keys keys) {
+                    if (!isColumnOf(data, columnIndex)) {
+                        super.extractMissingKeys(data, keys);
+                        return;
+                    }
+                    System.arraycopy(codes, 0, keys.values, 0, codes.length);
+                    Arrays.fill(keys.extracted, true);
+                }
+            };
+        }
+    }
+
+    /**
+     * A column storing int values.
+     *
+     * @author ISchwarz
+     */
+    private static final class IntColumn extends Column {
+
+        private final int[] values;
+
+        private IntColumn(final int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        String getString(final int rowIndex) {
+            return Integer.toString(values[rowIndex]);
+        }
+
+        @Override
+        ColumnSortKeys<String[]> createSortKeys(final int columnIndex) {
+            final ColumnIntKeyExtractor<String[]> extractor = new ColumnIntKeyExtractor<String[]>() {
+                @Override
+                public int getSortKey(final String[] rowData) {
+                    return Integer.parseInt(rowData[columnIndex]);
+                }
+            };
+            return new IntColumnSortKeys<String[]>(extractor) {
+                @Override
+                void extractMissingKeys(final List<String[]> data, final Keys keys) {
+                    if (!isColumnOf(data, columnIndex)) {
+                        super.extractMissingKeys(data, keys);
+                        return;
+                    }
+                    System.arraycopy(values, 0, keys.values, 0, values.length);
+                    Arrays.fill(keys.extracted, true);
+                }
+            };
+        }
+    }
+
+    /**
+     * A column storing long values.
+     *
+     * @author ISchwarz
+     */
+    private static final class LongColumn extends Column {
+
+        private final long[] values;
+
+        private LongColumn(final long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        String getString(final int rowIndex) {
+            return Long.toString(values[rowIndex]);
+        }
+
+        @Override
+        ColumnSortKeys<String[]> createSortKeys(final int columnIndex) {
+            final ColumnLongKeyExtractor<String[]> extractor = new ColumnLongKeyExtractor<String[]>() {
+                @Override
+                public long getSortKey(final String[] rowData) {
+                    return Long.parseLong(rowData[columnIndex]);
+                }
+            };
+            return new LongColumnSortKeys<String[]>(extractor) {
+                @Override
+                void extractMissingKeys(final List<String[]> data, final Keys keys) {
+                    if (!isColumnOf(data, columnIndex)) {
+                        super.extractMissingKeys(data, keys);
+                        return;
+                    }
+                    System.arraycopy(values, 0, keys.values, 0, values.length);
+                    Arrays.fill(keys.extracted, true);
+                }
+            };
+        }
+    }
+
+    /**
+     * A column storing double values. They are sorted in the order given by {@link Double#compare(double, double)}.
+     *
+     * @author ISchwarz
+     */
+    private static final class DoubleColumn extends Column {
+
+        private final double[] values;
+
+        private DoubleColumn(final double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        String getString(final int rowIndex) {
+            return Double.toString(values[rowIndex]);
+        }
+
+        @Override
+        ColumnSortKeys<String[]> createSortKeys(final int columnIndex) {
+            final ColumnLongKeyExtractor<String[]> extractor = new ColumnLongKeyExtractor<String[]>() {
+                @Override
+                public long getSortKey(final String[] rowData) {
+                    return LongColumnSortKeys.toSortKey(Double.parseDouble(rowData[columnIndex]));
+                }
+            };
+            return new LongColumnSortKeys<String[]>(extractor) {
+                @Override
+                void extractMissingKeys(final List<String[]> data, final Keys keys) {
+                    if (!isColumnOf(data, columnIndex)) {
+                        super.extractMissingKeys(data, keys);
+                        return;
+                    }
+                    final long[] keyArray = (long[]) keys.values;
+                    for (int dataIndex = 0; dataIndex < values.length; dataIndex++) {
+                        keyArray[dataIndex] = LongColumnSortKeys.toSortKey(values[dataIndex]);
+                    }
+                    Arrays.fill(keys.extracted, true);
+                }
+            };
+        }
+    }
+
+    /**
+     * Compares strings by their natural order, ordering {@code NULL} values first.
+     *
+     * @author ISchwarz
+     */
+    private static final class NullsFirstComparator implements Comparator<String> {
+
+        @Override
+        public int compare(final String value1, final String value2) {
+            if (value1 == null) {
+                return value2 == null ? 0 : -1;
+            }
+            if (value2 == null) {
+                return 1;
+            }
+            return value1.compareTo(value2);
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package de.codecrafters.tableview;
+
+import android.database.Cursor;
+
+
+/**
+ * The query of a {@link CursorTableDataAdapter}. It is run on a background thread, whenever the rows shall be
+ * loaded or sorted again.
+ *
+ * @author ISchwarz
+ */
+public interface CursorQuery {
+
+    /**
+     * Runs the query with the given order.
+     *
+     * @param orderBy The {@code ORDER BY} clause without the keywords (e.g. {@code "name ASC, price DESC"}) or
+     *                {@code NULL} if the rows shall not be sorted.
+     * @return The {@link Cursor} containing the resulting rows.
+     */
+    Cursor query(String orderBy);
+
+}
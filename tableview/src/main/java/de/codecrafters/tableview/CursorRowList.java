@@ -0,0 +1,68 @@
+package de.codecrafters.tableview;
+
+import android.database.Cursor;
+import android.support.v4.util.LruCache;
+
+import java.util.AbstractList;
+
+
+/**
+ * A read only list of the rows of a {@link Cursor}. The rows are mapped to data objects by a
+ * {@link CursorRowMapper} when they are accessed. The {@value #ROW_CACHE_SIZE} most recently accessed data objects
+ * are cached, so the cells of a row do not map the row again. (Hint: this list must only be accessed on the main
+ * thread)
+ *
+ * @author ISchwarz
+ */
+final class CursorRowList<T> extends AbstractList<T> {
+
+    private static final int ROW_CACHE_SIZE = 256;
+
+    private final LruCache<Integer, T> rowCache = new LruCache<>(ROW_CACHE_SIZE);
+    private final CursorRowMapper<T> rowMapper;
+    private Cursor cursor;
+
+
+    /**
+     * Creates a new CursorRowList without a cursor.
+     *
+     * @param rowMapper The {@link CursorRowMapper} the rows are mapped with.
+     */
+    CursorRowList(final CursorRowMapper<T> rowMapper) {
+        this.rowMapper = rowMapper;
+    }
+
+    /**
+     * Replaces the cursor of this list. The old cursor is not closed.
+     *
+     * @param cursor The {@link Cursor} that shall be used or {@code NULL} if the list shall be empty.
+     * @return The old {@link Cursor} or {@code NULL} if there was none.
+     */
+    Cursor swapCursor(final Cursor cursor) {
+        final Cursor oldCursor = this.cursor;
+        this.cursor = cursor;
+        rowCache.evictAll();
+        return oldCursor;
+    }
+
+    @Override
+    public T get(final int index) {
+        T row = rowCache.get(index);
+        if (row == null) {
+            if (cursor == null || !cursor.moveToPosition(index)) {
+                throw new IndexOutOfBoundsException("Invalid index " + index + ", size is " + size());
+            }
+            row = rowMapper.mapRow(cursor);
+            if (row != null) {
+                rowCache.put(index, row);
+            }
+        }
+        return row;
+    }
+
+    @Override
+    public int size() {
+        return cursor != null ? cursor.getCount() : 0;
+    }
+
+}
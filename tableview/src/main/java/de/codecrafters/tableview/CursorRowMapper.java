@@ -0,0 +1,23 @@
+package de.codecrafters.tableview;
+
+import android.database.Cursor;
+
+
+/**
+ * Maps the current row of a {@link Cursor} to the data object of a table row. It is used by the
+ * {@link CursorTableDataAdapter} to read the rows lazily, when they are displayed.
+ *
+ * @author ISchwarz
+ */
+public interface CursorRowMapper<T> {
+
+    /**
+     * Creates the data object of the row, the given cursor is currently positioned at. (Hint: the position of the
+     * cursor must not be changed)
+     *
+     * @param cursor The {@link Cursor} positioned at the row that shall be mapped.
+     * @return The data object of the row.
+     */
+    T mapRow(Cursor cursor);
+
+}
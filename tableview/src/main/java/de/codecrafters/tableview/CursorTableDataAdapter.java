@@ -0,0 +1,227 @@
+package de.codecrafters.tableview;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.SparseArray;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * The abstract implementation of an adapter that brings the rows of a {@link Cursor} to a {@link TableView}. The
+ * rows are read lazily from the cursor and mapped to data objects by a {@link CursorRowMapper}, when they are
+ * displayed. So even tables with hundreds of thousands of rows do not hold more than the displayed rows in memory.
+ * <p>
+ * The cursor is created by a {@link CursorQuery} on a background thread. If this adapter is used by a
+ * {@link SortableTableView}, the columns that have a sort expression (see
+ * {@link #setColumnSortExpression(int, String)}) are sorted by the database: the query is run again with an
+ * {@code ORDER BY} clause, instead of sorting the rows in memory. The new cursor replaces the old one at once on the
+ * main thread and the old cursor is closed afterwards.
+ * <p>
+ * (Hint: the table can not sort columns without a sort expression, filter or search the rows of this adapter, as
+ * this would map all rows of the cursor into memory. Filter the rows in the {@link CursorQuery} instead.)
+ *
+ * @author ISchwarz
+ */
+public abstract class CursorTableDataAdapter<T> extends TableDataAdapter<T> {
+
+    private static final String LOG_TAG = CursorTableDataAdapter.class.getName();
+
+    private static ExecutorService queryExecutor;
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final SparseArray<String> columnSortExpressions = new SparseArray<>();
+    private final CursorQuery query;
+    private String orderBy;
+    private String requestedOrderBy;
+    private Runnable pendingQueriedCallback;
+    private Runnable pendingFailedCallback;
+    private int queryGeneration;
+
+
+    /**
+     * Creates a new CursorTableDataAdapter. The query is run immediately.
+     *
+     * @param context   The context that shall be used.
+     * @param query     The {@link CursorQuery} that creates the cursor.
+     * @param rowMapper The {@link CursorRowMapper} that maps the rows of the cursor to data objects.
+     */
+    public CursorTableDataAdapter(final Context context, final CursorQuery query, final CursorRowMapper<T> rowMapper) {
+        super(context, new CursorRowList<>(rowMapper));
+        this.query = query;
+        requery();
+    }
+
+    /**
+     * Sets the SQL expression the column with the given index is sorted by. If the column is sorted, the query is
+     * run again with this expression in its {@code ORDER BY} clause.
+     *
+     * @param columnIndex   The index of the column.
+     * @param sqlExpression The SQL expression of the column (e.g. the column name of the table) or {@code NULL} if
+     *                      the column shall not be sorted by the database.
+     */
+    public void setColumnSortExpression(final int columnIndex, final String sqlExpression) {
+        if (sqlExpression == null) {
+            columnSortExpressions.remove(columnIndex);
+        } else {
+            columnSortExpressions.put(columnIndex, sqlExpression);
+        }
+    }
+
+    /**
+     * Gives the SQL expression the column with the given index is sorted by.
+     *
+     * @param columnIndex The index of the column.
+     * @return The SQL expression of the column or {@code NULL} if the column is not sorted by the database.
+     */
+    public String getColumnSortExpression(final int columnIndex) {
+        return columnSortExpressions.get(columnIndex);
+    }
+
+    /**
+     * Runs the query again with the current order. Use this method instead of {@link #notifyDataSetChanged()}, if
+     * the data in the database has changed.
+     */
+    public void requery() {
+        // a query that is still running is replaced, so its callbacks are passed on
+        runQuery(requestedOrderBy, pendingQueriedCallback, pendingFailedCallback);
+    }
+
+    /**
+     * Closes the current cursor and empties the table. Queries that are still running are discarded.
+     */
+    public void close() {
+        queryGeneration++;
+        requestedOrderBy = orderBy;
+        final Runnable failedCallback = pendingFailedCallback;
+        pendingQueriedCallback = null;
+        pendingFailedCallback = null;
+
+        final Cursor oldCursor = getRowList().swapCursor(null);
+        notifyDataSetChanged();
+        if (oldCursor != null) {
+            oldCursor.close();
+        }
+        if (failedCallback != null) {
+            failedCallback.run();
+        }
+    }
+
+    @Override
+    boolean isFullyLoaded() {
+        // walking all rows would map every row of the cursor on the main thread
+        return false;
+    }
+
+    @Override
+    boolean canSortByDataSource(final int columnIndex) {
+        return columnSortExpressions.get(columnIndex) != null;
+    }
+
+    @Override
+    void sortByDataSource(final List<SortingKey> sortingKeys, final Runnable sortedCallback,
+                          final Runnable failedCallback) {
+        if (sortingKeys.isEmpty() && requestedOrderBy == null) {
+            if (sortedCallback != null) {
+                sortedCallback.run();
+            }
+            return;
+        }
+        runQuery(createOrderBy(sortingKeys), sortedCallback, failedCallback);
+    }
+
+    private String createOrderBy(final List<SortingKey> sortingKeys) {
+        if (sortingKeys.isEmpty()) {
+            return null;
+        }
+
+        final StringBuilder orderByBuilder = new StringBuilder();
+        for (final SortingKey sortingKey : sortingKeys) {
+            if (orderByBuilder.length() > 0) {
+                orderByBuilder.append(", ");
+            }
+            orderByBuilder.append(columnSortExpressions.get(sortingKey.getColumnIndex()))
+                    .append(sortingKey.getSortingOrder() == SortingOrder.ASCENDING ? " ASC" : " DESC");
+        }
+        return orderByBuilder.toString();
+    }
+
+    private void runQuery(final String orderBy, final Runnable queriedCallback, final Runnable failedCallback) {
+        requestedOrderBy = orderBy;
+        pendingQueriedCallback = queriedCallback;
+        pendingFailedCallback = failedCallback;
+        final int generation = ++queryGeneration;
+        getQueryExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                Cursor cursor = null;
+                try {
+                    cursor = query.query(orderBy);
+                    if (cursor != null) {
+                        // counting the rows fills the first window of the cursor, which shall not be done on the main thread
+                        cursor.getCount();
+                    }
+                } catch (final RuntimeException e) {
+                    Log.w(LOG_TAG, "Running the query ordered by '" + orderBy + "' failed. Caught Exception: " + e.getMessage());
+                }
+                final Cursor queriedCursor = cursor;
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        onQueried(generation, orderBy, queriedCursor);
+                    }
+                });
+            }
+        });
+    }
+
+    private void onQueried(final int generation, final String orderBy, final Cursor cursor) {
+        if (generation != queryGeneration) {
+            // outdated result of a query that has been replaced meanwhile
+            if (cursor != null) {
+                cursor.close();
+            }
+            return;
+        }
+
+        final Runnable queriedCallback = pendingQueriedCallback;
+        final Runnable failedCallback = pendingFailedCallback;
+        pendingQueriedCallback = null;
+        pendingFailedCallback = null;
+        if (cursor == null) {
+            // the current cursor is kept, so the next query is ordered like it again
+            requestedOrderBy = this.orderBy;
+            if (failedCallback != null) {
+                failedCallback.run();
+            }
+            return;
+        }
+
+        this.orderBy = orderBy;
+        final Cursor oldCursor = getRowList().swapCursor(cursor);
+        notifyDataSetChanged();
+        if (oldCursor != null) {
+            oldCursor.close();
+        }
+        if (queriedCallback != null) {
+            queriedCallback.run();
+        }
+    }
+
+    private CursorRowList<T> getRowList() {
+        return (CursorRowList<T>) getData();
+    }
+
+    private static synchronized ExecutorService getQueryExecutor() {
+        if (queryExecutor == null) {
+            queryExecutor = Executors.newSingleThreadExecutor(new BackgroundThreadFactory("TableDataAdapter-Query"));
+        }
+        return queryExecutor;
+    }
+
+}
@@ -0,0 +1,290 @@
+package de.codecrafters.tableview;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+
+/**
+ * Describes the changes of a sequence of row insertions, updates and removals as a whole. It maps the data index
+ * every row had before the changes to the data index it has afterwards and tells which rows are new or have been
+ * updated. Updated rows are treated like removed rows that have been inserted again, so they have to be sorted,
+ * filtered and indexed again.
+ *
+ * @author ISchwarz
+ */
+final class DataChangeBatch {
+
+    private final int oldRowCount;
+    private final int newRowCount;
+    private final int[] newDataIndices;
+    private final int[] changedDataIndices;
+    private final boolean[] changed;
+
+
+    private DataChangeBatch(final int oldRowCount, final int newRowCount, final int[] newDataIndices,
+                            final int[] changedDataIndices) {
+        this.oldRowCount = oldRowCount;
+        this.newRowCount = newRowCount;
+        this.newDataIndices = newDataIndices;
+        this.changedDataIndices = changedDataIndices;
+        this.changed = new boolean[newRowCount];
+        for (final int dataIndex : changedDataIndices) {
+            changed[dataIndex] = true;
+        }
+    }
+
+    /**
+     * Gives the number of rows before the changes.
+     *
+     * @return The old number of rows.
+     */
+    int getOldRowCount() {
+        return oldRowCount;
+    }
+
+    /**
+     * Gives the number of rows after the changes.
+     *
+     * @return The new number of rows.
+     */
+    int getNewRowCount() {
+        return newRowCount;
+    }
+
+    /**
+     * Gives the data index a row has after the changes.
+     *
+     * @param oldDataIndex The data index the row had before the changes.
+     * @return The new data index of the row or {@code -1} if the row has been removed or updated.
+     */
+    int getNewDataIndex(final int oldDataIndex) {
+        if (newDataIndices != null) {
+            return newDataIndices[oldDataIndex];
+        }
+        return changed[oldDataIndex] ? -1 : oldDataIndex;
+    }
+
+    /**
+     * Gives the rows that have been inserted or updated.
+     *
+     * @return The new data indices of the inserted and updated rows in ascending order.
+     */
+    int[] getChangedDataIndices() {
+        return changedDataIndices;
+    }
+
+    /**
+     * Checks whether rows have been inserted or removed, or if only the content of rows has been updated.
+     *
+     * @return True if rows have been inserted or removed, false if all rows have kept their data index.
+     */
+    boolean isStructural() {
+        return newDataIndices != null || newRowCount != oldRowCount;
+    }
+
+    /**
+     * Copies the values of the rows that have been neither removed nor updated from an array indexed by the old data
+     * indices into an array indexed by the new data indices. Rows that kept their neighbours are copied at once.
+     *
+     * @param oldValues The array indexed by the old data indices (e.g. an {@code int[]}).
+     * @param newValues The array of the same type indexed by the new data indices.
+     */
+    void copyKeptValues(final Object oldValues, final Object newValues) {
+        int oldDataIndex = 0;
+        while (oldDataIndex < oldRowCount) {
+            final int newDataIndex = getNewDataIndex(oldDataIndex);
+            if (newDataIndex < 0) {
+                oldDataIndex++;
+                continue;
+            }
+
+            int length = 1;
+            while (oldDataIndex + length < oldRowCount && getNewDataIndex(oldDataIndex + length) == newDataIndex + length) {
+                length++;
+            }
+            System.arraycopy(oldValues, oldDataIndex, newValues, newDataIndex, length);
+            oldDataIndex += length;
+        }
+    }
+
+    /**
+     * Creates the {@link DataChangeBatch} describing the insertion of a range of rows.
+     *
+     * @param oldRowCount    The number of rows before the insertion.
+     * @param dataIndexStart The data index of the first inserted row.
+     * @param rowCount       The number of inserted rows.
+     * @return The created {@link DataChangeBatch}.
+     */
+    static DataChangeBatch ofRowsInserted(final int oldRowCount, final int dataIndexStart, final int rowCount) {
+        int[] newDataIndices = null;
+        if (dataIndexStart < oldRowCount) {
+            newDataIndices = new int[oldRowCount];
+            for (int oldDataIndex = 0; oldDataIndex < oldRowCount; oldDataIndex++) {
+                newDataIndices[oldDataIndex] = oldDataIndex < dataIndexStart ? oldDataIndex : oldDataIndex + rowCount;
+            }
+        }
+        return new DataChangeBatch(oldRowCount, oldRowCount + rowCount, newDataIndices,
+                getRange(dataIndexStart, rowCount));
+    }
+
+    /**
+     * Creates the {@link DataChangeBatch} describing the update of a range of rows.
+     *
+     * @param rowCount       The number of rows of the data.
+     * @param dataIndexStart The data index of the first updated row.
+     * @param changeCount    The number of updated rows.
+     * @return The created {@link DataChangeBatch}.
+     */
+    static DataChangeBatch ofRowsChanged(final int rowCount, final int dataIndexStart, final int changeCount) {
+        return new DataChangeBatch(rowCount, rowCount, null, getRange(dataIndexStart, changeCount));
+    }
+
+    /**
+     * Creates the {@link DataChangeBatch} describing the removal of a range of rows.
+     *
+     * @param oldRowCount    The number of rows before the removal.
+     * @param dataIndexStart The data index the first removed row had.
+     * @param rowCount       The number of removed rows.
+     * @return The created {@link DataChangeBatch}.
+     */
+    static DataChangeBatch ofRowsRemoved(final int oldRowCount, final int dataIndexStart, final int rowCount) {
+        final int[] newDataIndices = new int[oldRowCount];
+        for (int oldDataIndex = 0; oldDataIndex < oldRowCount; oldDataIndex++) {
+            if (oldDataIndex < dataIndexStart) {
+                newDataIndices[oldDataIndex] = oldDataIndex;
+            } else if (oldDataIndex < dataIndexStart + rowCount) {
+                newDataIndices[oldDataIndex] = -1;
+            } else {
+                newDataIndices[oldDataIndex] = oldDataIndex - rowCount;
+            }
+        }
+        return new DataChangeBatch(oldRowCount, oldRowCount - rowCount, newDataIndices, new int[0]);
+    }
+
+    private static int[] getRange(final int dataIndexStart, final int rowCount) {
+        final int[] dataIndices = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            dataIndices[i] = dataIndexStart + i;
+        }
+        return dataIndices;
+    }
+
+    /**
+     * Collects row insertions, updates and removals in the order they are applied to the data and creates the
+     * {@link DataChangeBatch} describing them. As long as rows are only appended or updated, no mapping of the
+     * data indices is created.
+     *
+     * @author ISchwarz
+     */
+    static final class Builder {
+
+        private static final int INSERTED = -1;
+
+        private final int oldRowCount;
+        private final BitSet updatedRows = new BitSet();
+        private int rowCount;
+        private int[] origins;
+
+
+        /**
+         * Creates a new Builder.
+         *
+         * @param oldRowCount The number of rows before the changes.
+         */
+        Builder(final int oldRowCount) {
+            this.oldRowCount = oldRowCount;
+            this.rowCount = oldRowCount;
+        }
+
+        /**
+         * Records that a row has been inserted.
+         *
+         * @param dataIndex The data index of the inserted row.
+         */
+        void onRowInserted(final int dataIndex) {
+            if (origins == null && dataIndex == rowCount) {
+                rowCount++;
+                return;
+            }
+
+            final int[] origins = getOrigins();
+            final int[] newOrigins = origins.length > rowCount ? origins : Arrays.copyOf(origins, rowCount * 2 + 1);
+            System.arraycopy(origins, dataIndex, newOrigins, dataIndex + 1, rowCount - dataIndex);
+            newOrigins[dataIndex] = INSERTED;
+            this.origins = newOrigins;
+            rowCount++;
+        }
+
+        /**
+         * Records that the content of a row has been updated.
+         *
+         * @param dataIndex The data index of the updated row.
+         */
+        void onRowUpdated(final int dataIndex) {
+            if (origins == null) {
+                if (dataIndex < oldRowCount) {
+                    updatedRows.set(dataIndex);
+                }
+                return;
+            }
+            origins[dataIndex] = INSERTED;
+        }
+
+        /**
+         * Records that a row has been removed.
+         *
+         * @param dataIndex The data index the removed row had.
+         */
+        void onRowRemoved(final int dataIndex) {
+            final int[] origins = getOrigins();
+            System.arraycopy(origins, dataIndex + 1, origins, dataIndex, rowCount - dataIndex - 1);
+            rowCount--;
+        }
+
+        /**
+         * Creates the {@link DataChangeBatch} describing all recorded changes.
+         *
+         * @return The created {@link DataChangeBatch}.
+         */
+        DataChangeBatch build() {
+            if (origins == null) {
+                final int[] changedDataIndices = new int[updatedRows.cardinality() + rowCount - oldRowCount];
+                int position = 0;
+                for (int dataIndex = updatedRows.nextSetBit(0); dataIndex >= 0;
+                     dataIndex = updatedRows.nextSetBit(dataIndex + 1)) {
+                    changedDataIndices[position++] = dataIndex;
+                }
+                for (int dataIndex = oldRowCount; dataIndex < rowCount; dataIndex++) {
+                    changedDataIndices[position++] = dataIndex;
+                }
+                return new DataChangeBatch(oldRowCount, rowCount, null, changedDataIndices);
+            }
+
+            final int[] newDataIndices = new int[oldRowCount];
+            Arrays.fill(newDataIndices, -1);
+            final int[] changedDataIndices = new int[rowCount];
+            int changedRowCount = 0;
+            for (int dataIndex = 0; dataIndex < rowCount; dataIndex++) {
+                if (origins[dataIndex] == INSERTED) {
+                    changedDataIndices[changedRowCount++] = dataIndex;
+                } else {
+                    newDataIndices[origins[dataIndex]] = dataIndex;
+                }
+            }
+            return new DataChangeBatch(oldRowCount, rowCount, newDataIndices,
+                    Arrays.copyOf(changedDataIndices, changedRowCount));
+        }
+
+        private int[] getOrigins() {
+            if (origins == null) {
+                // the rows are mapped to their old data indices as soon as rows are moved
+                origins = new int[rowCount + 1];
+                for (int dataIndex = 0; dataIndex < rowCount; dataIndex++) {
+                    origins[dataIndex] = dataIndex < oldRowCount && !updatedRows.get(dataIndex) ? dataIndex : INSERTED;
+                }
+            }
+            return origins;
+        }
+    }
+
+}
@@ -0,0 +1,258 @@
+package de.codecrafters.tableview;
+
+import android.content.Context;
+import android.support.v4.view.ViewCompat;
+import android.view.MotionEvent;
+import android.view.VelocityTracker;
+import android.view.View;
+import android.view.ViewConfiguration;
+import android.view.ViewParent;
+import android.widget.OverScroller;
+
+
+/**
+ * Detects horizontal drags and flings on a view and translates them into a horizontal scroll offset. Vertical
+ * gestures are not intercepted, so they still reach the children of the view (e.g. a list that scrolls vertically).
+ *
+ * @author ISchwarz
+ */
+final class HorizontalScrollHandler {
+
+    private static final int VELOCITY_UNITS = 1000;
+    private static final int INVALID_POINTER = -1;
+
+    private final View view;
+    private final ScrollTarget scrollTarget;
+    private final OverScroller scroller;
+    private final int touchSlop;
+    private final int minimumFlingVelocity;
+    private final int maximumFlingVelocity;
+    private final Runnable flingRunnable = new FlingRunnable();
+
+    private VelocityTracker velocityTracker;
+    private int activePointerId = INVALID_POINTER;
+    private float downX;
+    private float downY;
+    private float lastX;
+    private boolean isDragging;
+
+
+    /**
+     * Creates a new HorizontalScrollHandler.
+     *
+     * @param view         The view whose touch events shall be handled.
+     * @param scrollTarget The {@link ScrollTarget} that is scrolled by the gestures.
+     */
+    HorizontalScrollHandler(final View view, final ScrollTarget scrollTarget) {
+        this.view = view;
+        this.scrollTarget = scrollTarget;
+
+        final Context context = view.getContext();
+        final ViewConfiguration configuration = ViewConfiguration.get(context);
+        scroller = new OverScroller(context);
+        touchSlop = configuration.getScaledTouchSlop();
+        minimumFlingVelocity = configuration.getScaledMinimumFlingVelocity();
+        maximumFlingVelocity = configuration.getScaledMaximumFlingVelocity();
+    }
+
+    /**
+     * Checks if the given touch event starts a horizontal drag. To be called from
+     * {@link android.view.ViewGroup#onInterceptTouchEvent(MotionEvent)}.
+     *
+     * @param event The touch event to check.
+     * @return {@code TRUE} if the view shall intercept the touch events from now on, else {@code FALSE}.
+     */
+    boolean onInterceptTouchEvent(final MotionEvent event) {
+        trackVelocity(event);
+
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                activePointerId = event.getPointerId(0);
+                downX = lastX = event.getX();
+                downY = event.getY();
+                // a touch stops a running fling and continues it as drag
+                isDragging = !scroller.isFinished();
+                stopFling();
+                break;
+            case MotionEvent.ACTION_MOVE:
+                startDraggingIfNeeded(event);
+                break;
+            case MotionEvent.ACTION_POINTER_UP:
+                onSecondaryPointerUp(event);
+                break;
+            case MotionEvent.ACTION_UP:
+            case MotionEvent.ACTION_CANCEL:
+                endDrag();
+                break;
+        }
+        return isDragging;
+    }
+
+    /**
+     * Scrolls according to the given touch event. To be called from {@link View#onTouchEvent(MotionEvent)}.
+     *
+     * @param event The touch event to handle.
+     * @return {@code TRUE} if the event has been consumed, else {@code FALSE}.
+     */
+    boolean onTouchEvent(final MotionEvent event) {
+        trackVelocity(event);
+
+        switch (event.getActionMasked()) {
+            case MotionEvent.ACTION_DOWN:
+                activePointerId = event.getPointerId(0);
+                downX = lastX = event.getX();
+                downY = event.getY();
+                stopFling();
+                return true;
+            case MotionEvent.ACTION_MOVE:
+                startDraggingIfNeeded(event);
+                if (isDragging) {
+                    final int pointerIndex = event.findPointerIndex(activePointerId);
+                    if (pointerIndex >= 0) {
+                        final float x = event.getX(pointerIndex);
+                        final int deltaX = (int) (lastX - x);
+                        if (deltaX != 0) {
+                            lastX -= deltaX;
+                            scrollTarget.setHorizontalScrollOffset(scrollTarget.getHorizontalScrollOffset() + deltaX);
+                        }
+                    }
+                }
+                return true;
+            case MotionEvent.ACTION_POINTER_UP:
+                onSecondaryPointerUp(event);
+                return true;
+            case MotionEvent.ACTION_UP:
+                if (isDragging) {
+                    velocityTracker.computeCurrentVelocity(VELOCITY_UNITS, maximumFlingVelocity);
+                    final int velocityX = (int) velocityTracker.getXVelocity();
+                    if (Math.abs(velocityX) > minimumFlingVelocity) {
+                        fling(-velocityX);
+                    }
+                }
+                endDrag();
+                return true;
+            case MotionEvent.ACTION_CANCEL:
+                endDrag();
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Stops a running fling.
+     */
+    void stopFling() {
+        if (!scroller.isFinished()) {
+            scroller.abortAnimation();
+        }
+        view.removeCallbacks(flingRunnable);
+    }
+
+    private void fling(final int velocityX) {
+        final int scrollOffset = scrollTarget.getHorizontalScrollOffset();
+        final int maxScrollOffset = scrollTarget.getMaxHorizontalScrollOffset();
+        scroller.fling(scrollOffset, 0, velocityX, 0, 0, maxScrollOffset, 0, 0);
+        ViewCompat.postOnAnimation(view, flingRunnable);
+    }
+
+    private void startDraggingIfNeeded(final MotionEvent event) {
+        if (isDragging) {
+            return;
+        }
+
+        final int pointerIndex = event.findPointerIndex(activePointerId);
+        if (pointerIndex < 0) {
+            return;
+        }
+
+        final float x = event.getX(pointerIndex);
+        final float deltaX = Math.abs(x - downX);
+        final float deltaY = Math.abs(event.getY(pointerIndex) - downY);
+        if (deltaX > touchSlop && deltaX > deltaY) {
+            isDragging = true;
+            lastX = x;
+            final ViewParent parent = view.getParent();
+            if (parent != null) {
+                parent.requestDisallowInterceptTouchEvent(true);
+            }
+        }
+    }
+
+    private void onSecondaryPointerUp(final MotionEvent event) {
+        final int pointerIndex = event.getActionIndex();
+        if (event.getPointerId(pointerIndex) == activePointerId) {
+            // the active pointer is going up, so continue with another one
+            final int newPointerIndex = pointerIndex == 0 ? 1 : 0;
+            activePointerId = event.getPointerId(newPointerIndex);
+            downX = lastX = event.getX(newPointerIndex);
+            downY = event.getY(newPointerIndex);
+            if (velocityTracker != null) {
+                velocityTracker.clear();
+            }
+        }
+    }
+
+    private void trackVelocity(final MotionEvent event) {
+        if (velocityTracker == null) {
+            velocityTracker = VelocityTracker.obtain();
+        }
+        velocityTracker.addMovement(event);
+    }
+
+    private void endDrag() {
+        isDragging = false;
+        activePointerId = INVALID_POINTER;
+        if (velocityTracker != null) {
+            velocityTracker.recycle();
+            velocityTracker = null;
+        }
+    }
+
+    /**
+     * The target of the horizontal scroll gestures.
+     *
+     * @author ISchwarz
+     */
+    interface ScrollTarget {
+
+        /**
+         * Gives the current horizontal scroll offset.
+         *
+         * @return The current horizontal scroll offset in pixels.
+         */
+        int getHorizontalScrollOffset();
+
+        /**
+         * Gives the maximal horizontal scroll offset.
+         *
+         * @return The maximal horizontal scroll offset in pixels.
+         */
+        int getMaxHorizontalScrollOffset();
+
+        /**
+         * Sets the horizontal scroll offset. The given offset may exceed the valid range and has to be clamped.
+         *
+         * @param horizontalScrollOffset The horizontal scroll offset in pixels.
+         */
+        void setHorizontalScrollOffset(int horizontalScrollOffset);
+    }
+
+    /**
+     * Moves the {@link ScrollTarget} frame by frame until the fling has finished.
+     *
+     * @author ISchwarz
+     */
+    private class FlingRunnable implements Runnable {
+
+        @Override
+        public void run() {
+            if (scroller.computeScrollOffset()) {
+                scrollTarget.setHorizontalScrollOffset(scroller.getCurrX());
+                if (!scroller.isFinished()) {
+                    ViewCompat.postOnAnimation(view, this);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package de.codecrafters.tableview;
+
+
+/**
+ * A comparison function comparing the rows at two indices of the data of a {@link TableDataAdapter}.
+ *
+ * @author ISchwarz
+ */
+interface IndexComparator {
+
+    /**
+     * Compares the rows at the given data indices.
+     *
+     * @param dataIndex1 The data index of the first row.
+     * @param dataIndex2 The data index of the second row.
+     * @return A negative number, zero or a positive number if the first row is less than, equal to or greater
+     * than the second row.
+     */
+    int compare(int dataIndex1, int dataIndex2);
+
+}
@@ -0,0 +1,77 @@
+package de.codecrafters.tableview;
+
+import de.codecrafters.tableview.extractors.ColumnIntKeyExtractor;
+
+import java.util.Comparator;
+
+
+/**
+ * {@link ColumnSortKeys} of a column, whose keys are int values given by a {@link ColumnIntKeyExtractor}. The keys
+ * are stored in an int array and the rows are sorted by them using a radix sort.
+ *
+ * @param <T> The type of the row data.
+ * @author ISchwarz
+ */
+class IntColumnSortKeys<T> extends ColumnSortKeys<T> {
+
+    private final ColumnIntKeyExtractor<T> extractor;
+
+    /**
+     * Creates new {@link IntColumnSortKeys}.
+     *
+     * @param extractor The {@link ColumnIntKeyExtractor} giving the sort key of a row.
+     */
+    IntColumnSortKeys(final ColumnIntKeyExtractor<T> extractor) {
+        this.extractor = extractor;
+    }
+
+    @Override
+    Comparator<T> getComparator() {
+        return new Comparator<T>() {
+            @Override
+            public int compare(final T rowData1, final T rowData2) {
+                return compareKeys(extractor.getSortKey(rowData1), extractor.getSortKey(rowData2));
+            }
+        };
+    }
+
+    @Override
+    IndexComparator createIndexComparator(final Keys keys, final SortingOrder sortingOrder) {
+        final int[] keyArray = (int[]) keys.values;
+        if (sortingOrder == SortingOrder.ASCENDING) {
+            return new IndexComparator() {
+                @Override
+                public int compare(final int dataIndex1, final int dataIndex2) {
+                    return compareKeys(keyArray[dataIndex1], keyArray[dataIndex2]);
+                }
+            };
+        }
+        return new IndexComparator() {
+            @Override
+            public int compare(final int dataIndex1, final int dataIndex2) {
+                return compareKeys(keyArray[dataIndex2], keyArray[dataIndex1]);
+            }
+        };
+    }
+
+    @Override
+    boolean sort(final int[] rowOrder, final Keys keys, final SortingOrder sortingOrder) {
+        RadixSorter.sort(rowOrder, (int[]) keys.values, sortingOrder == SortingOrder.DESCENDING);
+        return true;
+    }
+
+    @Override
+    Object createKeyArray(final int rowCount) {
+        return new int[rowCount];
+    }
+
+    @Override
+    void extractKey(final T rowData, final Object keyArray, final int dataIndex) {
+        ((int[]) keyArray)[dataIndex] = extractor.getSortKey(rowData);
+    }
+
+    private static int compareKeys(final int key1, final int key2) {
+        return key1 < key2 ? -1 : (key1 == key2 ? 0 : 1);
+    }
+
+}
@@ -0,0 +1,44 @@
+package de.codecrafters.tableview;
+
+import android.view.View;
+import de.codecrafters.tableview.listeners.TableHeaderClickListener;
+
+import java.util.Set;
+
+
+/**
+ * A internal {@link View.OnLongClickListener} on the header views that will forward long clicks to the
+ * registered {@link TableHeaderClickListener}.
+ *
+ * @author ISchwarz
+ */
+class InternalHeaderLongClickListener implements View.OnLongClickListener {
+
+    private final Set<TableHeaderClickListener> listeners;
+    private final int columnIndex;
+
+    public InternalHeaderLongClickListener(final int columnIndex, final Set<TableHeaderClickListener> listeners) {
+        this.columnIndex = columnIndex;
+        this.listeners = listeners;
+    }
+
+    @Override
+    public boolean onLongClick(final View view) {
+        if (listeners.isEmpty()) {
+            return false;
+        }
+        informHeaderListeners();
+        return true;
+    }
+
+    private void informHeaderListeners() {
+        for (final TableHeaderClickListener listener : listeners) {
+            try {
+                listener.onHeaderClicked(columnIndex);
+            } catch (final Throwable t) {
+                t.printStackTrace();
+                // continue calling listeners
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package de.codecrafters.tableview;
+
+import de.codecrafters.tableview.extractors.ColumnDoubleKeyExtractor;
+import de.codecrafters.tableview.extractors.ColumnLongKeyExtractor;
+
+import java.util.Comparator;
+
+
+/**
+ * {@link ColumnSortKeys} of a column, whose keys are long values given by a {@link ColumnLongKeyExtractor}. The
+ * keys are stored in a long array and the rows are sorted by them using a radix sort. Double keys are stored as
+ * long values, that have the same order as the double values (see {@link #forDoubleKeys(ColumnDoubleKeyExtractor)}).
+ *
+ * @param <T> The type of the row data.
+ * @author ISchwarz
+ */
+class LongColumnSortKeys<T> extends ColumnSortKeys<T> {
+
+    private final ColumnLongKeyExtractor<T> extractor;
+
+    /**
+     * Creates new {@link LongColumnSortKeys}.
+     *
+     * @param extractor The {@link ColumnLongKeyExtractor} giving the sort key of a row.
+     */
+    LongColumnSortKeys(final ColumnLongKeyExtractor<T> extractor) {
+        this.extractor = extractor;
+    }
+
+    /**
+     * Creates new {@link LongColumnSortKeys} for double keys. The bits of each double key are converted into a long
+     * value, so the long values have the same order as the double values given by {@link Double#compare(double, double)}.
+     *
+     * @param extractor The {@link ColumnDoubleKeyExtractor} giving the sort key of a row.
+     * @param <T>       The type of the row data.
+     * @return The {@link LongColumnSortKeys} for the double keys of the given extractor.
+     */
+    static <T> LongColumnSortKeys<T> forDoubleKeys(final ColumnDoubleKeyExtractor<T> extractor) {
+        return new LongColumnSortKeys<>(new ColumnLongKeyExtractor<T>() {
+            @Override
+            public long getSortKey(final T rowData) {
+                return toSortKey(extractor.getSortKey(rowData));
+            }
+        });
+    }
+
+    /**
+     * Converts the given double value into a long value, so the long values have the same order as the double values
+     * given by {@link Double#compare(double, double)}.
+     *
+     * @param value The double value to convert.
+     * @return The long sort key of the given value.
+     */
+    static long toSortKey(final double value) {
+        final long bits = Double.doubleToLongBits(value);
+        // negative values are ordered reversed by their bits, so all bits except the sign are inverted
+        return bits < 0 ? bits ^ Long.MAX_VALUE : bits;
+    }
+
+    @Override
+    Comparator<T> getComparator() {
+        return new Comparator<T>() {
+            @Override
+            public int compare(final T rowData1, final T rowData2) {
+                return compareKeys(extractor.getSortKey(rowData1), extractor.getSortKey(rowData2));
+            }
+        };
+    }
+
+    @Override
+    IndexComparator createIndexComparator(final Keys keys, final SortingOrder sortingOrder) {
+        final long[] keyArray = (long[]) keys.values;
+        if (sortingOrder == SortingOrder.ASCENDING) {
+            return new IndexComparator() {
+                @Override
+                public int compare(final int dataIndex1, final int dataIndex2) {
+                    return compareKeys(keyArray[dataIndex1], keyArray[dataIndex2]);
+                }
+            };
+        }
+        return new IndexComparator() {
+            @Override
+            public int compare(final int dataIndex1, final int dataIndex2) {
+                return compareKeys(keyArray[dataIndex2], keyArray[dataIndex1]);
+            }
+        };
+    }
+
+    @Override
+    boolean sort(final int[] rowOrder, final Keys keys, final SortingOrder sortingOrder) {
+        RadixSorter.sort(rowOrder, (long[]) keys.values, sortingOrder == SortingOrder.DESCENDING);
+        return true;
+    }
+
+    @Override
+    Object createKeyArray(final int rowCount) {
+        return new long[rowCount];
+    }
+
+    @Override
+    void extractKey(final T rowData, final Object keyArray, final int dataIndex) {
+        ((long[]) keyArray)[dataIndex] = extractor.getSortKey(rowData);
+    }
+
+    private static int compareKeys(final long key1, final long key2) {
+        return key1 < key2 ? -1 : (key1 == key2 ? 0 : 1);
+    }
+
+}
@@ -0,0 +1,287 @@
+package de.codecrafters.tableview;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * A case insensitive substring index over one text per data row. For every sequence of {@value #GRAM_LENGTH}
+ * characters it stores the rows whose text contains this sequence. To find the rows containing a query, only the
+ * rows that contain all sequences of the query are checked.
+ * <p>
+ * The rows are stored by an internal id, that does not change when rows are inserted or removed before them. So
+ * inserting or removing rows only indexes the inserted rows and shifts the mapping of the data indices to the ids.
+ * The ids of removed rows are left in the index until there are more of them than rows.
+ *
+ * @author ISchwarz
+ */
+final class NGramIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int MIN_COMPACTION_ROW_COUNT = 1024;
+
+    private final Map<Long, IntList> rowIdsByGram = new HashMap<>();
+    private final List<String> textsById = new ArrayList<>();
+    private int[] idsByDataIndex = new int[0];
+    private int[] dataIndicesById;
+    private int removedRowCount;
+
+
+    /**
+     * Gives the number of indexed rows.
+     *
+     * @return The number of rows.
+     */
+    int getRowCount() {
+        return idsByDataIndex.length;
+    }
+
+    /**
+     * Indexes rows that have been inserted into the data.
+     *
+     * @param dataIndexStart The data index of the first inserted row.
+     * @param texts          The texts of the inserted rows.
+     */
+    void insertRows(final int dataIndexStart, final String[] texts) {
+        final int[] newIds = new int[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            newIds[i] = addText(normalize(texts[i]));
+        }
+
+        final int[] newIdsByDataIndex = new int[idsByDataIndex.length + texts.length];
+        System.arraycopy(idsByDataIndex, 0, newIdsByDataIndex, 0, dataIndexStart);
+        System.arraycopy(newIds, 0, newIdsByDataIndex, dataIndexStart, newIds.length);
+        System.arraycopy(idsByDataIndex, dataIndexStart, newIdsByDataIndex, dataIndexStart + newIds.length,
+                idsByDataIndex.length - dataIndexStart);
+        idsByDataIndex = newIdsByDataIndex;
+        dataIndicesById = null;
+    }
+
+    /**
+     * Removes rows that have been removed from the data.
+     *
+     * @param dataIndexStart The data index the first removed row had.
+     * @param rowCount       The number of removed rows.
+     */
+    void removeRows(final int dataIndexStart, final int rowCount) {
+        for (int dataIndex = dataIndexStart; dataIndex < dataIndexStart + rowCount; dataIndex++) {
+            textsById.set(idsByDataIndex[dataIndex], null);
+        }
+        removedRowCount += rowCount;
+
+        final int[] newIdsByDataIndex = new int[idsByDataIndex.length - rowCount];
+        System.arraycopy(idsByDataIndex, 0, newIdsByDataIndex, 0, dataIndexStart);
+        System.arraycopy(idsByDataIndex, dataIndexStart + rowCount, newIdsByDataIndex, dataIndexStart,
+                newIdsByDataIndex.length - dataIndexStart);
+        idsByDataIndex = newIdsByDataIndex;
+        dataIndicesById = null;
+
+        if (removedRowCount > MIN_COMPACTION_ROW_COUNT && removedRowCount > idsByDataIndex.length) {
+            compact();
+        }
+    }
+
+    /**
+     * Indexes rows again, whose texts have changed.
+     *
+     * @param dataIndexStart The data index of the first changed row.
+     * @param texts          The new texts of the changed rows.
+     */
+    void changeRows(final int dataIndexStart, final String[] texts) {
+        removeRows(dataIndexStart, texts.length);
+        insertRows(dataIndexStart, texts);
+    }
+
+    /**
+     * Applies a batch of changes to the index. The removed and updated rows are removed from the index and the
+     * inserted and updated rows are indexed with their new texts.
+     *
+     * @param batch        The {@link DataChangeBatch} describing the changes.
+     * @param changedTexts The texts of the rows given by {@link DataChangeBatch#getChangedDataIndices()}.
+     */
+    void applyBatch(final DataChangeBatch batch, final String[] changedTexts) {
+        for (int oldDataIndex = 0; oldDataIndex < idsByDataIndex.length; oldDataIndex++) {
+            if (batch.getNewDataIndex(oldDataIndex) < 0) {
+                textsById.set(idsByDataIndex[oldDataIndex], null);
+                removedRowCount++;
+            }
+        }
+
+        final int[] newIdsByDataIndex = new int[batch.getNewRowCount()];
+        batch.copyKeptValues(idsByDataIndex, newIdsByDataIndex);
+        final int[] changedDataIndices = batch.getChangedDataIndices();
+        for (int i = 0; i < changedDataIndices.length; i++) {
+            newIdsByDataIndex[changedDataIndices[i]] = addText(normalize(changedTexts[i]));
+        }
+        idsByDataIndex = newIdsByDataIndex;
+        dataIndicesById = null;
+
+        if (removedRowCount > MIN_COMPACTION_ROW_COUNT && removedRowCount > idsByDataIndex.length) {
+            compact();
+        }
+    }
+
+    /**
+     * Finds the rows whose text contains the given query, ignoring the case.
+     *
+     * @param query The text to search for.
+     * @return The data indices of the matching rows in ascending order.
+     */
+    int[] find(final String query) {
+        final String normalizedQuery = normalize(query);
+        final IntList matches = new IntList();
+
+        if (normalizedQuery.length() < GRAM_LENGTH) {
+            // the query is too short to use the index, so all rows are checked in the order of the data
+            for (int dataIndex = 0; dataIndex < idsByDataIndex.length; dataIndex++) {
+                if (textsById.get(idsByDataIndex[dataIndex]).contains(normalizedQuery)) {
+                    matches.add(dataIndex);
+                }
+            }
+            return matches.toArray();
+        }
+
+        final int[] dataIndicesById = getDataIndicesById();
+        final IntList candidateIds = findCandidateIds(normalizedQuery);
+        for (int i = 0; i < candidateIds.size; i++) {
+            final String text = textsById.get(candidateIds.values[i]);
+            if (text != null && text.contains(normalizedQuery)) {
+                matches.add(dataIndicesById[candidateIds.values[i]]);
+            }
+        }
+
+        final int[] matchingDataIndices = matches.toArray();
+        Arrays.sort(matchingDataIndices);
+        return matchingDataIndices;
+    }
+
+    /**
+     * Gives the form of the given text, in which it is indexed and searched.
+     *
+     * @param text The text to normalize.
+     * @return The normalized text.
+     */
+    static String normalize(final String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private int addText(final String normalizedText) {
+        final int id = textsById.size();
+        textsById.add(normalizedText);
+        for (int i = 0; i + GRAM_LENGTH <= normalizedText.length(); i++) {
+            final Long gram = getGram(normalizedText, i);
+            IntList rowIds = rowIdsByGram.get(gram);
+            if (rowIds == null) {
+                rowIds = new IntList();
+                rowIdsByGram.put(gram, rowIds);
+            }
+            // the ids are added in ascending order, so a gram contained twice is detected at the end of the list
+            if (rowIds.size == 0 || rowIds.values[rowIds.size - 1] != id) {
+                rowIds.add(id);
+            }
+        }
+        return id;
+    }
+
+    private IntList findCandidateIds(final String normalizedQuery) {
+        final List<IntList> rowIdLists = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalizedQuery.length(); i++) {
+            final IntList rowIds = rowIdsByGram.get(getGram(normalizedQuery, i));
+            if (rowIds == null) {
+                return new IntList();
+            }
+            rowIdLists.add(rowIds);
+        }
+
+        // intersecting the shortest lists first keeps the intermediate results small
+        IntList candidateIds = rowIdLists.get(0);
+        for (final IntList rowIds : rowIdLists) {
+            if (rowIds.size < candidateIds.size) {
+                candidateIds = rowIds;
+            }
+        }
+        for (final IntList rowIds : rowIdLists) {
+            if (rowIds != candidateIds) {
+                candidateIds = intersect(candidateIds, rowIds);
+            }
+        }
+        return candidateIds;
+    }
+
+    private int[] getDataIndicesById() {
+        if (dataIndicesById == null) {
+            dataIndicesById = new int[textsById.size()];
+            Arrays.fill(dataIndicesById, -1);
+            for (int dataIndex = 0; dataIndex < idsByDataIndex.length; dataIndex++) {
+                dataIndicesById[idsByDataIndex[dataIndex]] = dataIndex;
+            }
+        }
+        return dataIndicesById;
+    }
+
+    private void compact() {
+        final String[] texts = new String[idsByDataIndex.length];
+        for (int dataIndex = 0; dataIndex < texts.length; dataIndex++) {
+            texts[dataIndex] = textsById.get(idsByDataIndex[dataIndex]);
+        }
+
+        rowIdsByGram.clear();
+        textsById.clear();
+        removedRowCount = 0;
+        for (int dataIndex = 0; dataIndex < texts.length; dataIndex++) {
+            idsByDataIndex[dataIndex] = addText(texts[dataIndex]);
+        }
+        dataIndicesById = null;
+    }
+
+    private static Long getGram(final String text, final int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    private static IntList intersect(final IntList rowIds1, final IntList rowIds2) {
+        final IntList intersection = new IntList();
+        int i1 = 0;
+        int i2 = 0;
+        while (i1 < rowIds1.size && i2 < rowIds2.size) {
+            final int id1 = rowIds1.values[i1];
+            final int id2 = rowIds2.values[i2];
+            if (id1 == id2) {
+                intersection.add(id1);
+                i1++;
+                i2++;
+            } else if (id1 < id2) {
+                i1++;
+            } else {
+                i2++;
+            }
+        }
+        return intersection;
+    }
+
+    /**
+     * A growing list of int values, that does not box its values.
+     *
+     * @author ISchwarz
+     */
+    private static final class IntList {
+
+        private int[] values = new int[4];
+        private int size;
+
+        private void add(final int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package de.codecrafters.tableview;
+
+import de.codecrafters.tableview.extractors.ColumnSortKeyExtractor;
+
+import java.util.Comparator;
+
+
+/**
+ * {@link ColumnSortKeys} of a column, whose keys are objects given by a {@link ColumnSortKeyExtractor} and compared
+ * with a {@link Comparator}.
+ *
+ * @param <T> The type of the row data.
+ * @param <K> The type of the sort keys.
+ * @author ISchwarz
+ */
+class ObjectColumnSortKeys<T, K> extends ColumnSortKeys<T> {
+
+    private final ColumnSortKeyExtractor<T, K> extractor;
+    private final Comparator<? super K> keyComparator;
+
+    /**
+     * Creates new {@link ObjectColumnSortKeys}.
+     *
+     * @param extractor     The {@link ColumnSortKeyExtractor} giving the sort key of a row.
+     * @param keyComparator The {@link Comparator} that shall be used to compare the sort keys.
+     */
+    ObjectColumnSortKeys(final ColumnSortKeyExtractor<T, K> extractor, final Comparator<? super K> keyComparator) {
+        this.extractor = extractor;
+        this.keyComparator = keyComparator;
+    }
+
+    @Override
+    Comparator<T> getComparator() {
+        return new Comparator<T>() {
+            @Override
+            public int compare(final T rowData1, final T rowData2) {
+                return keyComparator.compare(extractor.getSortKey(rowData1), extractor.getSortKey(rowData2));
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    IndexComparator createIndexComparator(final Keys keys, final SortingOrder sortingOrder) {
+        final K[] keyArray = (K[]) keys.values;
+        if (sortingOrder == SortingOrder.ASCENDING) {
+            return new IndexComparator() {
+                @Override
+                public int compare(final int dataIndex1, final int dataIndex2) {
+                    return keyComparator.compare(keyArray[dataIndex1], keyArray[dataIndex2]);
+                }
+            };
+        }
+        return new IndexComparator() {
+            @Override
+            public int compare(final int dataIndex1, final int dataIndex2) {
+                return keyComparator.compare(keyArray[dataIndex2], keyArray[dataIndex1]);
+            }
+        };
+    }
+
+    @Override
+    Object createKeyArray(final int rowCount) {
+        return new Object[rowCount];
+    }
+
+    @Override
+    void extractKey(final T rowData, final Object keyArray, final int dataIndex) {
+        ((Object[]) keyArray)[dataIndex] = extractor.getSortKey(rowData);
+    }
+
+}
@@ -0,0 +1,231 @@
+package de.codecrafters.tableview;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.util.SparseArray;
+
+import java.util.AbstractList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+
+/**
+ * A read only list of the rows of a {@link PagedTableDataSource}. The rows are loaded in pages of a fixed size on a
+ * background thread, as soon as a row of a page is accessed. Until a page is loaded, its rows are given as
+ * {@code NULL} placeholders. Only the given number of pages is kept in memory. If more pages are loaded, the pages
+ * farthest away from the most recently accessed row are dropped and loaded again when accessed again. Pages that
+ * have been scrolled past before their loading started are not loaded at all. (Hint: this list must only be
+ * accessed on the main thread)
+ *
+ * @author ISchwarz
+ */
+final class PagedRowList<T> extends AbstractList<T> {
+
+    private static final String LOG_TAG = PagedRowList.class.getName();
+
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final SparseArray<List<T>> loadedPages = new SparseArray<>();
+    private final Set<Integer> loadingPages = new HashSet<>();
+    private final PagedTableDataSource<T> dataSource;
+    private final Executor executor;
+    private final int pageSize;
+    private final int maxLoadedPageCount;
+    private PageLoadListener pageLoadListener;
+    private int rowCount;
+    private int generation;
+    private volatile int lastAccessedPageIndex;
+
+
+    /**
+     * Creates a new PagedRowList.
+     *
+     * @param dataSource         The {@link PagedTableDataSource} the rows are loaded from.
+     * @param pageSize           The number of rows of one page.
+     * @param maxLoadedPageCount The maximum number of pages that are kept in memory.
+     * @param executor           The {@link Executor} the pages are loaded on.
+     */
+    PagedRowList(final PagedTableDataSource<T> dataSource, final int pageSize, final int maxLoadedPageCount,
+                 final Executor executor) {
+        this.dataSource = dataSource;
+        this.pageSize = pageSize;
+        this.maxLoadedPageCount = maxLoadedPageCount;
+        this.executor = executor;
+    }
+
+    /**
+     * Sets the listener that is informed when the row count or a page has been loaded.
+     *
+     * @param pageLoadListener The {@link PageLoadListener} that shall be informed.
+     */
+    void setPageLoadListener(final PageLoadListener pageLoadListener) {
+        this.pageLoadListener = pageLoadListener;
+    }
+
+    /**
+     * Drops all loaded pages and loads the row count of the data source again. Results of loadings that are still
+     * running are ignored.
+     */
+    void reload() {
+        generation++;
+        loadedPages.clear();
+        loadingPages.clear();
+
+        final int loadGeneration = generation;
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                int loadedRowCount = 0;
+                try {
+                    loadedRowCount = dataSource.getRowCount();
+                } catch (final RuntimeException e) {
+                    Log.w(LOG_TAG, "Loading the row count failed. Caught Exception: " + e.getMessage());
+                }
+                final int count = loadedRowCount;
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        onRowCountLoaded(loadGeneration, count);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Checks if the row with the given index is loaded.
+     *
+     * @param index The index of the row.
+     * @return True if the row is loaded, false if it is a placeholder.
+     */
+    boolean isLoaded(final int index) {
+        final List<T> page = loadedPages.get(index / pageSize);
+        return page != null && index % pageSize < page.size();
+    }
+
+    @Override
+    public T get(final int index) {
+        if (index < 0 || index >= rowCount) {
+            throw new IndexOutOfBoundsException("Invalid index " + index + ", size is " + rowCount);
+        }
+
+        final int pageIndex = index / pageSize;
+        final int pageOffset = index % pageSize;
+        lastAccessedPageIndex = pageIndex;
+        requestPage(pageIndex);
+
+        // the neighbouring page is requested in advance, if the row is close to its border
+        final int lookahead = pageSize / 4;
+        if (pageOffset < lookahead) {
+            requestPage(pageIndex - 1);
+        } else if (pageOffset >= pageSize - lookahead) {
+            requestPage(pageIndex + 1);
+        }
+
+        final List<T> page = loadedPages.get(pageIndex);
+        return page != null && pageOffset < page.size() ? page.get(pageOffset) : null;
+    }
+
+    @Override
+    public int size() {
+        return rowCount;
+    }
+
+    private void requestPage(final int pageIndex) {
+        final int firstRowIndex = pageIndex * pageSize;
+        if (pageIndex < 0 || firstRowIndex >= rowCount
+                || loadedPages.get(pageIndex) != null || loadingPages.contains(pageIndex)) {
+            return;
+        }
+
+        loadingPages.add(pageIndex);
+        final int loadGeneration = generation;
+        final int loadRowCount = Math.min(pageSize, rowCount - firstRowIndex);
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                List<T> rows = null;
+                try {
+                    // pages that have been scrolled past while waiting for the executor are not loaded anymore
+                    if (Math.abs(pageIndex - lastAccessedPageIndex) < maxLoadedPageCount) {
+                        rows = dataSource.loadRows(firstRowIndex, loadRowCount);
+                    }
+                } catch (final RuntimeException e) {
+                    // the page stays a placeholder and is requested again on the next access
+                    Log.w(LOG_TAG, "Loading rows " + firstRowIndex + " to " + (firstRowIndex + loadRowCount - 1) +
+                            " failed. Caught Exception: " + e.getMessage());
+                }
+                final List<T> loadedRows = rows;
+                mainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        onPageLoaded(loadGeneration, pageIndex, loadedRows);
+                    }
+                });
+            }
+        });
+    }
+
+    private void onRowCountLoaded(final int loadGeneration, final int loadedRowCount) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        rowCount = loadedRowCount;
+        if (pageLoadListener != null) {
+            pageLoadListener.onRowCountLoaded();
+        }
+    }
+
+    private void onPageLoaded(final int loadGeneration, final int pageIndex, final List<T> rows) {
+        if (loadGeneration != generation) {
+            return;
+        }
+        loadingPages.remove(pageIndex);
+        if (rows == null) {
+            return;
+        }
+
+        loadedPages.put(pageIndex, rows);
+        dropDistantPages();
+        if (pageLoadListener != null) {
+            pageLoadListener.onPageLoaded(pageIndex * pageSize, rows.size());
+        }
+    }
+
+    private void dropDistantPages() {
+        while (loadedPages.size() > maxLoadedPageCount) {
+            int mostDistantPageIndex = loadedPages.keyAt(0);
+            for (int i = 1; i < loadedPages.size(); i++) {
+                final int pageIndex = loadedPages.keyAt(i);
+                if (Math.abs(pageIndex - lastAccessedPageIndex) > Math.abs(mostDistantPageIndex - lastAccessedPageIndex)) {
+                    mostDistantPageIndex = pageIndex;
+                }
+            }
+            loadedPages.remove(mostDistantPageIndex);
+        }
+    }
+
+    /**
+     * Listener that is informed about finished loadings of a {@link PagedRowList}.
+     *
+     * @author ISchwarz
+     */
+    interface PageLoadListener {
+
+        /**
+         * Will be called on the main thread, when the row count has been loaded.
+         */
+        void onRowCountLoaded();
+
+        /**
+         * Will be called on the main thread, when a page of rows has been loaded.
+         *
+         * @param firstRowIndex The index of the first loaded row.
+         * @param rowCount      The number of loaded rows.
+         */
+        void onPageLoaded(int firstRowIndex, int rowCount);
+    }
+
+}
@@ -0,0 +1,110 @@
+package de.codecrafters.tableview;
+
+import android.content.Context;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * The abstract implementation of an adapter that brings the data of a {@link PagedTableDataSource} to a
+ * {@link TableView}. The rows are loaded in pages of a fixed size on a background thread, as soon as they are
+ * scrolled into the viewport. Only a window of pages around the viewport is kept in memory, so even tables with
+ * millions of rows only hold a few pages at once. Pages that are scrolled out of this window are dropped and loaded
+ * again when they are scrolled back.
+ * <p>
+ * Until the page of a row is loaded, the row data is {@code NULL}. Such placeholder rows are rendered like any
+ * other row, so the implementations of {@link #getCellView(int, int, android.view.ViewGroup)} have to handle a
+ * {@code NULL} row data (e.g. by showing an empty cell). As soon as the page is loaded, the rows are rendered again.
+ * (Hint: the rows of this adapter can not be sorted, filtered or searched by the table, as this needs all rows in
+ * memory. Sort the rows in the {@link PagedTableDataSource} instead.)
+ *
+ * @author ISchwarz
+ */
+public abstract class PagedTableDataAdapter<T> extends TableDataAdapter<T> {
+
+    private static ExecutorService pageLoadingExecutor;
+
+
+    /**
+     * Creates a new PagedTableDataAdapter. The row count is loaded immediately.
+     *
+     * @param context            The context that shall be used.
+     * @param dataSource         The {@link PagedTableDataSource} the rows shall be loaded from.
+     * @param pageSize           The number of rows that are loaded at once.
+     * @param maxLoadedPageCount The maximum number of pages that are kept in memory. The pages have to cover at
+     *                           least the rows of the viewport.
+     */
+    public PagedTableDataAdapter(final Context context, final PagedTableDataSource<T> dataSource,
+                                 final int pageSize, final int maxLoadedPageCount) {
+        super(context, createRowList(dataSource, pageSize, maxLoadedPageCount));
+        getRowList().setPageLoadListener(new InternalPageLoadListener());
+        getRowList().reload();
+    }
+
+    /**
+     * Checks if the data of the row with the given index has been loaded.
+     *
+     * @param rowIndex The index of the row.
+     * @return True if the row data is loaded, false if the row is a placeholder.
+     */
+    public boolean isRowLoaded(final int rowIndex) {
+        return getRowList().isLoaded(rowIndex);
+    }
+
+    @Override
+    boolean isFullyLoaded() {
+        // walking all rows would load every page and only find placeholders for the pages still loading
+        return false;
+    }
+
+    /**
+     * Drops all loaded rows and loads the row count of the {@link PagedTableDataSource} again. Use this method
+     * instead of {@link #notifyDataSetChanged()}, if the data of the data source has changed.
+     */
+    public void refresh() {
+        getRowList().reload();
+        notifyDataSetChanged();
+    }
+
+    private PagedRowList<T> getRowList() {
+        return (PagedRowList<T>) getData();
+    }
+
+    private static <T> PagedRowList<T> createRowList(final PagedTableDataSource<T> dataSource, final int pageSize,
+                                                     final int maxLoadedPageCount) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("The page size must be positive: " + pageSize);
+        }
+        if (maxLoadedPageCount < 2) {
+            throw new IllegalArgumentException("At least two pages must be kept in memory: " + maxLoadedPageCount);
+        }
+        return new PagedRowList<>(dataSource, pageSize, maxLoadedPageCount, getPageLoadingExecutor());
+    }
+
+    private static synchronized ExecutorService getPageLoadingExecutor() {
+        if (pageLoadingExecutor == null) {
+            pageLoadingExecutor = Executors.newSingleThreadExecutor(new BackgroundThreadFactory("TableDataAdapter-Paging"));
+        }
+        return pageLoadingExecutor;
+    }
+
+    /**
+     * Renders the table again, when the row count or a page of rows has been loaded.
+     *
+     * @author ISchwarz
+     */
+    private class InternalPageLoadListener implements PagedRowList.PageLoadListener {
+
+        @Override
+        public void onRowCountLoaded() {
+            notifyDataSetChanged();
+        }
+
+        @Override
+        public void onPageLoaded(final int firstRowIndex, final int rowCount) {
+            notifyRowViewsChanged();
+        }
+    }
+
+}
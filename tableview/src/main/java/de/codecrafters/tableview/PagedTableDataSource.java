@@ -0,0 +1,32 @@
+package de.codecrafters.tableview;
+
+import java.util.List;
+
+
+/**
+ * A source of table data that is too large to be held in memory at once. The data is loaded in pages of rows by the
+ * {@link PagedTableDataAdapter}. Both methods are called on a background thread, so they may block (e.g. to query a
+ * database or a server).
+ *
+ * @author ISchwarz
+ */
+public interface PagedTableDataSource<T> {
+
+    /**
+     * Gives the total number of rows of this data source.
+     *
+     * @return The number of rows.
+     */
+    int getRowCount();
+
+    /**
+     * Loads the rows in the given range.
+     *
+     * @param firstRowIndex The index of the first row that shall be loaded.
+     * @param rowCount      The number of rows that shall be loaded.
+     * @return The loaded rows. If less than the requested rows are returned, the missing rows are treated as
+     * placeholders.
+     */
+    List<T> loadRows(int firstRowIndex, int rowCount);
+
+}
@@ -0,0 +1,147 @@
+package de.codecrafters.tableview;
+
+import java.util.Arrays;
+
+
+/**
+ * Stable LSD radix sort of row orders by primitive keys. The keys are given by data index, so the data indices
+ * of the row order are moved without comparing any rows. Rows with equal keys keep their relative position, also
+ * when sorting descending.
+ *
+ * @author ISchwarz
+ */
+final class RadixSorter {
+
+    private static final int RADIX_BITS = 8;
+    private static final int RADIX = 1 << RADIX_BITS;
+    private static final int RADIX_MASK = RADIX - 1;
+
+    private RadixSorter() {
+        //no instance
+    }
+
+    /**
+     * Sorts the given row order by the given int keys.
+     *
+     * @param rowOrder   The row order that shall be sorted.
+     * @param keys       The keys of the rows, stored by data index.
+     * @param descending Whether the rows shall be sorted descending or ascending.
+     */
+    static void sort(final int[] rowOrder, final int[] keys, final boolean descending) {
+        final int rowCount = rowOrder.length;
+
+        // the keys are moved together with the data indices, so every pass reads them sequentially. Flipping the
+        // sign bit orders the keys unsigned, inverting all bits reverses the order.
+        final int flipMask = descending ? Integer.MAX_VALUE : Integer.MIN_VALUE;
+        int[] sourceKeys = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            sourceKeys[i] = keys[rowOrder[i]] ^ flipMask;
+        }
+
+        int[] source = rowOrder;
+        int[] destination = new int[rowCount];
+        int[] destinationKeys = new int[rowCount];
+        final int[] counts = new int[RADIX + 1];
+        for (int shift = 0; shift < Integer.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < rowCount; i++) {
+                counts[((sourceKeys[i] >>> shift) & RADIX_MASK) + 1]++;
+            }
+            if (isSingleBucket(counts, rowCount)) {
+                continue;
+            }
+            toStartPositions(counts);
+            for (int i = 0; i < rowCount; i++) {
+                final int position = counts[(sourceKeys[i] >>> shift) & RADIX_MASK]++;
+                destination[position] = source[i];
+                destinationKeys[position] = sourceKeys[i];
+            }
+
+            final int[] sorted = destination;
+            destination = source;
+            source = sorted;
+            final int[] sortedKeys = destinationKeys;
+            destinationKeys = sourceKeys;
+            sourceKeys = sortedKeys;
+        }
+
+        if (source != rowOrder) {
+            System.arraycopy(source, 0, rowOrder, 0, rowCount);
+        }
+    }
+
+    /**
+     * Sorts the given row order by the given long keys.
+     *
+     * @param rowOrder   The row order that shall be sorted.
+     * @param keys       The keys of the rows, stored by data index.
+     * @param descending Whether the rows shall be sorted descending or ascending.
+     */
+    static void sort(final int[] rowOrder, final long[] keys, final boolean descending) {
+        final int rowCount = rowOrder.length;
+
+        // the keys are moved together with the data indices, so every pass reads them sequentially. Flipping the
+        // sign bit orders the keys unsigned, inverting all bits reverses the order.
+        final long flipMask = descending ? Long.MAX_VALUE : Long.MIN_VALUE;
+        long[] sourceKeys = new long[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            sourceKeys[i] = keys[rowOrder[i]] ^ flipMask;
+        }
+
+        int[] source = rowOrder;
+        int[] destination = new int[rowCount];
+        long[] destinationKeys = new long[rowCount];
+        final int[] counts = new int[RADIX + 1];
+        for (int shift = 0; shift < Long.SIZE; shift += RADIX_BITS) {
+            Arrays.fill(counts, 0);
+            for (int i = 0; i < rowCount; i++) {
+                counts[(int) ((sourceKeys[i] >>> shift) & RADIX_MASK) + 1]++;
+            }
+            if (isSingleBucket(counts, rowCount)) {
+                continue;
+            }
+            toStartPositions(counts);
+            for (int i = 0; i < rowCount; i++) {
+                final int position = counts[(int) ((sourceKeys[i] >>> shift) & RADIX_MASK)]++;
+                destination[position] = source[i];
+                destinationKeys[position] = sourceKeys[i];
+            }
+
+            final int[] sorted = destination;
+            destination = source;
+            source = sorted;
+            final long[] sortedKeys = destinationKeys;
+            destinationKeys = sourceKeys;
+            sourceKeys = sortedKeys;
+        }
+
+        if (source != rowOrder) {
+            System.arraycopy(source, 0, rowOrder, 0, rowCount);
+        }
+    }
+
+    /**
+     * Checks whether all rows fall into the same bucket, so the pass can be skipped.
+     */
+    private static boolean isSingleBucket(final int[] counts, final int rowCount) {
+        for (int i = 1; i < counts.length; i++) {
+            if (counts[i] == rowCount) {
+                return true;
+            }
+            if (counts[i] != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Turns the bucket sizes (shifted by one) into the start position of each bucket.
+     */
+    private static void toStartPositions(final int[] counts) {
+        for (int i = 1; i < counts.length; i++) {
+            counts[i] += counts[i - 1];
+        }
+    }
+
+}
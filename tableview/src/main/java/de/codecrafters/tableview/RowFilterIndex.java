@@ -0,0 +1,360 @@
+package de.codecrafters.tableview;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.SystemClock;
+import de.codecrafters.tableview.filters.TableDataRowFilter;
+
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * The index of the rows accepted by a {@link TableDataRowFilter}. It stores for every data index whether the row is
+ * accepted, so the displayed rows can be derived from any row order without testing the rows again.
+ * <p>
+ * A new filter is applied in chunks of at most {@value #CHUNK_TIME_BUDGET_MILLIS} ms on the main thread, so large
+ * tables stay responsive. Until all rows are tested, the result of the previous filter stays in place. If the new
+ * filter narrows the previous one, only the rows accepted by the previous filter are tested. When the data has
+ * changed completely, all rows are tested again in chunks as well. Rows that are inserted or changed are tested at
+ * once, by the applied filter as well as by the filter that is still being applied.
+ *
+ * @author ISchwarz
+ */
+final class RowFilterIndex<T> {
+
+    private static final long CHUNK_TIME_BUDGET_MILLIS = 6;
+    private static final int TIME_CHECK_INTERVAL = 64;
+
+    private final Handler handler;
+    private final long chunkTimeBudgetMillis;
+    private final Runnable filterChunk = new Runnable() {
+        @Override
+        public void run() {
+            runFilterChunk();
+        }
+    };
+    private final Runnable filterAppliedCallback;
+
+    private TableDataRowFilter<? super T> filter;
+    private boolean[] accepted;
+
+    private List<T> pendingData;
+    private TableDataRowFilter<? super T> pendingFilter;
+    private boolean[] pendingAccepted;
+    private int[] pendingDataIndices;
+    private int pendingPosition;
+
+
+    /**
+     * Creates a new RowFilterIndex.
+     *
+     * @param filterAppliedCallback The callback that is run on the main thread, as soon as a filter has been applied
+     *                              and the displayed rows have to be updated.
+     */
+    RowFilterIndex(final Runnable filterAppliedCallback) {
+        this(filterAppliedCallback, new Handler(Looper.getMainLooper()), CHUNK_TIME_BUDGET_MILLIS);
+    }
+
+    /**
+     * Creates a new RowFilterIndex.
+     *
+     * @param filterAppliedCallback The callback that is run on the main thread, as soon as a filter has been applied
+     *                              and the displayed rows have to be updated.
+     * @param handler               The {@link Handler} the chunks of a filter are posted to.
+     * @param chunkTimeBudgetMillis The time in milliseconds a chunk may take at most.
+     */
+    RowFilterIndex(final Runnable filterAppliedCallback, final Handler handler, final long chunkTimeBudgetMillis) {
+        this.filterAppliedCallback = filterAppliedCallback;
+        this.handler = handler;
+        this.chunkTimeBudgetMillis = chunkTimeBudgetMillis;
+    }
+
+    /**
+     * Checks if a filter is applied.
+     *
+     * @return True if only the accepted rows shall be displayed, false if all rows shall be displayed.
+     */
+    boolean isFiltered() {
+        return accepted != null;
+    }
+
+    /**
+     * Applies the given filter to the given data.
+     *
+     * @param data                 The data of the table.
+     * @param filter               The {@link TableDataRowFilter} that shall be applied or {@code NULL} if all rows
+     *                             shall be displayed.
+     * @param narrowsCurrentFilter Whether the given filter only accepts rows that are accepted by the current filter.
+     *                             This is ignored while another filter is still being applied.
+     */
+    void setFilter(final List<T> data, final TableDataRowFilter<? super T> filter, final boolean narrowsCurrentFilter) {
+        // the caller narrows the filter it has set last, which is not the applied one while another one is pending
+        final boolean narrowsAppliedFilter = narrowsCurrentFilter && pendingFilter == null;
+        cancelPendingFilter();
+        if (filter == null) {
+            this.filter = null;
+            this.accepted = null;
+            filterAppliedCallback.run();
+            return;
+        }
+
+        pendingData = data;
+        pendingFilter = filter;
+        pendingAccepted = new boolean[data.size()];
+        pendingDataIndices = narrowsAppliedFilter && accepted != null && accepted.length == data.size()
+                ? getAcceptedDataIndices() : null;
+        pendingPosition = 0;
+
+        // the first chunk is run at once, so small tables are filtered without any delay
+        runFilterChunk();
+    }
+
+    /**
+     * Gives the data indices of the accepted rows in the given row order.
+     *
+     * @param rowOrder The data indices in the order they are displayed or {@code NULL} if the data is displayed
+     *                 in its original order.
+     * @param rowCount The number of rows of the data.
+     * @return The data indices of the accepted rows in the given order.
+     */
+    int[] getAcceptedRowOrder(final int[] rowOrder, final int rowCount) {
+        final int orderLength = rowOrder != null ? rowOrder.length : rowCount;
+        int acceptedRowCount = 0;
+        for (int i = 0; i < orderLength; i++) {
+            if (isAccepted(rowOrder != null ? rowOrder[i] : i)) {
+                acceptedRowCount++;
+            }
+        }
+
+        final int[] acceptedRowOrder = new int[acceptedRowCount];
+        int position = 0;
+        for (int i = 0; i < orderLength && position < acceptedRowCount; i++) {
+            final int dataIndex = rowOrder != null ? rowOrder[i] : i;
+            if (isAccepted(dataIndex)) {
+                acceptedRowOrder[position++] = dataIndex;
+            }
+        }
+        return acceptedRowOrder;
+    }
+
+    /**
+     * Tests all rows again with the current filter in chunks. To be called when the data has changed completely.
+     *
+     * @param data The data of the table.
+     */
+    void onDataSetChanged(final List<T> data) {
+        if (pendingFilter != null) {
+            restartPendingFilter(data);
+        } else if (filter != null) {
+            setFilter(data, filter, false);
+        }
+    }
+
+    /**
+     * Tests the inserted rows with the current filter.
+     *
+     * @param data           The data of the table.
+     * @param dataIndexStart The data index of the first inserted row.
+     * @param rowCount       The number of inserted rows.
+     */
+    void onRowsInserted(final List<T> data, final int dataIndexStart, final int rowCount) {
+        if (filter != null) {
+            if (dataIndexStart > accepted.length || accepted.length + rowCount != data.size()) {
+                onDataSetChanged(data);
+                return;
+            }
+            final boolean[] newAccepted = new boolean[accepted.length + rowCount];
+            System.arraycopy(accepted, 0, newAccepted, 0, dataIndexStart);
+            System.arraycopy(accepted, dataIndexStart, newAccepted, dataIndexStart + rowCount, accepted.length - dataIndexStart);
+            accepted = newAccepted;
+            testRows(data, dataIndexStart, rowCount);
+        }
+        if (pendingFilter != null) {
+            if (dataIndexStart > pendingAccepted.length) {
+                restartPendingFilter(data);
+                return;
+            }
+            carryPendingFilter(data, DataChangeBatch.ofRowsInserted(pendingAccepted.length, dataIndexStart, rowCount));
+        }
+    }
+
+    /**
+     * Tests the changed rows again with the current filter.
+     *
+     * @param data           The data of the table.
+     * @param dataIndexStart The data index of the first changed row.
+     * @param rowCount       The number of changed rows.
+     */
+    void onRowsChanged(final List<T> data, final int dataIndexStart, final int rowCount) {
+        if (filter != null) {
+            if (accepted.length != data.size()) {
+                onDataSetChanged(data);
+                return;
+            }
+            testRows(data, dataIndexStart, Math.min(rowCount, data.size() - dataIndexStart));
+        }
+        if (pendingFilter != null) {
+            final int changedRowCount = Math.max(0, Math.min(rowCount, pendingAccepted.length - dataIndexStart));
+            carryPendingFilter(data, DataChangeBatch.ofRowsChanged(pendingAccepted.length, dataIndexStart,
+                    changedRowCount));
+        }
+    }
+
+    /**
+     * Removes the removed rows from the index.
+     *
+     * @param data           The data of the table.
+     * @param dataIndexStart The data index the first removed row had.
+     * @param rowCount       The number of removed rows.
+     */
+    void onRowsRemoved(final List<T> data, final int dataIndexStart, final int rowCount) {
+        if (filter != null) {
+            if (dataIndexStart + rowCount > accepted.length || accepted.length - rowCount != data.size()) {
+                onDataSetChanged(data);
+                return;
+            }
+            final boolean[] newAccepted = new boolean[accepted.length - rowCount];
+            System.arraycopy(accepted, 0, newAccepted, 0, dataIndexStart);
+            System.arraycopy(accepted, dataIndexStart + rowCount, newAccepted, dataIndexStart,
+                    newAccepted.length - dataIndexStart);
+            accepted = newAccepted;
+        }
+        if (pendingFilter != null) {
+            if (dataIndexStart + rowCount > pendingAccepted.length) {
+                restartPendingFilter(data);
+                return;
+            }
+            carryPendingFilter(data, DataChangeBatch.ofRowsRemoved(pendingAccepted.length, dataIndexStart, rowCount));
+        }
+    }
+
+    /**
+     * Tests the inserted and updated rows of a batch of changes with the current filter.
+     *
+     * @param data  The data of the table.
+     * @param batch The {@link DataChangeBatch} describing the changes.
+     */
+    void onBatchApplied(final List<T> data, final DataChangeBatch batch) {
+        if (filter != null) {
+            if (accepted.length != batch.getOldRowCount() || batch.getNewRowCount() != data.size()) {
+                onDataSetChanged(data);
+                return;
+            }
+            final boolean[] newAccepted = new boolean[batch.getNewRowCount()];
+            batch.copyKeptValues(accepted, newAccepted);
+            accepted = newAccepted;
+            for (final int dataIndex : batch.getChangedDataIndices()) {
+                accepted[dataIndex] = filter.accept(data.get(dataIndex));
+            }
+        }
+        if (pendingFilter != null) {
+            carryPendingFilter(data, batch);
+        }
+    }
+
+    /**
+     * Stops applying a filter, that is not completely applied yet.
+     */
+    void cancelPendingFilter() {
+        handler.removeCallbacks(filterChunk);
+        pendingData = null;
+        pendingFilter = null;
+        pendingAccepted = null;
+        pendingDataIndices = null;
+    }
+
+    private boolean isAccepted(final int dataIndex) {
+        return dataIndex < accepted.length && accepted[dataIndex];
+    }
+
+    private int[] getAcceptedDataIndices() {
+        int acceptedRowCount = 0;
+        for (final boolean rowAccepted : accepted) {
+            if (rowAccepted) {
+                acceptedRowCount++;
+            }
+        }
+
+        final int[] dataIndices = new int[acceptedRowCount];
+        int position = 0;
+        for (int dataIndex = 0; dataIndex < accepted.length; dataIndex++) {
+            if (accepted[dataIndex]) {
+                dataIndices[position++] = dataIndex;
+            }
+        }
+        return dataIndices;
+    }
+
+    private void testRows(final List<T> data, final int dataIndexStart, final int rowCount) {
+        for (int dataIndex = dataIndexStart; dataIndex < dataIndexStart + rowCount; dataIndex++) {
+            accepted[dataIndex] = filter.accept(data.get(dataIndex));
+        }
+    }
+
+    private void restartPendingFilter(final List<T> data) {
+        if (pendingFilter != null) {
+            final TableDataRowFilter<? super T> filter = pendingFilter;
+            cancelPendingFilter();
+            setFilter(data, filter, false);
+        }
+    }
+
+    private void carryPendingFilter(final List<T> data, final DataChangeBatch batch) {
+        if (pendingAccepted.length != batch.getOldRowCount() || batch.getNewRowCount() != data.size()) {
+            restartPendingFilter(data);
+            return;
+        }
+
+        final boolean[] newPendingAccepted = new boolean[batch.getNewRowCount()];
+        batch.copyKeptValues(pendingAccepted, newPendingAccepted);
+        if (pendingDataIndices != null) {
+            final int[] remainingDataIndices = new int[pendingDataIndices.length - pendingPosition];
+            int remainingRowCount = 0;
+            for (int position = pendingPosition; position < pendingDataIndices.length; position++) {
+                final int newDataIndex = batch.getNewDataIndex(pendingDataIndices[position]);
+                if (newDataIndex >= 0) {
+                    remainingDataIndices[remainingRowCount++] = newDataIndex;
+                }
+            }
+            pendingDataIndices = Arrays.copyOf(remainingDataIndices, remainingRowCount);
+            pendingPosition = 0;
+        } else {
+            // the kept rows keep their order, so all kept rows in front of the first untested one are tested
+            int oldDataIndex = pendingPosition;
+            while (oldDataIndex < batch.getOldRowCount() && batch.getNewDataIndex(oldDataIndex) < 0) {
+                oldDataIndex++;
+            }
+            pendingPosition = oldDataIndex < batch.getOldRowCount()
+                    ? batch.getNewDataIndex(oldDataIndex) : batch.getNewRowCount();
+        }
+
+        pendingData = data;
+        pendingAccepted = newPendingAccepted;
+        for (final int dataIndex : batch.getChangedDataIndices()) {
+            pendingAccepted[dataIndex] = pendingFilter.accept(data.get(dataIndex));
+        }
+    }
+
+    private void runFilterChunk() {
+        final int testCount = pendingDataIndices != null ? pendingDataIndices.length : pendingAccepted.length;
+        final long deadline = SystemClock.uptimeMillis() + chunkTimeBudgetMillis;
+        while (pendingPosition < testCount) {
+            final int dataIndex = pendingDataIndices != null ? pendingDataIndices[pendingPosition] : pendingPosition;
+            pendingAccepted[dataIndex] = pendingFilter.accept(pendingData.get(dataIndex));
+            pendingPosition++;
+
+            if (pendingPosition % TIME_CHECK_INTERVAL == 0 && SystemClock.uptimeMillis() >= deadline) {
+                // the remaining rows are tested after the next frame has been drawn
+                handler.post(filterChunk);
+                return;
+            }
+        }
+
+        filter = pendingFilter;
+        accepted = pendingAccepted;
+        cancelPendingFilter();
+        filterAppliedCallback.run();
+    }
+
+}
@@ -0,0 +1,235 @@
+package de.codecrafters.tableview;
+
+
+/**
+ * Collection of operations on row orders. A row order is an array of data indices, that defines which data
+ * row is displayed at which position of the table. Sorting a row order moves only these indices instead of
+ * the data objects themselves.
+ *
+ * @author ISchwarz
+ */
+final class RowOrderSorter {
+
+    private static final int INSERTION_SORT_THRESHOLD = 7;
+
+    private RowOrderSorter() {
+        //no instance
+    }
+
+    /**
+     * Creates a row order that displays the data rows in their original order.
+     *
+     * @param rowCount The number of rows.
+     * @return The row order {@code [0, 1, ..., rowCount - 1]}.
+     */
+    static int[] identity(final int rowCount) {
+        final int[] rowOrder = new int[rowCount];
+        for (int i = 0; i < rowCount; i++) {
+            rowOrder[i] = i;
+        }
+        return rowOrder;
+    }
+
+    /**
+     * Sorts the given row order using the given {@link IndexComparator}. The sorting is stable, which means
+     * rows that are equal keep their relative position.
+     *
+     * @param rowOrder   The row order that shall be sorted.
+     * @param comparator The {@link IndexComparator} that shall be used to compare the rows.
+     */
+    static void sort(final int[] rowOrder, final IndexComparator comparator) {
+        sort(rowOrder, 0, rowOrder.length, comparator);
+    }
+
+    /**
+     * Sorts the given range of the given row order using the given {@link IndexComparator}. The sorting is
+     * stable, which means rows that are equal keep their relative position.
+     *
+     * @param rowOrder   The row order that shall be sorted.
+     * @param from       The index of the first position of the range (inclusive).
+     * @param to         The index of the last position of the range (exclusive).
+     * @param comparator The {@link IndexComparator} that shall be used to compare the rows.
+     */
+    static void sort(final int[] rowOrder, final int from, final int to, final IndexComparator comparator) {
+        if (to - from < 2) {
+            return;
+        }
+        final int[] buffer = new int[to - from];
+        System.arraycopy(rowOrder, from, buffer, 0, buffer.length);
+        mergeSort(buffer, rowOrder, from, to, -from, comparator);
+    }
+
+    /**
+     * Reverses the given row order, that is sorted by the given {@link IndexComparator}, so it is sorted in the
+     * opposite direction afterwards. Rows that are equal keep their relative position, so the result is the same
+     * as sorting with the reversed {@link IndexComparator}, but it only needs a linear number of comparisons.
+     *
+     * @param rowOrder   The sorted row order that shall be reversed.
+     * @param comparator The {@link IndexComparator} the row order is sorted with.
+     */
+    static void reverse(final int[] rowOrder, final IndexComparator comparator) {
+        reverse(rowOrder, 0, rowOrder.length);
+
+        int runStart = 0;
+        for (int i = 1; i <= rowOrder.length; i++) {
+            if (i == rowOrder.length || comparator.compare(rowOrder[i - 1], rowOrder[i]) != 0) {
+                reverse(rowOrder, runStart, i);
+                runStart = i;
+            }
+        }
+    }
+
+    /**
+     * Refines the given row order, that is sorted by the given run {@link IndexComparator}. Every run of adjacent
+     * rows that are equal regarding the run comparator is sorted by the given {@link IndexComparator}, while the
+     * runs themselves keep their position. This gives the same result as a stable sort by both comparators, but
+     * only the rows within the runs are compared with the given comparator.
+     *
+     * @param rowOrder      The row order sorted by the given run {@link IndexComparator}.
+     * @param runComparator The {@link IndexComparator} the row order is sorted with.
+     * @param comparator    The {@link IndexComparator} that shall be used to sort the rows within each run.
+     */
+    static void sortRuns(final int[] rowOrder, final IndexComparator runComparator, final IndexComparator comparator) {
+        int runStart = 0;
+        for (int i = 1; i <= rowOrder.length; i++) {
+            if (i == rowOrder.length || runComparator.compare(rowOrder[runStart], rowOrder[i]) != 0) {
+                sort(rowOrder, runStart, i, comparator);
+                runStart = i;
+            }
+        }
+    }
+
+    /**
+     * Inserts the given data indices into the given sorted row order. The given data indices are sorted and
+     * each of them is placed behind the last equal row of the row order using a binary search, so the given
+     * row order is not sorted again.
+     *
+     * @param rowOrder    The row order sorted by the given {@link IndexComparator}.
+     * @param dataIndices The data indices that shall be inserted. (This array will be sorted)
+     * @param comparator  The {@link IndexComparator} the row order is sorted with.
+     * @return The new row order containing the given data indices.
+     */
+    static int[] insert(final int[] rowOrder, final int[] dataIndices, final IndexComparator comparator) {
+        sort(dataIndices, comparator);
+
+        final int[] newRowOrder = new int[rowOrder.length + dataIndices.length];
+        int searchStart = 0;
+        int copied = 0;
+        for (int i = 0; i < dataIndices.length; i++) {
+            final int position = upperBound(rowOrder, searchStart, dataIndices[i], comparator);
+            System.arraycopy(rowOrder, searchStart, newRowOrder, copied + i, position - searchStart);
+            copied += position - searchStart;
+            newRowOrder[copied + i] = dataIndices[i];
+            searchStart = position;
+        }
+        System.arraycopy(rowOrder, searchStart, newRowOrder, copied + dataIndices.length, rowOrder.length - searchStart);
+        return newRowOrder;
+    }
+
+    /**
+     * Removes the given range of data indices from the given row order. The remaining rows keep their order.
+     *
+     * @param rowOrder       The row order the data indices shall be removed from.
+     * @param dataIndexStart The first data index that shall be removed.
+     * @param count          The number of data indices that shall be removed.
+     * @return The new row order without the given data indices.
+     */
+    static int[] remove(final int[] rowOrder, final int dataIndexStart, final int count) {
+        final int dataIndexEnd = dataIndexStart + count;
+        final int[] newRowOrder = new int[rowOrder.length - count];
+        int position = 0;
+        for (final int dataIndex : rowOrder) {
+            if (dataIndex < dataIndexStart || dataIndex >= dataIndexEnd) {
+                newRowOrder[position++] = dataIndex;
+            }
+        }
+        return newRowOrder;
+    }
+
+    /**
+     * Adds the given delta to all data indices of the given row order, that are equal to or greater than the
+     * given data index. (E.g. to make space for inserted rows or to close the gap of removed rows)
+     *
+     * @param rowOrder       The row order whose data indices shall be shifted.
+     * @param dataIndexStart The first data index that shall be shifted.
+     * @param delta          The delta that shall be added to the data indices.
+     */
+    static void shift(final int[] rowOrder, final int dataIndexStart, final int delta) {
+        for (int i = 0; i < rowOrder.length; i++) {
+            if (rowOrder[i] >= dataIndexStart) {
+                rowOrder[i] += delta;
+            }
+        }
+    }
+
+    /**
+     * Gives the first position in the given row order starting at the given position, whose row is greater than
+     * the row with the given data index.
+     */
+    private static int upperBound(final int[] rowOrder, final int from, final int dataIndex,
+                                  final IndexComparator comparator) {
+        int low = from;
+        int high = rowOrder.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (comparator.compare(rowOrder[mid], dataIndex) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static void reverse(final int[] rowOrder, final int from, final int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            final int swap = rowOrder[i];
+            rowOrder[i] = rowOrder[j];
+            rowOrder[j] = swap;
+        }
+    }
+
+    /**
+     * Sorts the range of the source array into the same range of the destination array. Both arrays need to
+     * contain the same elements in this range in the beginning. The range of the source array is shifted by the
+     * given offset.
+     */
+    private static void mergeSort(final int[] source, final int[] destination, final int low, final int high,
+                                  final int offset, final IndexComparator comparator) {
+        final int length = high - low;
+
+        if (length < INSERTION_SORT_THRESHOLD) {
+            for (int i = low; i < high; i++) {
+                for (int j = i; j > low && comparator.compare(destination[j - 1], destination[j]) > 0; j--) {
+                    final int swap = destination[j];
+                    destination[j] = destination[j - 1];
+                    destination[j - 1] = swap;
+                }
+            }
+            return;
+        }
+
+        final int destinationLow = low;
+        final int destinationHigh = high;
+        final int sourceLow = low + offset;
+        final int sourceHigh = high + offset;
+        final int sourceMid = (sourceLow + sourceHigh) >>> 1;
+        mergeSort(destination, source, sourceLow, sourceMid, -offset, comparator);
+        mergeSort(destination, source, sourceMid, sourceHigh, -offset, comparator);
+
+        // the halves are already in order
+        if (comparator.compare(source[sourceMid - 1], source[sourceMid]) <= 0) {
+            System.arraycopy(source, sourceLow, destination, destinationLow, length);
+            return;
+        }
+
+        for (int i = destinationLow, p = sourceLow, q = sourceMid; i < destinationHigh; i++) {
+            if (q >= sourceHigh || p < sourceMid && comparator.compare(source[p], source[q]) <= 0) {
+                destination[i] = source[p++];
+            } else {
+                destination[i] = source[q++];
+            }
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+package de.codecrafters.tableview;
+
+import android.database.DataSetObserver;
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.os.SystemClock;
+
+
+/**
+ * Prepares the rows that are about to be scrolled into the viewport, while the main thread is idle between two
+ * frames. The rows are prepared in scroll direction. The faster the table is scrolled, the more rows are prepared
+ * ahead (up to {@value #MAX_PREFETCH_FACTOR} times the given row count), so binding a row only needs to hand over
+ * the prepared data.
+ *
+ * @author ISchwarz
+ */
+final class RowPrefetcher implements MessageQueue.IdleHandler {
+
+    private static final long IDLE_TIME_BUDGET_MILLIS = 4;
+    private static final long LOOKAHEAD_MILLIS = 250;
+    private static final int MAX_PREFETCH_FACTOR = 4;
+
+    private final DataSetObserver adapterObserver = new InternalAdapterObserver();
+    private TableDataAdapter<?> adapter;
+    private int prefetchRowCount;
+
+    private int lastFirstVisibleRowIndex = -1;
+    private long lastScrollTime;
+    private float rowsPerSecond;
+    private int direction = 1;
+
+    private int nextRowIndex;
+    private int lastRowIndex;
+    private int lastPreparedRowIndex = -1;
+    private boolean idleHandlerAdded;
+
+
+    /**
+     * Creates a new RowPrefetcher.
+     *
+     * @param prefetchRowCount The number of rows that shall be prepared ahead of the viewport.
+     */
+    RowPrefetcher(final int prefetchRowCount) {
+        this.prefetchRowCount = prefetchRowCount;
+    }
+
+    /**
+     * Sets the {@link TableDataAdapter} whose rows shall be prepared. The preparation is started over whenever the
+     * adapter notifies about changes.
+     *
+     * @param adapter The {@link TableDataAdapter} that shall be used.
+     */
+    void setAdapter(final TableDataAdapter<?> adapter) {
+        if (this.adapter != null) {
+            this.adapter.unregisterDataSetObserver(adapterObserver);
+        }
+        this.adapter = adapter;
+        if (adapter != null) {
+            adapter.registerDataSetObserver(adapterObserver);
+        }
+        cancel();
+    }
+
+    /**
+     * Gives the number of rows that are prepared ahead of the viewport, if the table is scrolled slowly.
+     *
+     * @return The number of rows that are prepared.
+     */
+    int getPrefetchRowCount() {
+        return prefetchRowCount;
+    }
+
+    /**
+     * Sets the number of rows that are prepared ahead of the viewport, if the table is scrolled slowly.
+     *
+     * @param prefetchRowCount The number of rows that shall be prepared or {@code 0} if no rows shall be prepared.
+     */
+    void setPrefetchRowCount(final int prefetchRowCount) {
+        this.prefetchRowCount = prefetchRowCount;
+        cancel();
+    }
+
+    /**
+     * Updates the scroll direction and velocity and schedules the preparation of the rows ahead of the viewport.
+     * To be called from {@link android.widget.AbsListView.OnScrollListener#onScroll}.
+     *
+     * @param firstVisibleRowIndex The index of the first visible row.
+     * @param visibleRowCount      The number of visible rows.
+     * @param totalRowCount        The number of rows of the table.
+     */
+    void onScroll(final int firstVisibleRowIndex, final int visibleRowCount, final int totalRowCount) {
+        if (adapter == null || prefetchRowCount == 0 || visibleRowCount == 0) {
+            return;
+        }
+
+        final long now = SystemClock.uptimeMillis();
+        if (firstVisibleRowIndex != lastFirstVisibleRowIndex) {
+            if (lastFirstVisibleRowIndex >= 0) {
+                final int scrolledRowCount = firstVisibleRowIndex - lastFirstVisibleRowIndex;
+                direction = scrolledRowCount > 0 ? 1 : -1;
+                rowsPerSecond = Math.abs(scrolledRowCount) * 1000f / Math.max(1, now - lastScrollTime);
+            }
+            lastFirstVisibleRowIndex = firstVisibleRowIndex;
+            lastScrollTime = now;
+        }
+
+        final int rowCount = Math.min(prefetchRowCount * MAX_PREFETCH_FACTOR,
+                prefetchRowCount + (int) (rowsPerSecond * LOOKAHEAD_MILLIS / 1000));
+        final int firstRowIndex;
+        if (direction > 0) {
+            firstRowIndex = firstVisibleRowIndex + visibleRowCount;
+            lastRowIndex = Math.min(firstRowIndex + rowCount - 1, totalRowCount - 1);
+        } else {
+            firstRowIndex = firstVisibleRowIndex - 1;
+            lastRowIndex = Math.max(firstVisibleRowIndex - rowCount, 0);
+        }
+
+        // the rows that have already been prepared in this direction are not prepared again
+        nextRowIndex = firstRowIndex;
+        if (lastPreparedRowIndex >= 0 && (lastPreparedRowIndex - firstRowIndex) * direction >= 0) {
+            nextRowIndex = lastPreparedRowIndex + direction;
+        }
+
+        if (hasPendingRows() && !idleHandlerAdded) {
+            Looper.myQueue().addIdleHandler(this);
+            idleHandlerAdded = true;
+        }
+    }
+
+    /**
+     * Cancels the pending preparations and forgets about the rows that have already been prepared.
+     */
+    void cancel() {
+        if (idleHandlerAdded) {
+            Looper.myQueue().removeIdleHandler(this);
+            idleHandlerAdded = false;
+        }
+        nextRowIndex = 0;
+        lastRowIndex = -1;
+        direction = 1;
+        lastPreparedRowIndex = -1;
+        lastFirstVisibleRowIndex = -1;
+        rowsPerSecond = 0;
+    }
+
+    @Override
+    public boolean queueIdle() {
+        final long deadline = SystemClock.uptimeMillis() + IDLE_TIME_BUDGET_MILLIS;
+        while (hasPendingRows() && SystemClock.uptimeMillis() < deadline) {
+            adapter.prefetchRow(nextRowIndex);
+            lastPreparedRowIndex = nextRowIndex;
+            nextRowIndex += direction;
+        }
+
+        idleHandlerAdded = hasPendingRows();
+        return idleHandlerAdded;
+    }
+
+    private boolean hasPendingRows() {
+        return adapter != null && nextRowIndex >= 0 && (lastRowIndex - nextRowIndex) * direction >= 0;
+    }
+
+    /**
+     * Starts the preparation over, whenever the data or the row order of the adapter changes.
+     *
+     * @author ISchwarz
+     */
+    private class InternalAdapterObserver extends DataSetObserver {
+
+        @Override
+        public void onChanged() {
+            cancel();
+        }
+
+        @Override
+        public void onInvalidated() {
+            cancel();
+        }
+    }
+
+}
@@ -0,0 +1,135 @@
+package de.codecrafters.tableview;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.RequiresApi;
+import android.view.Choreographer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Collects row insertions, updates and removals that are posted from any thread and hands them over to the main
+ * thread once per display frame. However many updates are posted in between two frames, they are applied at once
+ * right before the next frame is drawn. Below Jelly Bean, where there is no {@link Choreographer}, the updates are
+ * handed over with the next message of the main thread instead.
+ *
+ * @author ISchwarz
+ */
+final class RowUpdateQueue<T> {
+
+    static final int INSERT = 0;
+    static final int UPDATE = 1;
+    static final int REMOVE = 2;
+
+    private final Runnable applyTask;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final FrameCallbackPoster frameCallbackPoster;
+    private final Runnable applyRunnable = new Runnable() {
+        @Override
+        public void run() {
+            applyTask.run();
+        }
+    };
+    private List<RowUpdate<T>> pendingUpdates = new ArrayList<>();
+    private boolean applyScheduled;
+
+
+    /**
+     * Creates a new RowUpdateQueue. It has to be created on the main thread to use the {@link Choreographer}.
+     *
+     * @param applyTask The task that applies the pending updates. It is run on the main thread once per frame, as
+     *                  long as there are pending updates.
+     */
+    RowUpdateQueue(final Runnable applyTask) {
+        this.applyTask = applyTask;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN && Looper.myLooper() == Looper.getMainLooper()) {
+            frameCallbackPoster = new FrameCallbackPoster(applyRunnable);
+        } else {
+            frameCallbackPoster = null;
+        }
+    }
+
+    /**
+     * Adds an update to this queue and schedules the pending updates to be applied with the next frame. This method
+     * may be called from any thread.
+     *
+     * @param type      The type of the update ({@link #INSERT}, {@link #UPDATE} or {@link #REMOVE}).
+     * @param dataIndex The data index the update refers to, after all updates posted before have been applied.
+     * @param rowData   The data of the inserted or updated row or {@code NULL} for removals.
+     */
+    void post(final int type, final int dataIndex, final T rowData) {
+        synchronized (this) {
+            pendingUpdates.add(new RowUpdate<>(type, dataIndex, rowData));
+            if (applyScheduled) {
+                return;
+            }
+            applyScheduled = true;
+        }
+
+        if (frameCallbackPoster != null) {
+            frameCallbackPoster.post();
+        } else {
+            mainHandler.post(applyRunnable);
+        }
+    }
+
+    /**
+     * Takes all pending updates out of this queue. Updates posted afterwards are applied with the next frame.
+     *
+     * @return The pending updates in the order they have been posted.
+     */
+    synchronized List<RowUpdate<T>> drain() {
+        final List<RowUpdate<T>> updates = pendingUpdates;
+        pendingUpdates = new ArrayList<>();
+        applyScheduled = false;
+        return updates;
+    }
+
+    /**
+     * One row insertion, update or removal.
+     *
+     * @author ISchwarz
+     */
+    static final class RowUpdate<T> {
+
+        final int type;
+        final int dataIndex;
+        final T rowData;
+
+        private RowUpdate(final int type, final int dataIndex, final T rowData) {
+            this.type = type;
+            this.dataIndex = dataIndex;
+            this.rowData = rowData;
+        }
+    }
+
+    /**
+     * Runs a task with the next frame using the {@link Choreographer} of the main thread. It is only loaded on
+     * devices that have a {@link Choreographer}.
+     *
+     * @author ISchwarz
+     */
+    @RequiresApi(Build.VERSION_CODES.JELLY_BEAN)
+    private static final class FrameCallbackPoster implements Choreographer.FrameCallback {
+
+        private final Choreographer choreographer = Choreographer.getInstance();
+        private final Runnable task;
+
+        private FrameCallbackPoster(final Runnable task) {
+            this.task = task;
+        }
+
+        private void post() {
+            choreographer.postFrameCallback(this);
+        }
+
+        @Override
+        public void doFrame(final long frameTimeNanos) {
+            task.run();
+        }
+    }
+
+}
@@ -0,0 +1,19 @@
+package de.codecrafters.tableview;
+
+
+/**
+ * A listener that renders some of the displayed rows again, when their data has changed but all rows have kept
+ * their position. Rows that are not visible can be ignored, as they are rendered when they are scrolled into view.
+ *
+ * @author ISchwarz
+ */
+interface RowViewsChangedListener {
+
+    /**
+     * Called when the rows with the given indices shall be rendered again.
+     *
+     * @param rowIndices The indices of the changed rows in ascending order.
+     */
+    void onRowViewsChanged(int[] rowIndices);
+
+}
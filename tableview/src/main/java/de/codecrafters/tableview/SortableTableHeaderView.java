@@ -2,7 +2,9 @@ package de.codecrafters.tableview;
 
 import android.content.Context;
 import android.content.res.Resources;
+import android.database.DataSetObserver;
 import android.util.SparseArray;
+import android.util.SparseIntArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -10,10 +12,14 @@ import android.widget.FrameLayout;
 import android.widget.ImageView;
 import android.widget.LinearLayout;
 import android.widget.TextView;
+import de.codecrafters.tableview.listeners.TableHeaderClickListener;
 import de.codecrafters.tableview.model.TableColumnModel;
 import de.codecrafters.tableview.providers.SortStateViewProvider;
 import de.codecrafters.tableview.toolkit.SortStateViewProviders;
 
+import java.util.HashSet;
+import java.util.Set;
+
 
 /**
  * Extension of the {@link TableHeaderView} that will show sorting indicators at the start of the header.
@@ -24,8 +30,12 @@ class SortableTableHeaderView extends TableHeaderView {
 
     private final SparseArray<ImageView> sortViews = new SparseArray<>();
     private final SparseArray<SortState> sortStates = new SparseArray<>();
+    private final SparseArray<TextView> sortPriorityViews = new SparseArray<>();
+    private final SparseIntArray sortPriorities = new SparseIntArray();
+    private final Set<TableHeaderClickListener> longClickListeners = new HashSet<>();
 
     private SortStateViewProvider sortStateViewProvider = SortStateViewProviders.darkArrows();
+    private SortStateArrayAdapter sortStateAdapter;
 
 
     /**
@@ -38,9 +48,14 @@ class SortableTableHeaderView extends TableHeaderView {
     }
 
     /**
-     * Will set all sort views to state "sortable".
+     * Will set all sort views to state "sortable" and hide all sort priorities.
      */
     public void resetSortViews() {
+        sortPriorities.clear();
+        for (int i = 0; i < sortPriorityViews.size(); i++) {
+            setSortPriorityToView(0, sortPriorityViews.valueAt(i));
+        }
+
         for (int i = 0; i < sortStates.size(); i++) {
             final int columnIndex = sortStates.keyAt(i);
 
@@ -61,7 +76,11 @@ class SortableTableHeaderView extends TableHeaderView {
 
     @Override
     public void setAdapter(TableHeaderAdapter adapter) {
-        super.setAdapter(new SortStateArrayAdapter(adapter));
+        if (sortStateAdapter != null) {
+            sortStateAdapter.release();
+        }
+        sortStateAdapter = new SortStateArrayAdapter(adapter);
+        super.setAdapter(sortStateAdapter);
     }
 
     /**
@@ -74,7 +93,49 @@ class SortableTableHeaderView extends TableHeaderView {
      */
     public void setSortState(final int columnIndex, final SortState sortState) {
         sortStates.put(columnIndex, sortState);
-        invalidate();
+        setSortStateToView(sortState, sortViews.get(columnIndex));
+    }
+
+    /**
+     * Sets the priority that the column with the given index has in the sorting. The priority is shown next to
+     * the sort view of the column.
+     *
+     * @param columnIndex The index of the column for which the given priority will be set.
+     * @param priority    The priority of the column, starting with {@code 1} for the primary sorted column. A
+     *                    priority of {@code 0} hides the priority of the column.
+     */
+    public void setSortPriority(final int columnIndex, final int priority) {
+        sortPriorities.put(columnIndex, priority);
+        setSortPriorityToView(priority, sortPriorityViews.get(columnIndex));
+    }
+
+    private void setSortPriorityToView(final int priority, final TextView view) {
+        if (view != null) {
+            if (priority > 0) {
+                view.setText(String.valueOf(priority));
+                view.setVisibility(VISIBLE);
+            } else {
+                view.setVisibility(GONE);
+            }
+        }
+    }
+
+    /**
+     * Adds the given {@link TableHeaderClickListener} that shall be informed about long clicks on the header.
+     *
+     * @param listener The {@link TableHeaderClickListener} that shall be added.
+     */
+    public void addHeaderLongClickListener(final TableHeaderClickListener listener) {
+        longClickListeners.add(listener);
+    }
+
+    /**
+     * Removes the given {@link TableHeaderClickListener} that was informed about long clicks on the header.
+     *
+     * @param listener The {@link TableHeaderClickListener} that shall be removed.
+     */
+    public void removeHeaderLongClickListener(final TableHeaderClickListener listener) {
+        longClickListeners.remove(listener);
     }
 
     private void setSortStateToView(final SortState state, final ImageView view) {
@@ -106,15 +167,10 @@ class SortableTableHeaderView extends TableHeaderView {
      */
     public void setSortStateViewProvider(final SortStateViewProvider provider) {
         sortStateViewProvider = provider;
-        invalidate();
-    }
-
-    @Override
-    public void invalidate() {
-        if (getAdapter() != null) {
-            getAdapter().notifyDataSetChanged();
+        for (int i = 0; i < sortViews.size(); i++) {
+            final int columnIndex = sortViews.keyAt(i);
+            setSortStateToView(sortStates.get(columnIndex), sortViews.valueAt(i));
         }
-        super.invalidate();
     }
 
     @Override
@@ -128,10 +184,25 @@ class SortableTableHeaderView extends TableHeaderView {
     private class SortStateArrayAdapter extends TableHeaderAdapter {
 
         private final TableHeaderAdapter delegate;
+        private final DataSetObserver delegateObserver = new DataSetObserver() {
+            @Override
+            public void onChanged() {
+                notifyDataSetChanged();
+            }
+        };
 
         public SortStateArrayAdapter(final TableHeaderAdapter delegate) {
             super(delegate.getContext());
             this.delegate = delegate;
+            // create the header views again whenever the wrapped adapter has changed
+            delegate.registerDataSetObserver(delegateObserver);
+        }
+
+        /**
+         * Stops following the changes of the wrapped adapter.
+         */
+        void release() {
+            delegate.unregisterDataSetObserver(delegateObserver);
         }
 
         @Override
@@ -179,7 +250,7 @@ class SortableTableHeaderView extends TableHeaderView {
 
             // create column header layout
             final LinearLayout headerLayout = (LinearLayout) delegate.getLayoutInflater().inflate(R.layout.sortable_header, parentView, false);
-            headerLayout.setOnClickListener(new InternalHeaderClickListener(columnIndex, getHeaderClickListeners()));
+            headerLayout.setOnLongClickListener(new InternalHeaderLongClickListener(columnIndex, longClickListeners));
 
             // create header
             View headerView = delegate.getHeaderView(columnIndex, headerLayout);
@@ -202,6 +273,11 @@ class SortableTableHeaderView extends TableHeaderView {
             }
             setSortStateToView(sortState, sortView);
 
+            // get the sort priority view
+            final TextView sortPriorityView = (TextView) headerLayout.findViewById(R.id.sort_priority_view);
+            sortPriorityViews.put(columnIndex, sortPriorityView);
+            setSortPriorityToView(sortPriorities.get(columnIndex), sortPriorityView);
+
             return headerLayout;
         }
     }
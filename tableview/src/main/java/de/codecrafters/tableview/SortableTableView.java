@@ -1,17 +1,26 @@
 package de.codecrafters.tableview;
 
 import android.content.Context;
-import android.database.DataSetObserver;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
 import android.os.Parcelable;
 import android.util.AttributeSet;
 import android.util.Log;
 import android.util.SparseArray;
+import de.codecrafters.tableview.extractors.ColumnDoubleKeyExtractor;
+import de.codecrafters.tableview.extractors.ColumnIntKeyExtractor;
+import de.codecrafters.tableview.extractors.ColumnLongKeyExtractor;
+import de.codecrafters.tableview.extractors.ColumnSortKeyExtractor;
 import de.codecrafters.tableview.listeners.SortingStatusChangeListener;
 import de.codecrafters.tableview.listeners.TableHeaderClickListener;
 import de.codecrafters.tableview.providers.SortStateViewProvider;
 
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Extension of the {@link TableView} that gives the possibility to sort the table by every single
@@ -20,7 +29,11 @@ import java.util.*;
  * of the header indicating to the user, that this column is sortable.
  * If the user clicks this header the given comparator will used to sort the table ascending by the
  * content of this column. If the user clicks this header again, the table is sorted descending
- * by the content of this column.
+ * by the content of this column. If the user long clicks another header, this column is added to the sorting,
+ * so rows that are equal regarding the already sorted columns are sorted by the content of this column.
+ * The sorting does not modify the data list of the {@link TableDataAdapter}, instead only the order in which
+ * the data rows are displayed is changed. Columns with a sort expression of a {@link CursorTableDataAdapter} are
+ * sorted by the database instead.
  *
  * @author ISchwarz
  */
@@ -29,11 +42,13 @@ public class SortableTableView<T> extends TableView<T> {
     private static final String LOG_TAG = SortableTableView.class.getName();
 
     private static final String SAVED_STATE_SUPER_STATE = "SAVED_STATE_SUPER";
-    private static final String SAVED_STATE_SORTED_DIRECTION = "SAVED_STATE_SORTED_DIRECTION";
-    private static final String SAVED_STATE_SORTED_COLUMN = "SAVED_STATE_SORTED_COLUMN";
+    private static final String SAVED_STATE_SORTING_KEYS = "SAVED_STATE_SORTING_KEYS";
+
+    private static ExecutorService sortingExecutor;
 
     private final SortableTableHeaderView sortableTableHeaderView;
     private final SortingController sortingController;
+    private final RecapSortingDataChangeObserver recapSortingObserver = new RecapSortingDataChangeObserver();
 
 
     /**
@@ -73,12 +88,26 @@ public class SortableTableView<T> extends TableView<T> {
 
         sortingController = new SortingController();
         sortableTableHeaderView.addHeaderClickListener(sortingController);
+        sortableTableHeaderView.addHeaderLongClickListener(new TableHeaderClickListener() {
+            @Override
+            public void onHeaderClicked(final int columnIndex) {
+                sortingController.onHeaderLongClicked(columnIndex);
+            }
+        });
     }
 
     @Override
     public void setDataAdapter(final TableDataAdapter<T> dataAdapter) {
-        dataAdapter.registerDataSetObserver(new RecapSortingDataSetObserver());
+        getDataAdapter().unregisterDataChangeObserver(recapSortingObserver);
+        dataAdapter.registerDataChangeObserver(recapSortingObserver);
         super.setDataAdapter(dataAdapter);
+
+        // columns sorted by the data source itself are sortable without a comparator
+        for (int columnIndex = 0; columnIndex < getColumnCount(); columnIndex++) {
+            if (dataAdapter.canSortByDataSource(columnIndex)) {
+                sortableTableHeaderView.setSortState(columnIndex, SortState.SORTABLE);
+            }
+        }
     }
 
     /**
@@ -92,6 +121,118 @@ public class SortableTableView<T> extends TableView<T> {
         sortingController.setComparator(columnIndex, columnComparator);
     }
 
+    /**
+     * Sets the given {@link ColumnSortKeyExtractor} for the column at the given index. The column will be sorted by
+     * the natural order of the extracted keys. In contrast to a {@link Comparator}, the key of every row is extracted
+     * only once and cached until the row is changed. (Hint: to keep the cache valid, inform the {@link TableDataAdapter}
+     * about changed rows using {@link TableDataAdapter#notifyRowsChanged(int, int)})
+     *
+     * @param columnIndex  The index of the column the given {@link ColumnSortKeyExtractor} shall be set to.
+     * @param keyExtractor The {@link ColumnSortKeyExtractor} that shall be set to the column at the given index.
+     * @param <K>          The type of the sort keys.
+     */
+    public <K extends Comparable<? super K>> void setColumnSortKeyExtractor(final int columnIndex,
+                                                                            final ColumnSortKeyExtractor<T, K> keyExtractor) {
+        setColumnSortKeyExtractor(columnIndex, keyExtractor, new Comparator<K>() {
+            @Override
+            public int compare(final K key1, final K key2) {
+                if (key1 == null) {
+                    return key2 == null ? 0 : -1;
+                }
+                if (key2 == null) {
+                    return 1;
+                }
+                return key1.compareTo(key2);
+            }
+        });
+    }
+
+    /**
+     * Sets the given {@link ColumnSortKeyExtractor} for the column at the given index. The column will be sorted by
+     * the extracted keys, using the given key {@link Comparator}. In contrast to a {@link Comparator} of the row data,
+     * the key of every row is extracted only once and cached until the row is changed.
+     *
+     * @param columnIndex   The index of the column the given {@link ColumnSortKeyExtractor} shall be set to.
+     * @param keyExtractor  The {@link ColumnSortKeyExtractor} that shall be set to the column at the given index.
+     * @param keyComparator The {@link Comparator} that shall be used to compare the extracted keys.
+     * @param <K>           The type of the sort keys.
+     */
+    public <K> void setColumnSortKeyExtractor(final int columnIndex, final ColumnSortKeyExtractor<T, K> keyExtractor,
+                                              final Comparator<? super K> keyComparator) {
+        if (keyExtractor == null) {
+            sortingController.setComparator(columnIndex, null);
+        } else {
+            sortingController.setSortKeys(columnIndex, new ObjectColumnSortKeys<>(keyExtractor, keyComparator));
+        }
+    }
+
+    /**
+     * Sets the given {@link ColumnIntKeyExtractor} for the column at the given index. The column will be sorted by
+     * the extracted int keys. The keys are cached in a primitive array until the row is changed and the rows are
+     * sorted by them without boxing, using a radix sort if the table is sorted by this column only.
+     *
+     * @param columnIndex  The index of the column the given {@link ColumnIntKeyExtractor} shall be set to.
+     * @param keyExtractor The {@link ColumnIntKeyExtractor} that shall be set to the column at the given index.
+     */
+    public void setColumnIntKey(final int columnIndex, final ColumnIntKeyExtractor<T> keyExtractor) {
+        if (keyExtractor == null) {
+            sortingController.setComparator(columnIndex, null);
+        } else {
+            sortingController.setSortKeys(columnIndex, new IntColumnSortKeys<>(keyExtractor));
+        }
+    }
+
+    /**
+     * Sets the given {@link ColumnLongKeyExtractor} for the column at the given index. The column will be sorted by
+     * the extracted long keys. The keys are cached in a primitive array until the row is changed and the rows are
+     * sorted by them without boxing, using a radix sort if the table is sorted by this column only.
+     *
+     * @param columnIndex  The index of the column the given {@link ColumnLongKeyExtractor} shall be set to.
+     * @param keyExtractor The {@link ColumnLongKeyExtractor} that shall be set to the column at the given index.
+     */
+    public void setColumnLongKey(final int columnIndex, final ColumnLongKeyExtractor<T> keyExtractor) {
+        if (keyExtractor == null) {
+            sortingController.setComparator(columnIndex, null);
+        } else {
+            sortingController.setSortKeys(columnIndex, new LongColumnSortKeys<>(keyExtractor));
+        }
+    }
+
+    /**
+     * Sets the given {@link ColumnDoubleKeyExtractor} for the column at the given index. The column will be sorted
+     * by the extracted double keys in the order given by {@link Double#compare(double, double)}. The keys are cached
+     * in a primitive array until the row is changed and the rows are sorted by them without boxing, using a radix
+     * sort if the table is sorted by this column only.
+     *
+     * @param columnIndex  The index of the column the given {@link ColumnDoubleKeyExtractor} shall be set to.
+     * @param keyExtractor The {@link ColumnDoubleKeyExtractor} that shall be set to the column at the given index.
+     */
+    public void setColumnDoubleKey(final int columnIndex, final ColumnDoubleKeyExtractor<T> keyExtractor) {
+        if (keyExtractor == null) {
+            sortingController.setComparator(columnIndex, null);
+        } else {
+            sortingController.setSortKeys(columnIndex, LongColumnSortKeys.forDoubleKeys(keyExtractor));
+        }
+    }
+
+    /**
+     * Makes the column at the given index sortable by the values of the {@link ColumnarTableData} the data adapter
+     * works with. Dictionary encoded and numeric columns are sorted by their primitive values using a radix sort,
+     * string columns by the natural order of their values. The keys are copied from the column instead of being
+     * extracted from every row. (Hint: call this method after the data adapter has been set)
+     *
+     * @param columnIndex The index of the column that shall be sortable.
+     */
+    @SuppressWarnings("unchecked")
+    public void setColumnarSortKey(final int columnIndex) {
+        final List<T> data = getDataAdapter().getData();
+        if (!(data instanceof ColumnarTableData)) {
+            throw new IllegalArgumentException("The data of the adapter is no ColumnarTableData");
+        }
+        final ColumnSortKeys<?> columnSortKeys = ((ColumnarTableData) data).createSortKeys(columnIndex);
+        sortingController.setSortKeys(columnIndex, (ColumnSortKeys<T>) columnSortKeys);
+    }
+
     /**
      * Gives the current {@link SortStateViewProvider}.
      *
@@ -132,6 +273,33 @@ public class SortableTableView<T> extends TableView<T> {
         sortingController.onHeaderClicked(columnIndex);
     }
 
+    /**
+     * Adds the column with the given index to the sorting of the table. If the table is not sorted yet, it is
+     * sorted by this column. If the table is already sorted by this column, the order of this column is toggled.
+     * Otherwise rows that are equal regarding all the columns the table is sorted by, are sorted ascending by this
+     * column.\n
+     * This method has the same effect like a long click of the user to the table header of the given column.
+     *
+     * @param columnIndex The index of the column that shall be added to the sorting.
+     */
+    public void addSortingColumn(final int columnIndex) {
+        sortingController.onHeaderLongClicked(columnIndex);
+    }
+
+    /**
+     * Sorts the table by the given {@link SortingKey}s. The table is sorted by the first key, rows that are equal
+     * regarding a key are sorted by the following key. If no key is given, the sorting is removed.
+     *
+     * @param sortingKeys The {@link SortingKey}s the table shall be sorted by, ordered by their priority.
+     */
+    public void sort(final SortingKey... sortingKeys) {
+        if (sortingKeys.length == 0) {
+            sortingController.clearSorting();
+        } else {
+            sortingController.sortByKeys(Arrays.asList(sortingKeys), false);
+        }
+    }
+
     /**
      * Sorts the table by the values of the column of the given index.
      *
@@ -198,26 +366,62 @@ public class SortableTableView<T> extends TableView<T> {
         sortingController.sortDataSFCT(comparator);
     }
 
+    /**
+     * Removes the sorting of this table, so the data is displayed in the order it has been given to the
+     * {@link TableDataAdapter} again.
+     */
+    public void clearSorting() {
+        sortingController.clearSorting();
+    }
+
+    /**
+     * Enables or disables the asynchronous sorting. If enabled, a snapshot of the data is sorted on a background
+     * thread and the sorted data is published to the table afterwards, so sorting large data sets does not block
+     * the UI. A sorting that is still in progress is cancelled, if a new sorting is requested. The sort state of
+     * the sorted column is shown in the header as soon as the sorted data is published.
+     * (Hint: the {@link Comparator}s of the columns need to be thread safe, if the asynchronous sorting is enabled.)
+     *
+     * @param enabled Whether the asynchronous sorting shall be enabled or not.
+     */
+    public void setAsyncSortingEnabled(final boolean enabled) {
+        sortingController.asyncSortingEnabled = enabled;
+    }
+
+    /**
+     * Gives information whether the asynchronous sorting is enabled or not.
+     *
+     * @return Boolean indicating whether the asynchronous sorting is enabled or not.
+     */
+    public boolean isAsyncSortingEnabled() {
+        return sortingController.asyncSortingEnabled;
+    }
+
+    private static synchronized ExecutorService getSortingExecutor() {
+        if (sortingExecutor == null) {
+            sortingExecutor = Executors.newSingleThreadExecutor(new BackgroundThreadFactory("SortableTableView-Sorting"));
+        }
+        return sortingExecutor;
+    }
+
     @Override
     protected Parcelable onSaveInstanceState() {
         final Bundle state = new Bundle();
         state.putParcelable(SAVED_STATE_SUPER_STATE, super.onSaveInstanceState());
-        state.putSerializable(SAVED_STATE_SORTED_DIRECTION, sortingController.sortingStatus.getSortedOrder());
-        state.putInt(SAVED_STATE_SORTED_COLUMN, sortingController.sortingStatus.getSortedColumnIndex());
+        state.putSerializable(SAVED_STATE_SORTING_KEYS, new ArrayList<>(sortingController.sortingStatus.getSortingKeys()));
         return state;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     protected void onRestoreInstanceState(final Parcelable state) {
         if (state instanceof Bundle) {
             final Bundle savedState = (Bundle) state;
             final Parcelable superState = savedState.getParcelable(SAVED_STATE_SUPER_STATE);
-            final SortingOrder sortingOrder = (SortingOrder) savedState.getSerializable(SAVED_STATE_SORTED_DIRECTION);
-            final int sortedColumnIndex = savedState.getInt(SAVED_STATE_SORTED_COLUMN, -1);
+            final List<SortingKey> sortingKeys = (List<SortingKey>) savedState.getSerializable(SAVED_STATE_SORTING_KEYS);
 
             super.onRestoreInstanceState(superState);
-            if (sortedColumnIndex != -1) {
-                sortingController.sort(sortedColumnIndex, sortingOrder);
+            if (sortingKeys != null && !sortingKeys.isEmpty()) {
+                sortingController.sortByKeys(sortingKeys, false);
             }
         }
     }
@@ -231,27 +435,46 @@ public class SortableTableView<T> extends TableView<T> {
 
         private final Set<SortingStatusChangeListener> sortingStatusListeners = new HashSet<>();
         private final SparseArray<Comparator<T>> comparators = new SparseArray<>();
+        private final SparseArray<ColumnSortKeys<T>> sortKeys = new SparseArray<>();
         private final SortingStatus sortingStatus = new SortingStatus();
+        private final Handler mainHandler = new Handler(Looper.getMainLooper());
+
+        private Comparator<T> sortingKeysComparator;
+        private List<SortingKey> requestedSortingKeys = new ArrayList<>();
+        private boolean sortedBySortingStatus = false;
+        private Comparator<T> rowOrderComparator;
 
-        private Comparator<T> sortedColumnComparator;
+        private boolean asyncSortingEnabled = false;
+        private int sortingGeneration = 0;
+        private Future<?> pendingSorting;
+        private Runnable pendingSortedCallback;
 
         @Override
         public void onHeaderClicked(final int columnIndex) {
-            if (comparators.get(columnIndex) == null) {
-                Log.i(LOG_TAG, "Unable to sort column with index " + columnIndex + ". Reason: no comparator set for this column.");
-                return;
-            }
-
             final SortingOrder sortingOrder = getSortingOrder(columnIndex);
-            sortedColumnComparator = getComparator(columnIndex, sortingOrder);
+            sortByKeys(Collections.singletonList(new SortingKey(columnIndex, sortingOrder)), true);
+        }
 
-            sortingStatus.setSortedColumnIndex(columnIndex);
-            sortingStatus.setSortedOrder(sortingOrder);
+        private void onHeaderLongClicked(final int columnIndex) {
+            if (requestedSortingKeys.isEmpty()) {
+                onHeaderClicked(columnIndex);
+                return;
+            }
 
-            sortDataSFCT(sortedColumnComparator);
-            setSortView(columnIndex);
+            final List<SortingKey> sortingKeys = new ArrayList<>(requestedSortingKeys);
+            for (int i = 0; i < sortingKeys.size(); i++) {
+                final SortingKey sortingKey = sortingKeys.get(i);
+                if (sortingKey.getColumnIndex() == columnIndex) {
+                    final SortingOrder sortingOrder = sortingKey.getSortingOrder() == SortingOrder.ASCENDING
+                            ? SortingOrder.DESCENDING : SortingOrder.ASCENDING;
+                    sortingKeys.set(i, new SortingKey(columnIndex, sortingOrder));
+                    sortByKeys(sortingKeys, true);
+                    return;
+                }
+            }
 
-            notifySortingStatusListeners();
+            sortingKeys.add(new SortingKey(columnIndex, SortingOrder.ASCENDING));
+            sortByKeys(sortingKeys, true);
         }
 
         private void notifySortingStatusListeners() {
@@ -261,49 +484,415 @@ public class SortableTableView<T> extends TableView<T> {
         }
 
         private SortingOrder getSortingOrder(int columnIndex) {
-            if (sortingStatus.getSortedColumnIndex() == columnIndex && sortingStatus.getSortedOrder() == SortingOrder.ASCENDING) {
+            if (!requestedSortingKeys.isEmpty()
+                    && requestedSortingKeys.get(0).equals(new SortingKey(columnIndex, SortingOrder.ASCENDING))) {
                 return SortingOrder.DESCENDING;
             }
             return SortingOrder.ASCENDING;
         }
 
         public void sort(final int columnIndex, final SortingOrder sortingOrder) {
-            if (comparators.get(columnIndex) == null) {
-                Log.i(LOG_TAG, "Unable to sort column with index " + columnIndex + ". Reason: no comparator set for this column.");
+            sortByKeys(Collections.singletonList(new SortingKey(columnIndex, sortingOrder)), false);
+        }
+
+        private void sortByKeys(final List<SortingKey> keys, final boolean notifyListeners) {
+            final boolean sortByDataSource = canSortByDataSource(keys);
+            for (final SortingKey sortingKey : keys) {
+                if (!sortByDataSource && comparators.get(sortingKey.getColumnIndex()) == null) {
+                    Log.i(LOG_TAG, "Unable to sort column with index " + sortingKey.getColumnIndex() + ". Reason: no comparator set for this column.");
+                    return;
+                }
+            }
+            if (!sortByDataSource && !getDataAdapter().isFullyLoaded()) {
+                Log.i(LOG_TAG, "Unable to sort the table data. Reason: the rows of the data adapter are loaded on demand.");
                 return;
             }
 
-            Comparator<T> columnComparator = comparators.get(columnIndex);
-            if (sortingOrder == SortingOrder.DESCENDING) {
-                columnComparator = Collections.reverseOrder(columnComparator);
+            final List<SortingKey> sortingKeys = new ArrayList<>(keys);
+            final Runnable sortedCallback = new Runnable() {
+                @Override
+                public void run() {
+                    sortedBySortingStatus = true;
+                    sortingStatus.setSortingKeys(sortingKeys);
+                    setSortViews();
+
+                    if (notifyListeners) {
+                        notifySortingStatusListeners();
+                    }
+                }
+            };
+
+            if (sortByDataSource) {
+                // the data source sorts the rows itself (e.g. a database query), so no row order is needed
+                cancelPendingSorting();
+                final Runnable failedCallback = createSortByDataSourceFailedCallback(sortingKeys);
+                sortingKeysComparator = null;
+                requestedSortingKeys = sortingKeys;
+                sortedBySortingStatus = false;
+                if (getDataAdapter().getRowOrder() != null) {
+                    publishRowOrder(null, null, null);
+                }
+                getDataAdapter().sortByDataSource(sortingKeys, sortedCallback, failedCallback);
+                return;
             }
 
-            sortedColumnComparator = columnComparator;
-            sortingStatus.setSortedColumnIndex(columnIndex);
-            sortingStatus.setSortedOrder(sortingOrder);
+            if (canReverseRowOrder(sortingKeys)) {
+                // the rows are already sorted by this column, so they only need to be reversed
+                final int[] rowOrder = getDataAdapter().getRowOrder();
+                RowOrderSorter.reverse(rowOrder, new DataIndexComparator<>(getDataAdapter().getData(), rowOrderComparator));
+
+                sortingKeysComparator = getComparator(sortingKeys);
+                requestedSortingKeys = sortingKeys;
+                publishRowOrder(rowOrder, sortingKeysComparator, sortedCallback);
+                return;
+            }
 
-            sortDataSFCT(columnComparator);
-            setSortView(columnIndex);
+            // the rows are already sorted by the keys both sortings start with, so only the runs of rows that
+            // are equal regarding these keys need to be sorted by the remaining keys
+            final int sharedKeyCount = getSharedKeyCount(sortingKeys);
+
+            sortingKeysComparator = getComparator(sortingKeys);
+            requestedSortingKeys = sortingKeys;
+            sortDataSFCT(new SortingTask(sortingKeysComparator, sortingKeys, sharedKeyCount), sortedCallback);
+        }
+
+        private boolean canSortByDataSource(final List<SortingKey> sortingKeys) {
+            for (final SortingKey sortingKey : sortingKeys) {
+                if (!getDataAdapter().canSortByDataSource(sortingKey.getColumnIndex())) {
+                    return false;
+                }
+            }
+            return !sortingKeys.isEmpty();
+        }
+
+        private boolean canReverseRowOrder(final List<SortingKey> sortingKeys) {
+            final List<SortingKey> sortedKeys = sortingStatus.getSortingKeys();
+            return isRowOrderSortedByStatus() && sortedKeys.size() == 1 && sortingKeys.size() == 1
+                    && sortedKeys.get(0).getColumnIndex() == sortingKeys.get(0).getColumnIndex()
+                    && sortedKeys.get(0).getSortingOrder() != sortingKeys.get(0).getSortingOrder();
+        }
+
+        /**
+         * Gives the number of keys the given sorting keys start with, that the rows are currently sorted by. At
+         * least the last of the given keys is not counted as shared, so there is always a key left to sort by.
+         */
+        private int getSharedKeyCount(final List<SortingKey> sortingKeys) {
+            if (!isRowOrderSortedByStatus()) {
+                return 0;
+            }
+
+            final List<SortingKey> sortedKeys = sortingStatus.getSortingKeys();
+            int sharedKeyCount = 0;
+            while (sharedKeyCount < sortedKeys.size() && sharedKeyCount < sortingKeys.size() - 1
+                    && sortedKeys.get(sharedKeyCount).equals(sortingKeys.get(sharedKeyCount))) {
+                sharedKeyCount++;
+            }
+            return sharedKeyCount;
         }
 
-        private void setSortView(final int columnIndex) {
+        private boolean isRowOrderSortedByStatus() {
+            final int[] rowOrder = getDataAdapter().getRowOrder();
+            return pendingSorting == null && sortedBySortingStatus
+                    && rowOrder != null && rowOrder.length == getDataAdapter().getData().size();
+        }
+
+        private void setSortViews() {
             sortableTableHeaderView.resetSortViews();
-            if (sortingStatus.getSortedOrder() == SortingOrder.ASCENDING) {
-                sortableTableHeaderView.setSortState(columnIndex, SortState.SORTED_ASC);
-            } else {
-                sortableTableHeaderView.setSortState(columnIndex, SortState.SORTED_DESC);
+
+            final List<SortingKey> sortingKeys = sortingStatus.getSortingKeys();
+            for (int i = 0; i < sortingKeys.size(); i++) {
+                final SortingKey sortingKey = sortingKeys.get(i);
+                if (sortingKey.getSortingOrder() == SortingOrder.ASCENDING) {
+                    sortableTableHeaderView.setSortState(sortingKey.getColumnIndex(), SortState.SORTED_ASC);
+                } else {
+                    sortableTableHeaderView.setSortState(sortingKey.getColumnIndex(), SortState.SORTED_DESC);
+                }
+
+                if (sortingKeys.size() > 1) {
+                    sortableTableHeaderView.setSortPriority(sortingKey.getColumnIndex(), i + 1);
+                }
             }
         }
 
+        private void clearSorting() {
+            cancelPendingSorting();
+
+            final List<SortingKey> sortingKeys = new ArrayList<>();
+            final Runnable failedCallback = createSortByDataSourceFailedCallback(sortingKeys);
+            sortingKeysComparator = null;
+            requestedSortingKeys = sortingKeys;
+            sortedBySortingStatus = false;
+            sortingStatus.setSortingKeys(Collections.<SortingKey>emptyList());
+            sortableTableHeaderView.resetSortViews();
+
+            publishRowOrder(null, null, null);
+            getDataAdapter().sortByDataSource(sortingKeys, null, failedCallback);
+            notifySortingStatusListeners();
+        }
+
+        private Runnable createSortByDataSourceFailedCallback(final List<SortingKey> sortingKeys) {
+            final List<SortingKey> displayedSortingKeys = new ArrayList<>(sortingStatus.getSortingKeys());
+            return new Runnable() {
+                @Override
+                public void run() {
+                    if (requestedSortingKeys != sortingKeys) {
+                        // another sorting has been requested meanwhile
+                        return;
+                    }
+
+                    // the data source still displays the rows in the previous order, so the sorting is reverted
+                    requestedSortingKeys = displayedSortingKeys;
+                    if (!sortingStatus.getSortingKeys().equals(displayedSortingKeys)) {
+                        sortingStatus.setSortingKeys(displayedSortingKeys);
+                        setSortViews();
+                        notifySortingStatusListeners();
+                    }
+                }
+            };
+        }
+
         private void recapSorting() {
-            sortDataSFCT(sortedColumnComparator);
+            final int[] rowOrder = getDataAdapter().getRowOrder();
+            if (rowOrder != null && rowOrder.length != getDataAdapter().getData().size()) {
+                // show the data unsorted until the new row order is available
+                getDataAdapter().setRowOrder(null);
+            }
+
+            if (sortingKeysComparator == null) {
+                return;
+            }
+
+            // the callback of a pending sorting is passed on, as this sorting makes the pending one obsolete
+            final Runnable pendingCallback = pendingSortedCallback;
+            sortDataSFCT(new SortingTask(sortingKeysComparator, requestedSortingKeys, 0), new Runnable() {
+                @Override
+                public void run() {
+                    sortedBySortingStatus = true;
+                    if (pendingCallback != null) {
+                        pendingCallback.run();
+                    }
+                }
+            });
         }
 
         private void sortDataSFCT(final Comparator<T> comparator) {
-            if (comparator != null) {
-                final List<T> data = getDataAdapter().getData();
-                Collections.sort(data, comparator);
-                getDataAdapter().notifyDataSetChanged();
+            sortDataSFCT(comparator, new Runnable() {
+                @Override
+                public void run() {
+                    sortedBySortingStatus = false;
+                }
+            });
+        }
+
+        private void sortDataSFCT(final Comparator<T> comparator, final Runnable sortedCallback) {
+            if (comparator == null) {
+                return;
+            }
+            sortDataSFCT(new SortingTask(comparator, null, 0), sortedCallback);
+        }
+
+        private void sortDataSFCT(final SortingTask sortingTask, final Runnable sortedCallback) {
+            cancelPendingSorting();
+            if (!getDataAdapter().isFullyLoaded()) {
+                Log.i(LOG_TAG, "Unable to sort the table data. Reason: the rows of the data adapter are loaded on demand.");
+                return;
+            }
+
+            final List<T> data = getDataAdapter().getData();
+            final int[] rowOrder = createInitialRowOrder(data.size());
+
+            if (!asyncSortingEnabled) {
+                sortingTask.loadKeys(data);
+                sortingTask.sort(rowOrder, data, false);
+                publishRowOrder(rowOrder, sortingTask.comparator, sortedCallback);
+                return;
+            }
+
+            final int generation = sortingGeneration;
+            final List<T> dataSnapshot = new ArrayList<>(data);
+            sortingTask.copyKeys(data.size());
+            pendingSortedCallback = sortedCallback;
+            pendingSorting = getSortingExecutor().submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        sortingTask.extractMissingKeys(dataSnapshot);
+                        sortingTask.sort(rowOrder, dataSnapshot, true);
+                    } catch (final CancellationException e) {
+                        return;
+                    } catch (final RuntimeException e) {
+                        Log.e(LOG_TAG, "Unable to sort the table data. Caught exception: " + e.toString());
+                        return;
+                    }
+
+                    mainHandler.post(new Runnable() {
+                        @Override
+                        public void run() {
+                            publishRowOrder(generation, rowOrder, sortingTask, sortedCallback);
+                        }
+                    });
+                }
+            });
+        }
+
+        /**
+         * Gives the row order the sorting starts with. This is the current row order if it is still valid, so
+         * equal rows keep their current position.
+         */
+        private int[] createInitialRowOrder(final int rowCount) {
+            final int[] currentRowOrder = getDataAdapter().getRowOrder();
+            if (currentRowOrder != null && currentRowOrder.length == rowCount) {
+                return currentRowOrder.clone();
+            }
+            return RowOrderSorter.identity(rowCount);
+        }
+
+        private void publishRowOrder(final int generation, final int[] rowOrder,
+                                     final SortingTask sortingTask, final Runnable sortedCallback) {
+            if (generation != sortingGeneration) {
+                // outdated result of a cancelled sorting
+                return;
+            }
+            pendingSorting = null;
+            pendingSortedCallback = null;
+
+            if (getDataAdapter().getData().size() != rowOrder.length) {
+                // the data has been changed meanwhile without notifying the adapter
+                sortDataSFCT(new SortingTask(sortingTask.comparator, sortingTask.sortingKeys, 0), sortedCallback);
+                return;
+            }
+
+            sortingTask.storeKeys();
+            publishRowOrder(rowOrder, sortingTask.comparator, sortedCallback);
+        }
+
+        private void publishRowOrder(final int[] rowOrder, final Comparator<T> comparator, final Runnable sortedCallback) {
+            rowOrderComparator = comparator;
+            getDataAdapter().setRowOrder(rowOrder);
+            getDataAdapter().notifyRowOrderChanged();
+
+            if (sortedCallback != null) {
+                sortedCallback.run();
+            }
+        }
+
+        private void onDataSetChanged() {
+            for (int i = 0; i < sortKeys.size(); i++) {
+                sortKeys.valueAt(i).clear();
+            }
+            recapSorting();
+        }
+
+        private void onRowsInserted(final int dataIndexStart, final int rowCount) {
+            for (int i = 0; i < sortKeys.size(); i++) {
+                sortKeys.valueAt(i).onRowsInserted(dataIndexStart, rowCount);
+            }
+
+            final int[] rowOrder = getDataAdapter().getRowOrder();
+            if (rowOrder == null) {
+                // the data is displayed unsorted
+                return;
+            }
+
+            final List<T> data = getDataAdapter().getData();
+            if (pendingSorting != null || rowOrder.length + rowCount != data.size()) {
+                recapSorting();
+                return;
+            }
+
+            RowOrderSorter.shift(rowOrder, dataIndexStart, rowCount);
+            final int[] insertedDataIndices = new int[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                insertedDataIndices[i] = dataIndexStart + i;
+            }
+            getDataAdapter().setRowOrder(RowOrderSorter.insert(rowOrder, insertedDataIndices,
+                    new DataIndexComparator<>(data, rowOrderComparator)));
+        }
+
+        private void onRowsChanged(final int dataIndexStart, final int rowCount) {
+            for (int i = 0; i < sortKeys.size(); i++) {
+                sortKeys.valueAt(i).onRowsChanged(dataIndexStart, rowCount);
+            }
+
+            final int[] rowOrder = getDataAdapter().getRowOrder();
+            if (rowOrder == null) {
+                // the data is displayed unsorted
+                return;
+            }
+
+            final List<T> data = getDataAdapter().getData();
+            if (pendingSorting != null || rowOrder.length != data.size()) {
+                recapSorting();
+                return;
+            }
+
+            final int[] changedDataIndices = new int[rowCount];
+            for (int i = 0; i < rowCount; i++) {
+                changedDataIndices[i] = dataIndexStart + i;
+            }
+            final int[] remainingRowOrder = RowOrderSorter.remove(rowOrder, dataIndexStart, rowCount);
+            getDataAdapter().setRowOrder(RowOrderSorter.insert(remainingRowOrder, changedDataIndices,
+                    new DataIndexComparator<>(data, rowOrderComparator)));
+        }
+
+        private void onRowsRemoved(final int dataIndexStart, final int rowCount) {
+            for (int i = 0; i < sortKeys.size(); i++) {
+                sortKeys.valueAt(i).onRowsRemoved(dataIndexStart, rowCount);
+            }
+
+            final int[] rowOrder = getDataAdapter().getRowOrder();
+            if (rowOrder == null) {
+                // the data is displayed unsorted
+                return;
+            }
+
+            if (pendingSorting != null || rowOrder.length - rowCount != getDataAdapter().getData().size()) {
+                recapSorting();
+                return;
+            }
+
+            final int[] remainingRowOrder = RowOrderSorter.remove(rowOrder, dataIndexStart, rowCount);
+            RowOrderSorter.shift(remainingRowOrder, dataIndexStart, -rowCount);
+            getDataAdapter().setRowOrder(remainingRowOrder);
+        }
+
+        private void onBatchApplied(final DataChangeBatch batch) {
+            for (int i = 0; i < sortKeys.size(); i++) {
+                sortKeys.valueAt(i).onBatchApplied(batch);
+            }
+
+            final int[] rowOrder = getDataAdapter().getRowOrder();
+            if (rowOrder == null) {
+                // the data is displayed unsorted
+                return;
+            }
+
+            final List<T> data = getDataAdapter().getData();
+            if (pendingSorting != null || rowOrder.length != batch.getOldRowCount()
+                    || batch.getNewRowCount() != data.size()) {
+                recapSorting();
+                return;
+            }
+
+            // the kept rows keep their order, so only the inserted and updated rows are sorted into them at once
+            final int[] remainingRowOrder = new int[rowOrder.length];
+            int remainingRowCount = 0;
+            for (final int dataIndex : rowOrder) {
+                final int newDataIndex = batch.getNewDataIndex(dataIndex);
+                if (newDataIndex >= 0) {
+                    remainingRowOrder[remainingRowCount++] = newDataIndex;
+                }
+            }
+            getDataAdapter().setRowOrder(RowOrderSorter.insert(Arrays.copyOf(remainingRowOrder, remainingRowCount),
+                    batch.getChangedDataIndices().clone(), new DataIndexComparator<>(data, rowOrderComparator)));
+        }
+
+        private void cancelPendingSorting() {
+            sortingGeneration++;
+            pendingSortedCallback = null;
+            if (pendingSorting != null) {
+                pendingSorting.cancel(true);
+                pendingSorting = null;
             }
         }
 
@@ -311,6 +900,18 @@ public class SortableTableView<T> extends TableView<T> {
             return comparators.get(columnIndex);
         }
 
+        private Comparator<T> getComparator(final List<SortingKey> sortingKeys) {
+            if (sortingKeys.size() == 1) {
+                return getComparator(sortingKeys.get(0).getColumnIndex(), sortingKeys.get(0).getSortingOrder());
+            }
+
+            final List<Comparator<T>> keyComparators = new ArrayList<>();
+            for (final SortingKey sortingKey : sortingKeys) {
+                keyComparators.add(getComparator(sortingKey.getColumnIndex(), sortingKey.getSortingOrder()));
+            }
+            return new CompoundComparator<>(keyComparators);
+        }
+
         private Comparator<T> getComparator(final int columnIndex, final SortingOrder sortingOrder) {
             final Comparator<T> columnComparator = comparators.get(columnIndex);
 
@@ -322,6 +923,16 @@ public class SortableTableView<T> extends TableView<T> {
         }
 
         public void setComparator(final int columnIndex, final Comparator<T> columnComparator) {
+            sortKeys.remove(columnIndex);
+            setColumnComparator(columnIndex, columnComparator);
+        }
+
+        private void setSortKeys(final int columnIndex, final ColumnSortKeys<T> columnSortKeys) {
+            sortKeys.put(columnIndex, columnSortKeys);
+            setColumnComparator(columnIndex, columnSortKeys.getComparator());
+        }
+
+        private void setColumnComparator(final int columnIndex, final Comparator<T> columnComparator) {
             if (columnComparator == null) {
                 comparators.remove(columnIndex);
                 sortableTableHeaderView.setSortState(columnIndex, SortState.NOT_SORTABLE);
@@ -331,28 +942,257 @@ public class SortableTableView<T> extends TableView<T> {
             }
         }
 
+        /**
+         * A sorting of the data, either by a {@link Comparator} or by {@link SortingKey}s. The keys of columns
+         * with {@link ColumnSortKeys} are taken from their cache, so they are extracted only once per row.
+         *
+         * @author ISchwarz
+         */
+        private class SortingTask {
+
+            private final Comparator<T> comparator;
+            private final List<SortingKey> sortingKeys;
+            private final int sharedKeyCount;
+            private final List<Comparator<T>> keyComparators = new ArrayList<>();
+            private final SparseArray<ColumnSortKeys<T>> columnSortKeys = new SparseArray<>();
+            private final SparseArray<ColumnSortKeys.Keys> keys = new SparseArray<>();
+
+            /**
+             * Creates a new {@link SortingTask}.
+             *
+             * @param comparator     The {@link Comparator} the data is sorted with.
+             * @param sortingKeys    The {@link SortingKey}s the given comparator is made of or {@code NULL}, if the
+             *                       data is sorted by a custom comparator.
+             * @param sharedKeyCount The number of sorting keys, by which the current row order is already sorted.
+             */
+            SortingTask(final Comparator<T> comparator, final List<SortingKey> sortingKeys, final int sharedKeyCount) {
+                this.comparator = comparator;
+                this.sortingKeys = sortingKeys;
+                this.sharedKeyCount = sharedKeyCount;
+
+                if (sortingKeys != null) {
+                    for (final SortingKey sortingKey : sortingKeys) {
+                        final int columnIndex = sortingKey.getColumnIndex();
+                        keyComparators.add(getComparator(columnIndex, sortingKey.getSortingOrder()));
+                        if (sortKeys.get(columnIndex) != null) {
+                            columnSortKeys.put(columnIndex, sortKeys.get(columnIndex));
+                        }
+                    }
+                }
+            }
+
+            private void loadKeys(final List<T> data) {
+                for (int i = 0; i < columnSortKeys.size(); i++) {
+                    keys.put(columnSortKeys.keyAt(i), columnSortKeys.valueAt(i).getKeys(data));
+                }
+            }
+
+            private void copyKeys(final int rowCount) {
+                for (int i = 0; i < columnSortKeys.size(); i++) {
+                    keys.put(columnSortKeys.keyAt(i), columnSortKeys.valueAt(i).copyKeys(rowCount));
+                }
+            }
+
+            private void extractMissingKeys(final List<T> data) {
+                for (int i = 0; i < columnSortKeys.size(); i++) {
+                    columnSortKeys.valueAt(i).extractMissingKeys(data, keys.get(columnSortKeys.keyAt(i)));
+                }
+            }
+
+            private void storeKeys() {
+                for (int i = 0; i < columnSortKeys.size(); i++) {
+                    columnSortKeys.valueAt(i).setKeys(keys.get(columnSortKeys.keyAt(i)));
+                }
+            }
+
+            private void sort(final int[] rowOrder, final List<T> data, final boolean interruptible) {
+                if (sortingKeys == null) {
+                    RowOrderSorter.sort(rowOrder, wrap(new DataIndexComparator<>(data, comparator), interruptible));
+                } else if (sharedKeyCount > 0) {
+                    // the rows are already sorted by the keys both sortings start with, so only the runs of rows
+                    // that are equal regarding these keys need to be sorted by the remaining keys
+                    RowOrderSorter.sortRuns(rowOrder,
+                            wrap(createIndexComparator(data, 0, sharedKeyCount), interruptible),
+                            wrap(createIndexComparator(data, sharedKeyCount, sortingKeys.size()), interruptible));
+                } else if (!sortBySpecializedSort(rowOrder)) {
+                    RowOrderSorter.sort(rowOrder, wrap(createIndexComparator(data, 0, sortingKeys.size()), interruptible));
+                }
+            }
+
+            /**
+             * Sorts the given row order with the sort specialized to the type of the keys (e.g. a radix sort for
+             * primitive keys), if the data is sorted by a single column with cached keys.
+             */
+            private boolean sortBySpecializedSort(final int[] rowOrder) {
+                if (sortingKeys.size() != 1) {
+                    return false;
+                }
+
+                final SortingKey sortingKey = sortingKeys.get(0);
+                final ColumnSortKeys.Keys columnKeys = keys.get(sortingKey.getColumnIndex());
+                return columnKeys != null && columnSortKeys.get(sortingKey.getColumnIndex())
+                        .sort(rowOrder, columnKeys, sortingKey.getSortingOrder());
+            }
+
+            private IndexComparator createIndexComparator(final List<T> data, final int fromKey, final int toKey) {
+                final List<IndexComparator> indexComparators = new ArrayList<>();
+                for (int i = fromKey; i < toKey; i++) {
+                    final SortingKey sortingKey = sortingKeys.get(i);
+                    final ColumnSortKeys.Keys columnKeys = keys.get(sortingKey.getColumnIndex());
+                    if (columnKeys != null) {
+                        indexComparators.add(columnSortKeys.get(sortingKey.getColumnIndex())
+                                .createIndexComparator(columnKeys, sortingKey.getSortingOrder()));
+                    } else {
+                        indexComparators.add(new DataIndexComparator<>(data, keyComparators.get(i)));
+                    }
+                }
+
+                if (indexComparators.size() == 1) {
+                    return indexComparators.get(0);
+                }
+                return new CompoundIndexComparator(indexComparators);
+            }
+
+            private IndexComparator wrap(final IndexComparator indexComparator, final boolean interruptible) {
+                if (interruptible) {
+                    return new InterruptibleIndexComparator(indexComparator);
+                }
+                return indexComparator;
+            }
+        }
+
     }
 
 
     /**
-     * Implementation of {@link DataSetObserver} that will trigger the sorting of the data if the data has changed.
+     * Implementation of {@link TableDataChangeObserver} that will update the sorting of the data if the data has
+     * changed. Only the affected rows are sorted, if the {@link TableDataAdapter} tells which rows have changed.
      *
      * @author ISchwarz
      */
-    private class RecapSortingDataSetObserver extends DataSetObserver {
+    private class RecapSortingDataChangeObserver implements TableDataChangeObserver {
 
-        private boolean initializedByMyself = false;
+        @Override
+        public void onDataSetChanged() {
+            sortingController.onDataSetChanged();
+        }
 
         @Override
-        public void onChanged() {
-            if (initializedByMyself) {
-                initializedByMyself = false;
-            } else {
-                initializedByMyself = true;
-                sortingController.recapSorting();
+        public void onRowsInserted(final int dataIndexStart, final int rowCount) {
+            sortingController.onRowsInserted(dataIndexStart, rowCount);
+        }
+
+        @Override
+        public void onRowsChanged(final int dataIndexStart, final int rowCount) {
+            sortingController.onRowsChanged(dataIndexStart, rowCount);
+        }
+
+        @Override
+        public void onRowsRemoved(final int dataIndexStart, final int rowCount) {
+            sortingController.onRowsRemoved(dataIndexStart, rowCount);
+        }
+
+        @Override
+        public void onBatchApplied(final DataChangeBatch batch) {
+            sortingController.onBatchApplied(batch);
+        }
+
+    }
+
+    /**
+     * A {@link Comparator} that compares the data objects with the given {@link Comparator}s one after another,
+     * until one of them finds a difference.
+     *
+     * @author ISchwarz
+     */
+    private static class CompoundComparator<T> implements Comparator<T> {
+
+        private final List<Comparator<T>> comparators;
+
+        CompoundComparator(final List<Comparator<T>> comparators) {
+            this.comparators = comparators;
+        }
+
+        @Override
+        public int compare(final T object1, final T object2) {
+            for (final Comparator<T> comparator : comparators) {
+                final int result = comparator.compare(object1, object2);
+                if (result != 0) {
+                    return result;
+                }
             }
+            return 0;
         }
+    }
 
+    /**
+     * An {@link IndexComparator} that compares the data objects at the given indices using a {@link Comparator}.
+     *
+     * @author ISchwarz
+     */
+    private static class DataIndexComparator<T> implements IndexComparator {
+
+        private final List<T> data;
+        private final Comparator<T> comparator;
+
+        DataIndexComparator(final List<T> data, final Comparator<T> comparator) {
+            this.data = data;
+            this.comparator = comparator;
+        }
+
+        @Override
+        public int compare(final int dataIndex1, final int dataIndex2) {
+            return comparator.compare(data.get(dataIndex1), data.get(dataIndex2));
+        }
+    }
+
+    /**
+     * An {@link IndexComparator} that compares the rows with the given {@link IndexComparator}s one after another,
+     * until one of them finds a difference.
+     *
+     * @author ISchwarz
+     */
+    private static class CompoundIndexComparator implements IndexComparator {
+
+        private final IndexComparator[] comparators;
+
+        CompoundIndexComparator(final List<IndexComparator> comparators) {
+            this.comparators = comparators.toArray(new IndexComparator[comparators.size()]);
+        }
+
+        @Override
+        public int compare(final int dataIndex1, final int dataIndex2) {
+            for (final IndexComparator comparator : comparators) {
+                final int result = comparator.compare(dataIndex1, dataIndex2);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
+
+    /**
+     * An {@link IndexComparator} that aborts the sorting with a {@link CancellationException} as soon as the
+     * sorting thread gets interrupted.
+     *
+     * @author ISchwarz
+     */
+    private static class InterruptibleIndexComparator implements IndexComparator {
+
+        private final IndexComparator delegate;
+
+        InterruptibleIndexComparator(final IndexComparator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public int compare(final int dataIndex1, final int dataIndex2) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new CancellationException();
+            }
+            return delegate.compare(dataIndex1, dataIndex2);
+        }
     }
 
 }
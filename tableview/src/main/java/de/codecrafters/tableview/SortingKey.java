@@ -0,0 +1,73 @@
+package de.codecrafters.tableview;
+
+import java.io.Serializable;
+
+
+/**
+ * A key the {@link SortableTableView} is sorted by. It consists of the index of the column and the order in which
+ * this column is sorted. If a table is sorted by multiple keys, rows that are equal regarding a key are sorted by
+ * the next key.
+ *
+ * @author ISchwarz
+ */
+public final class SortingKey implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int columnIndex;
+    private final SortingOrder sortingOrder;
+
+    /**
+     * Creates a new {@link SortingKey}.
+     *
+     * @param columnIndex  The index of the column that shall be sorted.
+     * @param sortingOrder The order in which the column shall be sorted.
+     */
+    public SortingKey(final int columnIndex, final SortingOrder sortingOrder) {
+        if (sortingOrder == null) {
+            throw new IllegalArgumentException("The sorting order of a sorting key must not be null.");
+        }
+        this.columnIndex = columnIndex;
+        this.sortingOrder = sortingOrder;
+    }
+
+    /**
+     * Gives the index of the column that is sorted by this key.
+     *
+     * @return The index of the column that is sorted by this key.
+     */
+    public int getColumnIndex() {
+        return columnIndex;
+    }
+
+    /**
+     * Gives the order in which the column of this key is sorted.
+     *
+     * @return The order in which the column of this key is sorted.
+     */
+    public SortingOrder getSortingOrder() {
+        return sortingOrder;
+    }
+
+    @Override
+    public boolean equals(final Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof SortingKey)) {
+            return false;
+        }
+        final SortingKey other = (SortingKey) object;
+        return columnIndex == other.columnIndex && sortingOrder == other.sortingOrder;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * columnIndex + sortingOrder.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "SortingKey{columnIndex=" + columnIndex + ", sortingOrder=" + sortingOrder + "}";
+    }
+}
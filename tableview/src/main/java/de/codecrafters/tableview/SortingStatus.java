@@ -1,5 +1,9 @@
 package de.codecrafters.tableview;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * Class that represents the sorting status of a {@link SortableTableView}.
  *
@@ -7,8 +11,7 @@ package de.codecrafters.tableview;
  */
 public class SortingStatus {
 
-    private SortingOrder sortedOrder = null;
-    private int sortedColumnIndex = -1;
+    private final List<SortingKey> sortingKeys = new ArrayList<>();
 
     /**
      * Creates a new {@link SortingStatus} object.
@@ -18,49 +21,77 @@ public class SortingStatus {
     }
 
     /**
-     * Sets the new column index, by which the {@link SortableTableView} is currently sorted.
+     * Sets the keys, by which the {@link SortableTableView} is currently sorted.
      *
-     * @param sortedColumnIndex The new column index, by which the {@link SortableTableView} is currently sorted.
+     * @param sortingKeys The keys, by which the {@link SortableTableView} is currently sorted, ordered by their
+     *                    priority.
      */
-    void setSortedColumnIndex(final int sortedColumnIndex) {
-        this.sortedColumnIndex = sortedColumnIndex;
+    void setSortingKeys(final List<SortingKey> sortingKeys) {
+        this.sortingKeys.clear();
+        this.sortingKeys.addAll(sortingKeys);
     }
 
     /**
-     * Sots the order in which the {@link SortableTableView} is currently sorted.
+     * Indicates whether or not the {@link SortableTableView} is currently sorted.
      *
-     * @param sortedOrder The order in which the {@link SortableTableView} is currently sorted.
+     * @return {@code TRUE} if the {@link SortableTableView} is currently sorted, {@code FALSE} if the table
+     * is currently unsorted.
      */
-    void setSortedOrder(final SortingOrder sortedOrder) {
-        this.sortedOrder = sortedOrder;
+    public boolean isTableSorted() {
+        return !sortingKeys.isEmpty();
     }
 
     /**
-     * Indicates whether or not the {@link SortableTableView} is currently sorted.
+     * Gives the keys, by which the {@link SortableTableView} is currently sorted. The first key is the primary one,
+     * rows that are equal regarding a key are sorted by the following key.
      *
-     * @return {@code TRUE} if the {@link SortableTableView} is currently sorted, {@code FALSE} if the table
-     * is currently unsorted.
+     * @return The keys, by which the {@link SortableTableView} is currently sorted. The list is empty if the table
+     * is not sorted.
      */
-    public boolean isTableSorted() {
-        return sortedColumnIndex != -1;
+    public List<SortingKey> getSortingKeys() {
+        return Collections.unmodifiableList(new ArrayList<>(sortingKeys));
+    }
+
+    /**
+     * Gives the priority of the given column in the sorting of the {@link SortableTableView}.
+     *
+     * @param columnIndex The index of the column to get the priority of.
+     * @return The priority of the given column, starting with {@code 0} for the primary sorted column, or
+     * {@code -1} if the table is not sorted by the given column.
+     */
+    public int getSortingPriority(final int columnIndex) {
+        for (int i = 0; i < sortingKeys.size(); i++) {
+            if (sortingKeys.get(i).getColumnIndex() == columnIndex) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
-     * Gives the column index, by which the {@link SortableTableView} is currently sorted.
+     * Gives the column index, by which the {@link SortableTableView} is currently sorted. If the table is sorted
+     * by multiple columns, this is the index of the primary sorted column.
      *
      * @return The column index, by which the {@link SortableTableView} is currently sorted or {@code -1} if the table is not sorted.
      */
     public int getSortedColumnIndex() {
-        return sortedColumnIndex;
+        if (sortingKeys.isEmpty()) {
+            return -1;
+        }
+        return sortingKeys.get(0).getColumnIndex();
     }
 
     /**
-     * Gives the order in which the {@link SortableTableView} is currently sorted.
+     * Gives the order in which the {@link SortableTableView} is currently sorted. If the table is sorted by
+     * multiple columns, this is the order of the primary sorted column.
      *
      * @return The order in which the {@link SortableTableView} is currently sorted or {@code NULL} if the table
      * is not sorted.
      */
     public SortingOrder getSortedOrder() {
-        return sortedOrder;
+        if (sortingKeys.isEmpty()) {
+            return null;
+        }
+        return sortingKeys.get(0).getSortingOrder();
     }
 }
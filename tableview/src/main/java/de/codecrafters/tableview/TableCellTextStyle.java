@@ -0,0 +1,338 @@
+package de.codecrafters.tableview;
+
+import android.content.Context;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.support.v4.util.LruCache;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.util.TypedValue;
+import android.view.Gravity;
+
+
+/**
+ * The style of table cells that display a single line of text. If such a style is set to a {@link TableDataAdapter}
+ * (see {@link TableDataAdapter#setCellTextStyle(TableCellTextStyle)}), the cell texts are drawn directly by the rows
+ * using one shared {@link TextPaint}, instead of creating a view for every cell. Texts that do not fit into their
+ * column are ellipsized at the end. The ellipsized texts are kept in a cache of the
+ * {@value #TEXT_LAYOUT_CACHE_SIZE} most recently used texts per column width, so rows that display the same texts
+ * again do not measure them.
+ *
+ * @author ISchwarz
+ */
+public final class TableCellTextStyle {
+
+    private static final int TEXT_LAYOUT_CACHE_SIZE = 1024;
+
+    private final Context context;
+    private final TextPaint textPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final TextPaint backgroundTextPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
+    private final LruCache<TextLayoutKey, TextLayout> textLayoutCache = new LruCache<>(TEXT_LAYOUT_CACHE_SIZE);
+    private final Paint.FontMetricsInt fontMetrics = new Paint.FontMetricsInt();
+
+    private int paddingLeft = 20;
+    private int paddingTop = 15;
+    private int paddingRight = 20;
+    private int paddingBottom = 15;
+    private int textSize = 18;
+    private int typeface = Typeface.NORMAL;
+    private int textColor = 0x99000000;
+    private int gravity = Gravity.START;
+    private int version;
+
+
+    /**
+     * Creates a new TableCellTextStyle, using the default style of the
+     * {@link de.codecrafters.tableview.toolkit.SimpleTableDataAdapter}.
+     *
+     * @param context The context that shall be used.
+     */
+    public TableCellTextStyle(final Context context) {
+        this.context = context;
+        updateTextPaint();
+    }
+
+    /**
+     * Gives the padding on the left side of the cells.
+     *
+     * @return The padding on the left side in pixels.
+     */
+    public int getPaddingLeft() {
+        return paddingLeft;
+    }
+
+    /**
+     * Gives the padding on the top side of the cells.
+     *
+     * @return The padding on the top side in pixels.
+     */
+    public int getPaddingTop() {
+        return paddingTop;
+    }
+
+    /**
+     * Gives the padding on the right side of the cells.
+     *
+     * @return The padding on the right side in pixels.
+     */
+    public int getPaddingRight() {
+        return paddingRight;
+    }
+
+    /**
+     * Gives the padding on the bottom side of the cells.
+     *
+     * @return The padding on the bottom side in pixels.
+     */
+    public int getPaddingBottom() {
+        return paddingBottom;
+    }
+
+    /**
+     * Sets the padding of the cells.
+     *
+     * @param left   The padding on the left side.
+     * @param top    The padding on the top side.
+     * @param right  The padding on the right side.
+     * @param bottom The padding on the bottom side.
+     */
+    public void setPaddings(final int left, final int top, final int right, final int bottom) {
+        paddingLeft = left;
+        paddingTop = top;
+        paddingRight = right;
+        paddingBottom = bottom;
+        version++;
+    }
+
+    /**
+     * Gives the text size of the cells.
+     *
+     * @return The text size in scaled pixels (sp).
+     */
+    public int getTextSize() {
+        return textSize;
+    }
+
+    /**
+     * Sets the text size of the cells.
+     *
+     * @param textSize The text size in scaled pixels (sp).
+     */
+    public void setTextSize(final int textSize) {
+        this.textSize = textSize;
+        updateTextPaint();
+    }
+
+    /**
+     * Gives the typeface style of the cells.
+     *
+     * @return The typeface style (e.g. {@link Typeface#BOLD}).
+     */
+    public int getTypeface() {
+        return typeface;
+    }
+
+    /**
+     * Sets the typeface style of the cells.
+     *
+     * @param typeface The typeface style (e.g. {@link Typeface#BOLD}).
+     */
+    public void setTypeface(final int typeface) {
+        this.typeface = typeface;
+        updateTextPaint();
+    }
+
+    /**
+     * Gives the text color of the cells.
+     *
+     * @return The text color.
+     */
+    public int getTextColor() {
+        return textColor;
+    }
+
+    /**
+     * Sets the text color of the cells.
+     *
+     * @param textColor The text color.
+     */
+    public void setTextColor(final int textColor) {
+        this.textColor = textColor;
+        updateTextPaint();
+    }
+
+    /**
+     * Gives the gravity of the text inside the cells.
+     *
+     * @return The gravity of the text.
+     */
+    public int getGravity() {
+        return gravity;
+    }
+
+    /**
+     * Sets the gravity of the text inside the cells. (Hint: if the cells are drawn directly, only the horizontal
+     * gravity is respected. The text is always centered vertically.)
+     *
+     * @param gravity The gravity of the text.
+     */
+    public void setGravity(final int gravity) {
+        this.gravity = gravity;
+        version++;
+    }
+
+    /**
+     * Gives the paint that is used to draw the cell texts.
+     *
+     * @return The shared {@link TextPaint} of all cells.
+     */
+    TextPaint getTextPaint() {
+        return textPaint;
+    }
+
+    /**
+     * Gives the width that is available for the text of a cell in a column with the given width.
+     *
+     * @param columnWidth The width of the column.
+     * @return The width of the column without the paddings.
+     */
+    int getAvailableTextWidth(final int columnWidth) {
+        return columnWidth - paddingLeft - paddingRight;
+    }
+
+    /**
+     * Gives the layout of the given text, ellipsized to the given width. The layout is taken from the cache if it has
+     * been computed before.
+     *
+     * @param text           The text of the cell.
+     * @param availableWidth The width that is available for the text.
+     * @return The {@link TextLayout} of the given text.
+     */
+    TextLayout getTextLayout(final CharSequence text, final int availableWidth) {
+        final TextLayoutKey key = new TextLayoutKey(text, availableWidth);
+        TextLayout textLayout = textLayoutCache.get(key);
+        if (textLayout == null) {
+            textLayout = TextLayout.of(text, textPaint, availableWidth);
+            textLayoutCache.put(key, textLayout);
+        }
+        return textLayout;
+    }
+
+    /**
+     * Computes the layout of the given text and puts it into the cache, so drawing the text does not need to measure
+     * it anymore. (Hint: this method is meant to be called on a background thread)
+     *
+     * @param text           The text of the cell.
+     * @param availableWidth The width that is available for the text.
+     */
+    void precomputeTextLayout(final CharSequence text, final int availableWidth) {
+        final TextLayoutKey key = new TextLayoutKey(text, availableWidth);
+        // the lock ensures the layout is not computed with a paint that is changed in the meantime
+        synchronized (backgroundTextPaint) {
+            if (textLayoutCache.get(key) == null) {
+                textLayoutCache.put(key, TextLayout.of(text, backgroundTextPaint, availableWidth));
+            }
+        }
+    }
+
+    /**
+     * Gives the height of a cell, including the paddings.
+     *
+     * @return The cell height in pixels.
+     */
+    int getCellHeight() {
+        return paddingTop + fontMetrics.bottom - fontMetrics.top + paddingBottom;
+    }
+
+    /**
+     * Gives the offset of the text baseline from the top of a cell, including the top padding.
+     *
+     * @return The baseline offset in pixels.
+     */
+    int getBaseline() {
+        return paddingTop - fontMetrics.top;
+    }
+
+    /**
+     * Gives the version of this style, which is increased on every change. (Hint: use this method to detect if a
+     * cell view has to be styled again)
+     *
+     * @return The version of this style.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    private void updateTextPaint() {
+        textPaint.setTextSize(TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, textSize, context.getResources().getDisplayMetrics()));
+        textPaint.setColor(textColor);
+
+        // like a TextView, fake the parts of the style the default typeface does not provide
+        final Typeface defaultTypeface = Typeface.defaultFromStyle(typeface);
+        final int missingStyle = typeface & ~defaultTypeface.getStyle();
+        textPaint.setTypeface(defaultTypeface);
+        textPaint.setFakeBoldText((missingStyle & Typeface.BOLD) != 0);
+        textPaint.setTextSkewX((missingStyle & Typeface.ITALIC) != 0 ? -0.25f : 0);
+
+        textPaint.getFontMetricsInt(fontMetrics);
+        version++;
+
+        synchronized (backgroundTextPaint) {
+            backgroundTextPaint.set(textPaint);
+            textLayoutCache.evictAll();
+        }
+    }
+
+    /**
+     * The text of a cell, ellipsized to the width available in its column.
+     *
+     * @author ISchwarz
+     */
+    static final class TextLayout {
+
+        final CharSequence text;
+        final int width;
+
+        private TextLayout(final CharSequence text, final int width) {
+            this.text = text;
+            this.width = width;
+        }
+
+        private static TextLayout of(final CharSequence text, final TextPaint textPaint, final int availableWidth) {
+            final CharSequence ellipsizedText = TextUtils.ellipsize(text, textPaint, availableWidth, TextUtils.TruncateAt.END);
+            final float width = textPaint.measureText(ellipsizedText, 0, ellipsizedText.length());
+            return new TextLayout(ellipsizedText, (int) Math.ceil(width));
+        }
+    }
+
+    /**
+     * The key of a {@link TextLayout} in the cache.
+     *
+     * @author ISchwarz
+     */
+    private static final class TextLayoutKey {
+
+        private final String text;
+        private final int availableWidth;
+
+        private TextLayoutKey(final CharSequence text, final int availableWidth) {
+            this.text = text.toString();
+            this.availableWidth = availableWidth;
+        }
+
+        @Override
+        public boolean equals(final Object other) {
+            if (!(other instanceof TextLayoutKey)) {
+                return false;
+            }
+            final TextLayoutKey otherKey = (TextLayoutKey) other;
+            return availableWidth == otherKey.availableWidth && text.equals(otherKey.text);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * text.hashCode() + availableWidth;
+        }
+    }
+
+}
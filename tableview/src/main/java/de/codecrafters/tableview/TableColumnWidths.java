@@ -0,0 +1,65 @@
+package de.codecrafters.tableview;
+
+import de.codecrafters.tableview.model.AbstractTableColumnModel;
+import de.codecrafters.tableview.model.TableColumnModel;
+
+
+/**
+ * Helper that gives the widths of all columns of a {@link TableColumnModel} at once. For an
+ * {@link AbstractTableColumnModel} the cached widths are used, for other models the widths are asked column by
+ * column.
+ *
+ * @author ISchwarz
+ */
+final class TableColumnWidths {
+
+    private TableColumnWidths() {
+        //no instance
+    }
+
+    /**
+     * Gives the widths of all columns of the given {@link TableColumnModel}.
+     *
+     * @param columnModel    The {@link TableColumnModel} to get the column widths of.
+     * @param tableWidthInPx The width of the table.
+     * @return The widths of all columns, ordered by column index. (Hint: the array must not be modified)
+     */
+    static int[] of(final TableColumnModel columnModel, final int tableWidthInPx) {
+        if (columnModel instanceof AbstractTableColumnModel) {
+            return ((AbstractTableColumnModel) columnModel).getColumnWidths(tableWidthInPx);
+        }
+
+        final int[] columnWidths = new int[columnModel.getColumnCount()];
+        for (int columnIndex = 0; columnIndex < columnWidths.length; columnIndex++) {
+            columnWidths[columnIndex] = columnModel.getColumnWidth(columnIndex, tableWidthInPx);
+        }
+        return columnWidths;
+    }
+
+    /**
+     * Gives the width of all columns together.
+     *
+     * @param columnWidths The widths of all columns, ordered by column index.
+     * @return The sum of the given column widths.
+     */
+    static int sum(final int[] columnWidths) {
+        return sum(columnWidths, 0, columnWidths.length);
+    }
+
+    /**
+     * Gives the width of the given range of columns together.
+     *
+     * @param columnWidths The widths of all columns, ordered by column index.
+     * @param fromIndex    The index of the first column of the range (inclusive).
+     * @param toIndex      The index of the last column of the range (exclusive).
+     * @return The sum of the column widths in the given range.
+     */
+    static int sum(final int[] columnWidths, final int fromIndex, final int toIndex) {
+        int width = 0;
+        for (int columnIndex = fromIndex; columnIndex < toIndex; columnIndex++) {
+            width += columnWidths[columnIndex];
+        }
+        return width;
+    }
+
+}
@@ -2,15 +2,18 @@ package de.codecrafters.tableview;
 
 import android.content.Context;
 import android.content.res.Resources;
+import android.database.DataSetObserver;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.LayoutRes;
 import android.util.Log;
-import android.view.Gravity;
+import android.util.SparseArray;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.AbsListView;
 import android.widget.ArrayAdapter;
-import android.widget.LinearLayout;
 import android.widget.TextView;
+import de.codecrafters.tableview.filters.TableDataRowFilter;
 import de.codecrafters.tableview.model.TableColumnModel;
 import de.codecrafters.tableview.model.TableColumnWeightModel;
 import de.codecrafters.tableview.providers.TableDataRowBackgroundProvider;
@@ -18,8 +21,8 @@ import de.codecrafters.tableview.providers.TableDataRowBackgroundProvider;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-
-import static android.widget.LinearLayout.LayoutParams;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 /**
@@ -30,9 +33,44 @@ import static android.widget.LinearLayout.LayoutParams;
 public abstract class TableDataAdapter<T> extends ArrayAdapter<T> {
 
     private static final String LOG_TAG = TableDataAdapter.class.getName();
+    private static final int MAX_PREFETCHED_ROW_BACKGROUNDS = 64;
+    private static ExecutorService textLayoutExecutor;
+    private static ExecutorService cellInflationExecutor;
+    private final CellViewScrapPool cellViewScrapPool = new CellViewScrapPool();
+    private final SparseArray<Drawable> prefetchedRowBackgrounds = new SparseArray<>();
+    private final List<TableDataChangeObserver> dataChangeObservers = new ArrayList<>();
     private final List<T> data;
+    private final RowFilterIndex<T> rowFilterIndex = new RowFilterIndex<>(new Runnable() {
+        @Override
+        public void run() {
+            displayedRowOrder = null;
+            notifyRowOrderChanged();
+        }
+    });
+    private final RowUpdateQueue<T> rowUpdateQueue = new RowUpdateQueue<>(new Runnable() {
+        @Override
+        public void run() {
+            applyPendingRowUpdates();
+        }
+    });
+    private RowViewsChangedListener rowViewsChangedListener;
     private TableColumnModel columnModel;
     private TableDataRowBackgroundProvider<? super T> rowBackgroundProvider;
+    private TableCellTextStyle cellTextStyle;
+    private CellViewInflationPool cellViewInflationPool;
+    private int textLayoutPrecomputeRowCount;
+    private int textLayoutPrecomputeDirection;
+    private int lastPrecomputedRowIndex;
+    private int lastTextRowIndex;
+    private int[] rowOrder;
+    private int[] displayedRowOrder;
+    private boolean horizontalScrollingEnabled;
+    private int horizontalScrollOffset;
+    private int frozenColumnCount;
+    private ColumnWindow columnWindow;
+    private int[] columnWindowWidths;
+    private int columnWindowTableWidth;
+    private int columnWindowScrollOffset;
 
 
     /**
@@ -77,6 +115,7 @@ public abstract class TableDataAdapter<T> extends ArrayAdapter<T> {
         super(context, -1, data);
         this.columnModel = columnModel;
         this.data = data;
+        registerDataSetObserver(new InternalPrefetchObserver());
     }
 
     /**
@@ -90,7 +129,9 @@ public abstract class TableDataAdapter<T> extends ArrayAdapter<T> {
     }
 
     /**
-     * Gives the data that is set to this adapter.
+     * Gives the data that is set to this adapter. The data is given in the order it was set to this adapter, which
+     * may differ from the order the rows are displayed in (e.g. if the table is sorted). Use the method
+     * {@link #getRowData(int)} to get the data of a displayed row.
      *
      * @return The data this adapter is currently working with.
      */
@@ -98,6 +139,414 @@ public abstract class TableDataAdapter<T> extends ArrayAdapter<T> {
         return data;
     }
 
+    @Override
+    public int getCount() {
+        final int[] displayedRowOrder = getDisplayedRowOrder();
+        if (displayedRowOrder != null) {
+            return displayedRowOrder.length;
+        }
+        return super.getCount();
+    }
+
+    @Override
+    public T getItem(final int rowIndex) {
+        return data.get(getDataIndex(rowIndex));
+    }
+
+    @Override
+    public int getPosition(final T item) {
+        final int dataIndex = data.indexOf(item);
+        final int[] displayedRowOrder = getDisplayedRowOrder();
+        if (displayedRowOrder == null || dataIndex < 0) {
+            return dataIndex;
+        }
+        for (int rowIndex = 0; rowIndex < displayedRowOrder.length; rowIndex++) {
+            if (displayedRowOrder[rowIndex] == dataIndex) {
+                return rowIndex;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Notifies the table that the data of this adapter may have changed completely. If the table is sorted, the
+     * whole data will be sorted again. (Hint: if you know which rows have changed, use the methods
+     * {@link #notifyRowsInserted(int, int)}, {@link #notifyRowsChanged(int, int)} and
+     * {@link #notifyRowsRemoved(int, int)} instead.)
+     */
+    @Override
+    public void notifyDataSetChanged() {
+        rowFilterIndex.onDataSetChanged(data);
+        displayedRowOrder = null;
+        for (final TableDataChangeObserver observer : dataChangeObservers) {
+            observer.onDataSetChanged();
+        }
+        super.notifyDataSetChanged();
+    }
+
+    /**
+     * Notifies the table that rows have been inserted into the data of this adapter. If the table is sorted,
+     * only the inserted rows are sorted into the displayed rows.
+     *
+     * @param dataIndexStart The index of the first inserted row in the list given by {@link #getData()}.
+     * @param rowCount       The number of rows that have been inserted.
+     */
+    public void notifyRowsInserted(final int dataIndexStart, final int rowCount) {
+        rowFilterIndex.onRowsInserted(data, dataIndexStart, rowCount);
+        displayedRowOrder = null;
+        for (final TableDataChangeObserver observer : dataChangeObservers) {
+            observer.onRowsInserted(dataIndexStart, rowCount);
+        }
+        super.notifyDataSetChanged();
+    }
+
+    /**
+     * Notifies the table that the content of rows of this adapter has changed. If the table is sorted, only the
+     * changed rows are sorted into the displayed rows again.
+     *
+     * @param dataIndexStart The index of the first changed row in the list given by {@link #getData()}.
+     * @param rowCount       The number of rows that have been changed.
+     */
+    public void notifyRowsChanged(final int dataIndexStart, final int rowCount) {
+        rowFilterIndex.onRowsChanged(data, dataIndexStart, rowCount);
+        displayedRowOrder = null;
+        for (final TableDataChangeObserver observer : dataChangeObservers) {
+            observer.onRowsChanged(dataIndexStart, rowCount);
+        }
+        super.notifyDataSetChanged();
+    }
+
+    /**
+     * Notifies the table that rows have been removed from the data of this adapter. If the table is sorted, the
+     * remaining rows keep their order without being sorted again.
+     *
+     * @param dataIndexStart The index the first removed row had in the list given by {@link #getData()}.
+     * @param rowCount       The number of rows that have been removed.
+     */
+    public void notifyRowsRemoved(final int dataIndexStart, final int rowCount) {
+        rowFilterIndex.onRowsRemoved(data, dataIndexStart, rowCount);
+        displayedRowOrder = null;
+        for (final TableDataChangeObserver observer : dataChangeObservers) {
+            observer.onRowsRemoved(dataIndexStart, rowCount);
+        }
+        super.notifyDataSetChanged();
+    }
+
+    /**
+     * Appends a row to the data of this adapter. This method may be called from any thread. All rows posted in
+     * between two frames are inserted, sorted and displayed at once with the next frame. (Hint: the data given to
+     * this adapter has to be modifiable)
+     *
+     * @param rowData The data of the row that shall be appended.
+     */
+    public void postInsert(final T rowData) {
+        rowUpdateQueue.post(RowUpdateQueue.INSERT, -1, rowData);
+    }
+
+    /**
+     * Inserts a row into the data of this adapter. This method may be called from any thread. All rows posted in
+     * between two frames are inserted, sorted and displayed at once with the next frame. (Hint: the data given to
+     * this adapter has to be modifiable)
+     *
+     * @param dataIndex The index in the list given by {@link #getData()} the row shall be inserted at, after all
+     *                  updates posted before have been applied.
+     * @param rowData   The data of the row that shall be inserted.
+     */
+    public void postInsert(final int dataIndex, final T rowData) {
+        if (dataIndex < 0) {
+            throw new IllegalArgumentException("The data index must not be negative: " + dataIndex);
+        }
+        rowUpdateQueue.post(RowUpdateQueue.INSERT, dataIndex, rowData);
+    }
+
+    /**
+     * Replaces the data of a row of this adapter. This method may be called from any thread. All rows posted in
+     * between two frames are updated, sorted and displayed at once with the next frame. If the rows keep their
+     * position, only the visible rows that have been updated are rendered again.
+     *
+     * @param dataIndex The index of the row in the list given by {@link #getData()}, after all updates posted
+     *                  before have been applied.
+     * @param rowData   The new data of the row.
+     */
+    public void postUpdate(final int dataIndex, final T rowData) {
+        if (dataIndex < 0) {
+            throw new IllegalArgumentException("The data index must not be negative: " + dataIndex);
+        }
+        rowUpdateQueue.post(RowUpdateQueue.UPDATE, dataIndex, rowData);
+    }
+
+    /**
+     * Removes a row from the data of this adapter. This method may be called from any thread. All rows posted in
+     * between two frames are removed at once with the next frame. (Hint: the data given to this adapter has to be
+     * modifiable)
+     *
+     * @param dataIndex The index of the row in the list given by {@link #getData()}, after all updates posted
+     *                  before have been applied.
+     */
+    public void postRemove(final int dataIndex) {
+        if (dataIndex < 0) {
+            throw new IllegalArgumentException("The data index must not be negative: " + dataIndex);
+        }
+        rowUpdateQueue.post(RowUpdateQueue.REMOVE, dataIndex, null);
+    }
+
+    /**
+     * Notifies the table that only the presentation of the rows has changed, but not the data itself (e.g. a
+     * row shall be rendered differently). The rows are rendered again, but the table is not sorted again.
+     */
+    public void notifyRowViewsChanged() {
+        super.notifyDataSetChanged();
+    }
+
+    /**
+     * Notifies the table that the order in which the rows are displayed has changed.
+     */
+    void notifyRowOrderChanged() {
+        super.notifyDataSetChanged();
+    }
+
+    /**
+     * Sets the listener that renders the given rows again, if only some visible rows have changed. Without such
+     * a listener all rows are rendered again. (internally used)
+     *
+     * @param listener The {@link RowViewsChangedListener} that shall be used or {@code NULL}.
+     */
+    void setRowViewsChangedListener(final RowViewsChangedListener listener) {
+        this.rowViewsChangedListener = listener;
+    }
+
+    /**
+     * Registers the given {@link TableDataChangeObserver} at this adapter.
+     *
+     * @param observer The {@link TableDataChangeObserver} that shall be informed about data changes.
+     */
+    void registerDataChangeObserver(final TableDataChangeObserver observer) {
+        dataChangeObservers.add(observer);
+    }
+
+    /**
+     * Unregisters the given {@link TableDataChangeObserver} from this adapter.
+     *
+     * @param observer The {@link TableDataChangeObserver} that shall not be informed about data changes anymore.
+     */
+    void unregisterDataChangeObserver(final TableDataChangeObserver observer) {
+        dataChangeObservers.remove(observer);
+    }
+
+    /**
+     * Checks if all rows of this adapter are held in memory, so the table can sort, filter and index them. Adapters
+     * that load their rows on demand give placeholders for rows that are not loaded yet. (internally used)
+     *
+     * @return True if all rows are available, false if the rows are loaded on demand.
+     */
+    boolean isFullyLoaded() {
+        return true;
+    }
+
+    /**
+     * Checks if the rows of this adapter can be sorted by the column with the given index by the source of the data
+     * itself, instead of sorting them in memory. (internally used)
+     *
+     * @param columnIndex The index of the column.
+     * @return True if the data source sorts the rows by this column, false if the table has to sort them.
+     */
+    boolean canSortByDataSource(final int columnIndex) {
+        return false;
+    }
+
+    /**
+     * Lets the source of the data sort the rows by the given sorting keys. Only called if all sorting keys can be
+     * sorted by the data source (see {@link #canSortByDataSource(int)}). (internally used)
+     *
+     * @param sortingKeys    The keys the rows shall be sorted by or an empty list if the sorting shall be removed.
+     * @param sortedCallback The callback that shall be run as soon as the sorted rows are displayed or {@code NULL}.
+     * @param failedCallback The callback that shall be run if the data source failed to sort the rows, so they are
+     *                       still displayed in the previous order, or {@code NULL}.
+     */
+    void sortByDataSource(final List<SortingKey> sortingKeys, final Runnable sortedCallback,
+                          final Runnable failedCallback) {
+        if (sortedCallback != null) {
+            sortedCallback.run();
+        }
+    }
+
+    /**
+     * Gives the index in the data of this adapter of the data object, that is displayed in the row with the
+     * given index.
+     *
+     * @param rowIndex The index of the row.
+     * @return The index of the data object in the list given by {@link #getData()}.
+     */
+    protected int getDataIndex(final int rowIndex) {
+        final int[] displayedRowOrder = getDisplayedRowOrder();
+        if (displayedRowOrder != null) {
+            return displayedRowOrder[rowIndex];
+        }
+        return rowIndex;
+    }
+
+    /**
+     * Gives the row order of this adapter. (Hint: if a row filter is set, not all of these rows are displayed)
+     *
+     * @return The indices of the data objects in the order they are displayed or {@code NULL} if the data is
+     * displayed in its original order.
+     */
+    int[] getRowOrder() {
+        return rowOrder;
+    }
+
+    /**
+     * Sets the order in which the data of this adapter shall be displayed. The data itself is not touched.
+     *
+     * @param rowOrder The indices of the data objects in the order they shall be displayed or {@code NULL} if
+     *                 the data shall be displayed in its original order.
+     */
+    void setRowOrder(final int[] rowOrder) {
+        this.rowOrder = rowOrder;
+        this.displayedRowOrder = null;
+    }
+
+    /**
+     * Sets the filter that decides which rows are displayed. The rows keep the order given by
+     * {@link #setRowOrder(int[])}, so filtering does not sort the rows again. Large tables are filtered in chunks
+     * across several frames; the rows are displayed as soon as all of them are tested.
+     *
+     * @param rowFilter            The {@link TableDataRowFilter} that shall be used or {@code NULL} if all rows
+     *                             shall be displayed.
+     * @param narrowsCurrentFilter Whether the given filter only accepts rows that are accepted by the current filter
+     *                             (e.g. the filter text has been extended). If so, only the displayed rows are tested.
+     */
+    void setRowFilter(final TableDataRowFilter<? super T> rowFilter, final boolean narrowsCurrentFilter) {
+        rowFilterIndex.setFilter(data, rowFilter, narrowsCurrentFilter);
+    }
+
+    /**
+     * Stops applying a row filter, that is not completely applied yet.
+     */
+    void cancelPendingRowFilter() {
+        rowFilterIndex.cancelPendingFilter();
+    }
+
+    /**
+     * Gives the indices of the rows displaying the data objects with the given data indices. Data objects that are
+     * not displayed (e.g. as they are filtered) are left out. (internally used)
+     *
+     * @param dataIndices The indices of data objects in the list given by {@link #getData()}.
+     * @return The indices of the rows displaying the given data objects in ascending order.
+     */
+    int[] getRowIndices(final int[] dataIndices) {
+        final int[] displayedRowOrder = getDisplayedRowOrder();
+        if (displayedRowOrder == null) {
+            return dataIndices;
+        }
+
+        final int[] rowIndicesByDataIndex = new int[data.size()];
+        Arrays.fill(rowIndicesByDataIndex, -1);
+        for (int rowIndex = 0; rowIndex < displayedRowOrder.length; rowIndex++) {
+            rowIndicesByDataIndex[displayedRowOrder[rowIndex]] = rowIndex;
+        }
+
+        final int[] rowIndices = new int[dataIndices.length];
+        int rowCount = 0;
+        for (final int dataIndex : dataIndices) {
+            if (dataIndex < rowIndicesByDataIndex.length && rowIndicesByDataIndex[dataIndex] >= 0) {
+                rowIndices[rowCount++] = rowIndicesByDataIndex[dataIndex];
+            }
+        }
+        final int[] displayedRowIndices = Arrays.copyOf(rowIndices, rowCount);
+        Arrays.sort(displayedRowIndices);
+        return displayedRowIndices;
+    }
+
+    private void applyPendingRowUpdates() {
+        final List<RowUpdateQueue.RowUpdate<T>> updates = rowUpdateQueue.drain();
+        if (updates.isEmpty()) {
+            return;
+        }
+
+        final DataChangeBatch.Builder batchBuilder = new DataChangeBatch.Builder(data.size());
+        for (final RowUpdateQueue.RowUpdate<T> update : updates) {
+            try {
+                switch (update.type) {
+                    case RowUpdateQueue.INSERT:
+                        final int dataIndex = update.dataIndex < 0 ? data.size() : update.dataIndex;
+                        data.add(dataIndex, update.rowData);
+                        batchBuilder.onRowInserted(dataIndex);
+                        break;
+                    case RowUpdateQueue.UPDATE:
+                        data.set(update.dataIndex, update.rowData);
+                        batchBuilder.onRowUpdated(update.dataIndex);
+                        break;
+                    default:
+                        data.remove(update.dataIndex);
+                        batchBuilder.onRowRemoved(update.dataIndex);
+                        break;
+                }
+            } catch (final IndexOutOfBoundsException | UnsupportedOperationException e) {
+                Log.w(LOG_TAG, "Applying the posted row update at data index " + update.dataIndex + " failed. " +
+                        "Caught Exception: " + e.getMessage());
+            }
+        }
+        final DataChangeBatch batch = batchBuilder.build();
+
+        final int[] oldDisplayedRowOrder = getDisplayedRowOrder();
+        rowFilterIndex.onBatchApplied(data, batch);
+        displayedRowOrder = null;
+        for (final TableDataChangeObserver observer : dataChangeObservers) {
+            observer.onBatchApplied(batch);
+        }
+
+        if (batch.isStructural() || rowViewsChangedListener == null
+                || !Arrays.equals(oldDisplayedRowOrder, getDisplayedRowOrder())) {
+            super.notifyDataSetChanged();
+        } else {
+            // all rows kept their position, so only the visible updated rows have to be rendered again
+            prefetchedRowBackgrounds.clear();
+            rowViewsChangedListener.onRowViewsChanged(getRowIndices(batch.getChangedDataIndices()));
+        }
+    }
+
+    private int[] getDisplayedRowOrder() {
+        if (!rowFilterIndex.isFiltered()) {
+            return rowOrder;
+        }
+        if (displayedRowOrder == null) {
+            displayedRowOrder = rowFilterIndex.getAcceptedRowOrder(rowOrder, data.size());
+        }
+        return displayedRowOrder;
+    }
+
+    /**
+     * Sets whether the table is scrolled horizontally. If so, only the cell views of the columns that intersect the
+     * viewport are materialized.
+     *
+     * @param enabled Whether the table is scrolled horizontally or not.
+     */
+    void setHorizontalScrollingEnabled(final boolean enabled) {
+        this.horizontalScrollingEnabled = enabled;
+    }
+
+    /**
+     * Sets the horizontal scroll offset of the table. The row views that are currently displayed have to be updated
+     * using the method {@link #updateVisibleColumns(TableRowLayout, int, ViewGroup)}.
+     *
+     * @param horizontalScrollOffset The horizontal scroll offset of the table in pixels.
+     */
+    void setHorizontalScrollOffset(final int horizontalScrollOffset) {
+        this.horizontalScrollOffset = horizontalScrollOffset;
+    }
+
+    /**
+     * Sets the number of leading columns, that are not scrolled horizontally. The cells of these columns are placed
+     * last in each row view. They are neither scrolled nor bound again on horizontal scrolls.
+     *
+     * @param frozenColumnCount The number of frozen columns.
+     */
+    void setFrozenColumnCount(final int frozenColumnCount) {
+        this.frozenColumnCount = frozenColumnCount;
+        this.columnWindow = null;
+    }
+
     /**
      * Gives the {@link Context} of this adapter. (Hint: use this method in the {@code getHeaderView()}-method
      * to programmatically initialize new views.)
@@ -128,6 +577,43 @@ public abstract class TableDataAdapter<T> extends ArrayAdapter<T> {
         return getContext().getResources();
     }
 
+    /**
+     * Registers a layout that is used for cell views. The given number of cell views is inflated in advance on a
+     * background thread, and inflated again in the background whenever cell views are taken using
+     * {@link #obtainCellView(int, ViewGroup)}. So cell views with complex layouts do not need to be inflated on the
+     * main thread while the table is shown or scrolled. (Hint: register the layouts in the constructor of your
+     * adapter, so the inflation starts as early as possible.)
+     *
+     * @param layoutRes The resource id of the layout.
+     * @param poolSize  The number of cell views of this layout that shall be kept available.
+     */
+    public void registerCellLayout(@LayoutRes final int layoutRes, final int poolSize) {
+        if (poolSize < 0) {
+            throw new IllegalArgumentException("Pool size must not be negative: " + poolSize);
+        }
+        if (cellViewInflationPool == null) {
+            cellViewInflationPool = new CellViewInflationPool(getContext(), getCellInflationExecutor());
+        }
+        cellViewInflationPool.register(layoutRes, poolSize);
+    }
+
+    /**
+     * Gives a cell view of the given layout. If the layout has been registered using
+     * {@link #registerCellLayout(int, int)}, a cell view that was inflated in advance is used. Otherwise, or if no
+     * inflated cell view is available, the layout is inflated immediately. (Hint: use this method in the
+     * {@code getCellView()}-method instead of inflating the layout using the {@link #getLayoutInflater()}.)
+     *
+     * @param layoutRes  The resource id of the layout.
+     * @param parentView The view to which the returned view will be added.
+     * @return The cell view of the given layout.
+     */
+    public View obtainCellView(@LayoutRes final int layoutRes, final ViewGroup parentView) {
+        if (cellViewInflationPool == null) {
+            return getLayoutInflater().inflate(layoutRes, parentView, false);
+        }
+        return cellViewInflationPool.obtain(layoutRes, parentView);
+    }
+
     /**
      * Method that gives the cell views for the different table cells.
      *
@@ -138,44 +624,363 @@ public abstract class TableDataAdapter<T> extends ArrayAdapter<T> {
      */
     public abstract View getCellView(int rowIndex, int columnIndex, ViewGroup parentView);
 
+    /**
+     * Method that gives the texts of the different table cells, if the cells are drawn as plain text (see
+     * {@link #setCellTextStyle(TableCellTextStyle)}). In this case {@link #getCellView(int, int, ViewGroup)} is not
+     * used at all.
+     *
+     * @param rowIndex    The index of the row to return the cell text for.
+     * @param columnIndex The index of the column to return the cell text for.
+     * @return The text that shall be drawn in the given cell or {@code NULL} if the cell shall be empty.
+     */
+    public CharSequence getCellText(final int rowIndex, final int columnIndex) {
+        return null;
+    }
+
+    /**
+     * Method that is called when a row view is recycled, to give the possibility to rebind the given cell view
+     * that was previously created by {@link #getCellView(int, int, ViewGroup)} with the data of the given cell
+     * instead of creating a new cell view. (Hint: overwrite this method to avoid inflating new cell views every
+     * time the user scrolls through the table.)
+     *
+     * @param rowIndex     The index of the row the given cell view shall be bound to.
+     * @param columnIndex  The index of the column the given cell view shall be bound to.
+     * @param recycledView The cell view that was previously displayed in this column of a recycled row.
+     * @return {@code TRUE} if the given cell view has been rebound and shall be reused, {@code FALSE} if
+     * a new cell view shall be created using the {@link #getCellView(int, int, ViewGroup)} method.
+     */
+    public boolean bindCellView(final int rowIndex, final int columnIndex, final View recycledView) {
+        return false;
+    }
+
+    /**
+     * Gives the type of the cell view that will be created by {@link #getCellView(int, int, ViewGroup)} for the
+     * given cell. Recycled cell views are only handed to {@link #bindCellView(int, int, View)} if they have the same
+     * type and were displayed in the same column (see also {@link #isCellViewTypeColumnIndependent(int)}). (Hint:
+     * overwrite this method if a column displays different kinds of views depending on the row, so rebinding does
+     * not need to check the type of the recycled view.)
+     *
+     * @param rowIndex    The index of the row of the cell.
+     * @param columnIndex The index of the column of the cell.
+     * @return The type of the cell view of the given cell. By default all cells have the type {@code 0}.
+     */
+    public int getCellViewType(final int rowIndex, final int columnIndex) {
+        return 0;
+    }
+
+    /**
+     * Gives whether cell views of the given type can be rebound to cells of any column. If the table is scrolled
+     * horizontally (see {@link TableView#setHorizontalScrollingEnabled(boolean)}), the cell views of the columns
+     * that are scrolled out of the viewport can then be reused for the columns that are scrolled in. Otherwise
+     * they are only reused in the column they were displayed in. (Hint: only return {@code TRUE} if your
+     * {@link #bindCellView(int, int, View)} method is able to bind a cell view of the given type to every column.)
+     *
+     * @param cellViewType The cell view type as given by {@link #getCellViewType(int, int)}.
+     * @return {@code TRUE} if cell views of the given type can be used in every column. By default {@code FALSE}.
+     */
+    public boolean isCellViewTypeColumnIndependent(final int cellViewType) {
+        return false;
+    }
+
+    /**
+     * Method that is called for the rows that are about to be scrolled into the viewport, while the main thread is
+     * idle between two frames (see {@link TableView#setRowPrefetchCount(int)}). It gives the possibility to do the
+     * expensive work for a row in advance (e.g. formatting values, decoding images or extracting keys), so
+     * {@link #getCellView(int, int, ViewGroup)} and {@link #bindCellView(int, int, View)} only need to hand over the
+     * prepared results. (Hint: the prepared results shall be dropped when the data changes, as the row indices may
+     * refer to other data then.)
+     *
+     * @param rowIndex The index of the row that shall be prepared.
+     */
+    public void prepareRow(final int rowIndex) {
+        // nothing to prepare by default
+    }
+
+    /**
+     * All rows are represented by the same kind of row view. The different cell view types (see
+     * {@link #getCellViewType(int, int)}) are managed for each column separately when a row is recycled.
+     *
+     * @return The number of row view types, which is always {@code 1}.
+     */
     @Override
-    public final View getView(final int rowIndex, final View convertView, final ViewGroup parent) {
-        final LinearLayout rowView = new LinearLayout(getContext());
+    public final int getViewTypeCount() {
+        return 1;
+    }
 
-        final AbsListView.LayoutParams rowLayoutParams = new AbsListView.LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.WRAP_CONTENT);
-        rowView.setLayoutParams(rowLayoutParams);
-        rowView.setGravity(Gravity.CENTER_VERTICAL);
+    /**
+     * All rows are represented by the same kind of row view. The different cell view types (see
+     * {@link #getCellViewType(int, int)}) are managed for each column separately when a row is recycled.
+     *
+     * @param rowIndex The index of the row.
+     * @return The row view type, which is always {@code 0}.
+     */
+    @Override
+    public final int getItemViewType(final int rowIndex) {
+        return 0;
+    }
+
+    @Override
+    public final View getView(final int rowIndex, final View convertView, final ViewGroup parent) {
+        final TableRowLayout rowView = obtainRowView(convertView);
 
-        T rowData = null;
-        try {
-            rowData = getItem(rowIndex);
-        } catch (final IndexOutOfBoundsException e) {
-            Log.w(LOG_TAG, "No row date available for row with index " + rowIndex + ". " +
-                    "Caught Exception: " + e.getMessage());
+        Drawable rowBackground = prefetchedRowBackgrounds.get(rowIndex);
+        if (rowBackground != null) {
+            prefetchedRowBackgrounds.remove(rowIndex);
+        } else {
+            T rowData = null;
+            try {
+                rowData = getItem(rowIndex);
+            } catch (final IndexOutOfBoundsException e) {
+                Log.w(LOG_TAG, "No row date available for row with index " + rowIndex + ". " +
+                        "Caught Exception: " + e.getMessage());
+            }
+            rowBackground = rowBackgroundProvider.getRowBackground(rowIndex, rowData);
         }
 
         if (android.os.Build.VERSION.SDK_INT < android.os.Build.VERSION_CODES.JELLY_BEAN) {
-            rowView.setBackgroundDrawable(rowBackgroundProvider.getRowBackground(rowIndex, rowData));
+            rowView.setBackgroundDrawable(rowBackground);
+        } else {
+            rowView.setBackground(rowBackground);
+        }
+
+        final int[] columnWidths = TableColumnWidths.of(columnModel, parent.getWidth());
+        rowView.setColumnWidths(columnWidths);
+        final ColumnWindow columnWindow = getColumnWindow(columnWidths, parent.getWidth());
+        if (rowView instanceof TableTextRowLayout) {
+            bindCellTexts((TableTextRowLayout) rowView, rowIndex, columnWindow);
         } else {
-            rowView.setBackground(rowBackgroundProvider.getRowBackground(rowIndex, rowData));
+            bindCellViews(rowView, rowIndex, columnWidths.length, columnWindow, true);
+        }
+
+        return rowView;
+    }
+
+    /**
+     * Updates the given row view after the table has been scrolled horizontally. The cell views of the columns that
+     * have been scrolled out of the viewport are recycled and cell views are created for the columns that have been
+     * scrolled in. The cell views of the columns that stay visible and of the frozen columns are not bound again.
+     *
+     * @param rowView  The row view that shall be updated.
+     * @param rowIndex The index of the row that is displayed by the given row view.
+     * @param parent   The view that contains the given row view.
+     */
+    void updateVisibleColumns(final TableRowLayout rowView, final int rowIndex, final ViewGroup parent) {
+        final int[] columnWidths = TableColumnWidths.of(columnModel, parent.getWidth());
+        final ColumnWindow columnWindow = getColumnWindow(columnWidths, parent.getWidth());
+        if (rowView instanceof TableTextRowLayout) {
+            // the texts of all columns are already known, so they only have to be moved
+            rowView.setHorizontalScrollOffset(columnWindow.getScrollOffset());
+        } else {
+            bindCellViews(rowView, rowIndex, columnWidths.length, columnWindow, false);
+        }
+    }
+
+    /**
+     * Prepares the row with the given index before it is bound. The background of the row is looked up and kept
+     * until the row is bound, and {@link #prepareRow(int)} is called.
+     *
+     * @param rowIndex The index of the row that shall be prepared.
+     */
+    void prefetchRow(final int rowIndex) {
+        if (rowIndex >= getCount()) {
+            return;
         }
 
+        if (rowBackgroundProvider != null && prefetchedRowBackgrounds.get(rowIndex) == null) {
+            // rows that have been prefetched, but were never bound, must not be kept forever
+            if (prefetchedRowBackgrounds.size() >= MAX_PREFETCHED_ROW_BACKGROUNDS) {
+                prefetchedRowBackgrounds.clear();
+            }
+            final Drawable rowBackground = rowBackgroundProvider.getRowBackground(rowIndex, getItem(rowIndex));
+            if (rowBackground != null) {
+                prefetchedRowBackgrounds.put(rowIndex, rowBackground);
+            }
+        }
+        prepareRow(rowIndex);
+    }
+
+    private TableRowLayout obtainRowView(final View convertView) {
+        final boolean drawCellTexts = cellTextStyle != null;
+        if (convertView instanceof TableRowLayout && (convertView instanceof TableTextRowLayout) == drawCellTexts) {
+            return (TableRowLayout) convertView;
+        }
 
-        final int tableWidth = parent.getWidth();
+        final TableRowLayout rowView = drawCellTexts ? new TableTextRowLayout(getContext()) : new TableRowLayout(getContext());
+        rowView.setLayoutParams(new AbsListView.LayoutParams(AbsListView.LayoutParams.MATCH_PARENT, AbsListView.LayoutParams.WRAP_CONTENT));
+        return rowView;
+    }
+
+    private void bindCellTexts(final TableTextRowLayout rowView, final int rowIndex, final ColumnWindow columnWindow) {
+        rowView.setTextStyle(cellTextStyle);
+        rowView.setFrozenColumnCount(frozenColumnCount);
+        for (int columnIndex = 0; columnIndex < rowView.getColumnCount(); columnIndex++) {
+            rowView.setCellText(columnIndex, getCellText(rowIndex, columnIndex));
+        }
+        rowView.setHorizontalScrollOffset(columnWindow.getScrollOffset());
+
+        if (textLayoutPrecomputeRowCount > 0) {
+            precomputeTextLayouts(rowView, rowIndex);
+        }
+    }
+
+    private void precomputeTextLayouts(final TableTextRowLayout rowView, final int rowIndex) {
+        final int direction = rowIndex < lastTextRowIndex ? -1 : 1;
+        lastTextRowIndex = rowIndex;
+
+        // continue after the rows that are already precomputed, unless the direction has changed or the table jumped
+        int firstRowIndex = rowIndex + direction;
+        final int precomputedRowCount = (lastPrecomputedRowIndex - rowIndex) * direction;
+        if (direction == textLayoutPrecomputeDirection && precomputedRowCount > 0
+                && precomputedRowCount <= textLayoutPrecomputeRowCount) {
+            firstRowIndex = lastPrecomputedRowIndex + direction;
+        }
+        textLayoutPrecomputeDirection = direction;
 
-        for (int columnIndex = 0; columnIndex < columnModel.getColumnCount(); columnIndex++) {
-            View cellView = getCellView(rowIndex, columnIndex, rowView);
+        final int lastRowIndex = Math.max(0, Math.min(rowIndex + direction * textLayoutPrecomputeRowCount, getCount() - 1));
+        final int rowCount = (lastRowIndex - firstRowIndex) * direction + 1;
+        if (rowCount <= 0) {
+            return;
+        }
+        lastPrecomputedRowIndex = lastRowIndex;
+
+        // the texts are read on the main thread, so the data is never accessed concurrently
+        final int columnCount = rowView.getColumnCount();
+        final CharSequence[] cellTexts = new CharSequence[rowCount * columnCount];
+        for (int rowOffset = 0; rowOffset < rowCount; rowOffset++) {
+            for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+                cellTexts[rowOffset * columnCount + columnIndex] = getCellText(firstRowIndex + rowOffset * direction, columnIndex);
+            }
+        }
+        final int[] availableWidths = new int[columnCount];
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            availableWidths[columnIndex] = cellTextStyle.getAvailableTextWidth(rowView.getColumnWidth(columnIndex));
+        }
+
+        getTextLayoutExecutor().execute(new TextLayoutPrecomputation(cellTextStyle, cellTexts, availableWidths));
+    }
+
+    private static synchronized ExecutorService getTextLayoutExecutor() {
+        if (textLayoutExecutor == null) {
+            textLayoutExecutor = Executors.newSingleThreadExecutor(new BackgroundThreadFactory("TableDataAdapter-TextLayout"));
+        }
+        return textLayoutExecutor;
+    }
+
+    private static synchronized ExecutorService getCellInflationExecutor() {
+        if (cellInflationExecutor == null) {
+            cellInflationExecutor = Executors.newSingleThreadExecutor(new BackgroundThreadFactory("TableDataAdapter-Inflation"));
+        }
+        return cellInflationExecutor;
+    }
+
+    private void bindCellViews(final TableRowLayout rowView, final int rowIndex, final int columnCount,
+                               final ColumnWindow columnWindow, final boolean rebind) {
+        final int frozenCellCount = Math.min(frozenColumnCount, columnCount);
+
+        // the cells of the frozen columns are ordered differently, so a row with another frozen column count is emptied
+        final boolean frozenColumnCountChanged = rowView.getFrozenColumnCount() != frozenColumnCount;
+        rowView.setFrozenColumnCount(frozenColumnCount);
+
+        // remove the cells of columns that are not visible or do not exist anymore
+        for (int childIndex = rowView.getChildCount() - 1; childIndex >= 0; childIndex--) {
+            final View cellView = rowView.getChildAt(childIndex);
+            final int columnIndex = getColumnIndex(cellView);
+            if (frozenColumnCountChanged || (!columnWindow.contains(columnIndex) && columnIndex >= frozenCellCount)) {
+                rowView.removeViewAt(childIndex);
+                if (columnIndex < columnCount) {
+                    putScrapView(columnIndex, cellView);
+                }
+            }
+        }
+
+        // the cells of the frozen columns are placed last, so they are drawn above the scrolled cells
+        int childIndex = 0;
+        for (int columnIndex = columnWindow.getFirstColumnIndex(); columnIndex <= columnWindow.getLastColumnIndex(); columnIndex++) {
+            bindCell(rowView, childIndex++, rowIndex, columnIndex, rebind);
+        }
+        for (int columnIndex = 0; columnIndex < frozenCellCount; columnIndex++) {
+            bindCell(rowView, childIndex++, rowIndex, columnIndex, rebind);
+        }
+
+        rowView.setHorizontalScrollOffset(columnWindow.getScrollOffset());
+    }
+
+    private void bindCell(final TableRowLayout rowView, final int childIndex, final int rowIndex,
+                          final int columnIndex, final boolean rebind) {
+        View currentCellView = rowView.getChildAt(childIndex);
+        if (currentCellView != null && getColumnIndex(currentCellView) != columnIndex) {
+            currentCellView = null;
+        }
+        if (currentCellView != null && !rebind) {
+            return;
+        }
+
+        final int cellViewType = getCellViewType(rowIndex, columnIndex);
+        View recycledCellView = currentCellView;
+        if (currentCellView != null) {
+            final int currentCellViewType = (Integer) currentCellView.getTag(R.id.table_cell_view_type);
+            if (currentCellViewType != cellViewType) {
+                putScrapView(columnIndex, currentCellView);
+                recycledCellView = getScrapView(columnIndex, cellViewType);
+            }
+        } else {
+            recycledCellView = getScrapView(columnIndex, cellViewType);
+        }
+
+        View cellView;
+        if (recycledCellView != null && bindCellView(rowIndex, columnIndex, recycledCellView)) {
+            cellView = recycledCellView;
+        } else {
+            cellView = getCellView(rowIndex, columnIndex, rowView);
             if (cellView == null) {
                 cellView = new TextView(getContext());
             }
+            cellView.setTag(R.id.table_cell_view_type, cellViewType);
+        }
 
-            final int cellWidth = columnModel.getColumnWidth(columnIndex, tableWidth);
-            final LinearLayout.LayoutParams cellLayoutParams = new LinearLayout.LayoutParams(cellWidth, LinearLayout.LayoutParams.WRAP_CONTENT);
-            cellView.setLayoutParams(cellLayoutParams);
-            rowView.addView(cellView);
+        if (cellView == currentCellView) {
+            return;
         }
 
-        return rowView;
+        cellView.setLayoutParams(new TableRowLayout.LayoutParams(columnIndex));
+        if (currentCellView != null) {
+            rowView.removeViewAt(childIndex);
+        }
+        rowView.addView(cellView, childIndex);
+    }
+
+    private ColumnWindow getColumnWindow(final int[] columnWidths, final int tableWidth) {
+        if (!horizontalScrollingEnabled) {
+            return ColumnWindow.all(columnWidths.length);
+        }
+        if (columnWindow == null || columnWindowWidths != columnWidths || columnWindowTableWidth != tableWidth
+                || columnWindowScrollOffset != horizontalScrollOffset) {
+            columnWindow = ColumnWindow.of(columnWidths, frozenColumnCount, tableWidth, horizontalScrollOffset);
+            columnWindowWidths = columnWidths;
+            columnWindowTableWidth = tableWidth;
+            columnWindowScrollOffset = horizontalScrollOffset;
+        }
+        return columnWindow;
+    }
+
+    private void putScrapView(final int columnIndex, final View cellView) {
+        final int cellViewType = (Integer) cellView.getTag(R.id.table_cell_view_type);
+        if (isCellViewTypeColumnIndependent(cellViewType)) {
+            cellViewScrapPool.putScrapView(CellViewScrapPool.ANY_COLUMN, cellViewType, cellView);
+        } else {
+            cellViewScrapPool.putScrapView(columnIndex, cellViewType, cellView);
+        }
+    }
+
+    private View getScrapView(final int columnIndex, final int cellViewType) {
+        if (isCellViewTypeColumnIndependent(cellViewType)) {
+            return cellViewScrapPool.getScrapView(CellViewScrapPool.ANY_COLUMN, cellViewType);
+        }
+        return cellViewScrapPool.getScrapView(columnIndex, cellViewType);
+    }
+
+    private static int getColumnIndex(final View cellView) {
+        return ((TableRowLayout.LayoutParams) cellView.getLayoutParams()).columnIndex;
     }
 
     /**
@@ -185,6 +990,45 @@ public abstract class TableDataAdapter<T> extends ArrayAdapter<T> {
      */
     protected void setRowBackgroundProvider(final TableDataRowBackgroundProvider<? super T> rowBackgroundProvider) {
         this.rowBackgroundProvider = rowBackgroundProvider;
+        prefetchedRowBackgrounds.clear();
+    }
+
+    /**
+     * Sets the {@link TableCellTextStyle} that is used to draw the cells as plain text. If a style is set, every row
+     * draws the texts given by {@link #getCellText(int, int)} itself, so no view is created for the single cells.
+     * (Hint: use this for tables that only display text, as it reduces the number of views per row to one.)
+     *
+     * @param cellTextStyle The {@link TableCellTextStyle} that shall be used or {@code NULL} if the cells shall be
+     *                      rendered using the views given by {@link #getCellView(int, int, ViewGroup)}.
+     */
+    protected void setCellTextStyle(final TableCellTextStyle cellTextStyle) {
+        this.cellTextStyle = cellTextStyle;
+    }
+
+    /**
+     * Sets the number of rows ahead of the scroll direction, whose cell texts shall be measured and ellipsized in
+     * advance on a background thread. The results are put into the cache of the {@link TableCellTextStyle}, so
+     * drawing these rows does not measure any text on the main thread. This only has an effect if the cells are drawn
+     * as plain text (see {@link #setCellTextStyle(TableCellTextStyle)}).
+     *
+     * @param rowCount The number of rows that shall be precomputed or {@code 0} if nothing shall be precomputed,
+     *                 which is the default.
+     */
+    public void setTextLayoutPrecomputeRowCount(final int rowCount) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("Text layout precompute row count must not be negative: " + rowCount);
+        }
+        this.textLayoutPrecomputeRowCount = rowCount;
+    }
+
+    /**
+     * Gives the {@link TableCellTextStyle} that is used to draw the cells as plain text.
+     *
+     * @return The {@link TableCellTextStyle} that is currently used or {@code NULL} if the cells are rendered using
+     * cell views.
+     */
+    protected TableCellTextStyle getCellTextStyle() {
+        return cellTextStyle;
     }
 
     /**
@@ -203,5 +1047,55 @@ public abstract class TableDataAdapter<T> extends ArrayAdapter<T> {
      */
     protected void setColumnModel(final TableColumnModel columnModel) {
         this.columnModel = columnModel;
+        cellViewScrapPool.clear();
+    }
+
+    /**
+     * Drops the prefetched row backgrounds, whenever the data or the row order changes.
+     *
+     * @author ISchwarz
+     */
+    private class InternalPrefetchObserver extends DataSetObserver {
+
+        @Override
+        public void onChanged() {
+            prefetchedRowBackgrounds.clear();
+        }
+
+        @Override
+        public void onInvalidated() {
+            prefetchedRowBackgrounds.clear();
+        }
+    }
+
+    /**
+     * Measures and ellipsizes the given cell texts and puts them into the cache of the given
+     * {@link TableCellTextStyle}.
+     *
+     * @author ISchwarz
+     */
+    private static class TextLayoutPrecomputation implements Runnable {
+
+        private final TableCellTextStyle textStyle;
+        private final CharSequence[] cellTexts;
+        private final int[] availableWidths;
+
+        private TextLayoutPrecomputation(final TableCellTextStyle textStyle, final CharSequence[] cellTexts,
+                                         final int[] availableWidths) {
+            this.textStyle = textStyle;
+            this.cellTexts = cellTexts;
+            this.availableWidths = availableWidths;
+        }
+
+        @Override
+        public void run() {
+            for (int textIndex = 0; textIndex < cellTexts.length; textIndex++) {
+                final CharSequence cellText = cellTexts[textIndex];
+                final int availableWidth = availableWidths[textIndex % availableWidths.length];
+                if (cellText != null && cellText.length() > 0 && availableWidth > 0) {
+                    textStyle.precomputeTextLayout(cellText, availableWidth);
+                }
+            }
+        }
     }
 }
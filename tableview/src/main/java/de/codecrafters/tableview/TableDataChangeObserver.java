@@ -0,0 +1,49 @@
+package de.codecrafters.tableview;
+
+
+/**
+ * An observer that gets informed by a {@link TableDataAdapter} about changes of its data. In contrast to a
+ * {@link android.database.DataSetObserver} it is told which rows have changed, if the adapter knows it.
+ * The row ranges refer to the indices of the data list given by {@link TableDataAdapter#getData()}.
+ *
+ * @author ISchwarz
+ */
+interface TableDataChangeObserver {
+
+    /**
+     * Called when the data may have changed completely.
+     */
+    void onDataSetChanged();
+
+    /**
+     * Called when rows have been inserted into the data.
+     *
+     * @param dataIndexStart The data index of the first inserted row.
+     * @param rowCount       The number of inserted rows.
+     */
+    void onRowsInserted(int dataIndexStart, int rowCount);
+
+    /**
+     * Called when the content of rows has changed.
+     *
+     * @param dataIndexStart The data index of the first changed row.
+     * @param rowCount       The number of changed rows.
+     */
+    void onRowsChanged(int dataIndexStart, int rowCount);
+
+    /**
+     * Called when rows have been removed from the data.
+     *
+     * @param dataIndexStart The data index the first removed row had.
+     * @param rowCount       The number of removed rows.
+     */
+    void onRowsRemoved(int dataIndexStart, int rowCount);
+
+    /**
+     * Called when a batch of row insertions, updates and removals has been applied to the data at once.
+     *
+     * @param batch The {@link DataChangeBatch} describing the changes.
+     */
+    void onBatchApplied(DataChangeBatch batch);
+
+}
@@ -2,14 +2,10 @@ package de.codecrafters.tableview;
 
 import android.content.Context;
 import android.content.res.Resources;
-import android.view.Gravity;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
-import android.widget.AbsListView;
 import android.widget.ArrayAdapter;
-import android.widget.LinearLayout;
-import android.widget.TextView;
 import de.codecrafters.tableview.model.TableColumnModel;
 import de.codecrafters.tableview.model.TableColumnWeightModel;
 
@@ -127,31 +123,6 @@ public abstract class TableHeaderAdapter extends ArrayAdapter {
         return 1;
     }
 
-    @Override
-    public final View getView(final int position, final View convertView, final ViewGroup parent) {
-
-        final LinearLayout rowView = new LinearLayout(getContext());
-
-        final AbsListView.LayoutParams rowLayoutParams = new AbsListView.LayoutParams(LinearLayout.LayoutParams.MATCH_PARENT, LinearLayout.LayoutParams.WRAP_CONTENT);
-        rowView.setLayoutParams(rowLayoutParams);
-        rowView.setGravity(Gravity.CENTER_VERTICAL);
-
-        final int tableWidth = parent.getWidth();
-        for (int columnIndex = 0; columnIndex < getColumnModel().getColumnCount(); columnIndex++) {
-            View cellView = getHeaderView(columnIndex, rowView);
-            if (cellView == null) {
-                cellView = new TextView(getContext());
-            }
-
-            final int cellWidth = getColumnModel().getColumnWidth(columnIndex, tableWidth);
-            final LinearLayout.LayoutParams cellLayoutParams = new LinearLayout.LayoutParams(cellWidth, LinearLayout.LayoutParams.WRAP_CONTENT);
-            cellView.setLayoutParams(cellLayoutParams);
-            rowView.addView(cellView);
-        }
-
-        return rowView;
-    }
-
     /**
      * Method that gives the header views for the different columns.
      *
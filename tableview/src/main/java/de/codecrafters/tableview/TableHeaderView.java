@@ -1,8 +1,10 @@
 package de.codecrafters.tableview;
 
 import android.content.Context;
+import android.database.DataSetObserver;
+import android.view.View;
 import android.view.ViewGroup;
-import android.widget.ListView;
+import android.widget.TextView;
 import de.codecrafters.tableview.listeners.TableHeaderClickListener;
 
 import java.util.HashSet;
@@ -11,13 +13,16 @@ import java.util.Set;
 
 /**
  * This view represents the header of a table. The given {@link TableHeaderAdapter} is used to fill
- * this view with data.
+ * this view with data. The header views of all columns are placed like the cells of a data row, using the column
+ * widths given by the column model of the adapter. They are created once and only created again, if the adapter
+ * notifies about changes.
  *
  * @author ISchwarz
  */
-class TableHeaderView extends ListView {
+class TableHeaderView extends TableRowLayout {
 
     private final Set<TableHeaderClickListener> listeners = new HashSet<>();
+    private final DataSetObserver adapterObserver = new InternalAdapterObserver();
     private TableHeaderAdapter adapter;
 
     /**
@@ -27,7 +32,7 @@ class TableHeaderView extends ListView {
      */
     public TableHeaderView(final Context context) {
         super(context);
-        setLayoutParams(new LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+        setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
     }
 
     /**
@@ -36,21 +41,32 @@ class TableHeaderView extends ListView {
      * @param adapter The {@link TableHeaderAdapter} that should be set.
      */
     public void setAdapter(final TableHeaderAdapter adapter) {
+        if (this.adapter != null) {
+            this.adapter.unregisterDataSetObserver(adapterObserver);
+        }
         this.adapter = adapter;
-        super.setAdapter(adapter);
+        if (adapter != null) {
+            adapter.registerDataSetObserver(adapterObserver);
+        }
+        createHeaderViews();
     }
 
-    @Override
+    /**
+     * Gives the {@link TableHeaderAdapter} that is used to render the header views.
+     *
+     * @return The {@link TableHeaderAdapter} that is currently set.
+     */
     public TableHeaderAdapter getAdapter() {
         return adapter;
     }
 
     @Override
-    public void invalidate() {
-        if (adapter != null) {
-            adapter.notifyDataSetChanged();
+    void setFrozenColumnCount(final int frozenColumnCount) {
+        if (getFrozenColumnCount() != frozenColumnCount) {
+            super.setFrozenColumnCount(frozenColumnCount);
+            // the frozen header views are added last, so they are drawn above and touched before the others
+            createHeaderViews();
         }
-        super.invalidate();
     }
 
     protected Set<TableHeaderClickListener> getHeaderClickListeners() {
@@ -75,4 +91,62 @@ class TableHeaderView extends ListView {
         listeners.remove(listener);
     }
 
+    @Override
+    protected void onMeasure(final int widthMeasureSpec, final int heightMeasureSpec) {
+        if (adapter != null) {
+            final int width = MeasureSpec.getSize(widthMeasureSpec) - getPaddingLeft() - getPaddingRight();
+            applyColumnWidths(TableColumnWidths.of(adapter.getColumnModel(), width));
+        }
+        super.onMeasure(widthMeasureSpec, heightMeasureSpec);
+    }
+
+    private void createHeaderViews() {
+        removeAllViews();
+
+        if (adapter == null) {
+            requestLayout();
+            return;
+        }
+
+        final int columnCount = adapter.getColumnCount();
+        final View[] headerViews = new View[columnCount];
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            View headerView = adapter.getHeaderView(columnIndex, this);
+            if (headerView == null) {
+                headerView = new TextView(getContext());
+            }
+            headerView.setOnClickListener(new InternalHeaderClickListener(columnIndex, listeners));
+            headerViews[columnIndex] = headerView;
+        }
+
+        final int frozenHeaderViewCount = Math.min(getFrozenColumnCount(), columnCount);
+        for (int columnIndex = frozenHeaderViewCount; columnIndex < columnCount; columnIndex++) {
+            addViewInLayout(headerViews[columnIndex], -1, new LayoutParams(columnIndex), true);
+        }
+        for (int columnIndex = 0; columnIndex < frozenHeaderViewCount; columnIndex++) {
+            addViewInLayout(headerViews[columnIndex], -1, new LayoutParams(columnIndex), true);
+        }
+
+        requestLayout();
+        invalidate();
+    }
+
+    /**
+     * Creates the header views again, whenever the {@link TableHeaderAdapter} notifies about changes.
+     *
+     * @author ISchwarz
+     */
+    private class InternalAdapterObserver extends DataSetObserver {
+
+        @Override
+        public void onChanged() {
+            createHeaderViews();
+        }
+
+        @Override
+        public void onInvalidated() {
+            createHeaderViews();
+        }
+    }
+
 }
@@ -0,0 +1,255 @@
+package de.codecrafters.tableview;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.Arrays;
+
+
+/**
+ * The container of the cells of a table row. Every cell is placed at the position of its column, which is
+ * precomputed from the column widths, and measured exactly once with the width of its column. As long as the column
+ * widths do not change, cells that do not request a new layout are not measured again. The cells of the frozen
+ * columns stay in place, while all other cells are moved by the horizontal scroll offset.
+ *
+ * @author ISchwarz
+ */
+class TableRowLayout extends ViewGroup {
+
+    private int[] columnWidths = new int[0];
+    private int[] columnStarts = new int[1];
+    private int frozenColumnCount;
+    private int horizontalScrollOffset;
+    private boolean cellMeasuresValid;
+    private int lastHeightMeasureSpec;
+
+
+    /**
+     * Creates a new TableRowLayout.
+     *
+     * @param context The context that shall be used.
+     */
+    TableRowLayout(final Context context) {
+        super(context);
+    }
+
+    /**
+     * Sets the widths of the columns of the table. The cells are laid out again if the widths have changed.
+     *
+     * @param columnWidths The widths of all columns, ordered by column index.
+     */
+    void setColumnWidths(final int[] columnWidths) {
+        if (applyColumnWidths(columnWidths)) {
+            requestLayout();
+        }
+    }
+
+    /**
+     * Sets the widths of the columns of the table without requesting a new layout. (Hint: use this method while
+     * this row is measured)
+     *
+     * @param columnWidths The widths of all columns, ordered by column index.
+     * @return {@code TRUE} if the widths have changed, else {@code FALSE}.
+     */
+    boolean applyColumnWidths(final int[] columnWidths) {
+        if (this.columnWidths == columnWidths || Arrays.equals(this.columnWidths, columnWidths)) {
+            return false;
+        }
+
+        this.columnWidths = columnWidths;
+        columnStarts = new int[columnWidths.length + 1];
+        for (int columnIndex = 0; columnIndex < columnWidths.length; columnIndex++) {
+            columnStarts[columnIndex + 1] = columnStarts[columnIndex] + columnWidths[columnIndex];
+        }
+        cellMeasuresValid = false;
+        return true;
+    }
+
+    /**
+     * Gives the number of leading columns, whose cells are not scrolled horizontally.
+     *
+     * @return The number of frozen columns.
+     */
+    int getFrozenColumnCount() {
+        return frozenColumnCount;
+    }
+
+    /**
+     * Sets the number of leading columns, whose cells are not scrolled horizontally. (Hint: the cells of the frozen
+     * columns shall be the last children of this row, so they are drawn above the scrolled cells and receive the
+     * touches first)
+     *
+     * @param frozenColumnCount The number of frozen columns.
+     */
+    void setFrozenColumnCount(final int frozenColumnCount) {
+        if (this.frozenColumnCount != frozenColumnCount) {
+            this.frozenColumnCount = frozenColumnCount;
+            requestLayout();
+            invalidate();
+        }
+    }
+
+    /**
+     * Moves the cells of all columns, that are not frozen, by the given offset. The cells are only placed at their
+     * new position, they are not measured again.
+     *
+     * @param horizontalScrollOffset The horizontal scroll offset in pixels.
+     */
+    void setHorizontalScrollOffset(final int horizontalScrollOffset) {
+        if (this.horizontalScrollOffset != horizontalScrollOffset) {
+            this.horizontalScrollOffset = horizontalScrollOffset;
+            if (!isLayoutRequested()) {
+                layoutCells();
+            }
+            invalidate();
+        }
+    }
+
+    /**
+     * Gives the offset the cells of all columns, that are not frozen, are moved by.
+     *
+     * @return The horizontal scroll offset in pixels.
+     */
+    int getHorizontalScrollOffset() {
+        return horizontalScrollOffset;
+    }
+
+    @Override
+    protected void onMeasure(final int widthMeasureSpec, final int heightMeasureSpec) {
+        final boolean measureAllCells = !cellMeasuresValid || heightMeasureSpec != lastHeightMeasureSpec;
+        final int verticalPadding = getPaddingTop() + getPaddingBottom();
+
+        int rowHeight = 0;
+        for (int childIndex = 0; childIndex < getChildCount(); childIndex++) {
+            final View cellView = getChildAt(childIndex);
+            if (cellView.getVisibility() == GONE) {
+                continue;
+            }
+
+            final int cellWidth = getColumnWidth(getColumnIndex(cellView));
+            if (measureAllCells || cellView.isLayoutRequested() || cellView.getMeasuredWidth() != cellWidth) {
+                final int cellWidthMeasureSpec = MeasureSpec.makeMeasureSpec(cellWidth, MeasureSpec.EXACTLY);
+                final int cellHeightMeasureSpec = getChildMeasureSpec(heightMeasureSpec, verticalPadding, cellView.getLayoutParams().height);
+                cellView.measure(cellWidthMeasureSpec, cellHeightMeasureSpec);
+            }
+            rowHeight = Math.max(rowHeight, cellView.getMeasuredHeight());
+        }
+        cellMeasuresValid = true;
+        lastHeightMeasureSpec = heightMeasureSpec;
+
+        final int height = Math.max(rowHeight + verticalPadding, getSuggestedMinimumHeight());
+        setMeasuredDimension(MeasureSpec.getSize(widthMeasureSpec), resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onLayout(final boolean changed, final int left, final int top, final int right, final int bottom) {
+        layoutCells();
+    }
+
+    @Override
+    protected boolean drawChild(final Canvas canvas, final View child, final long drawingTime) {
+        final int frozenWidth = getColumnStart(frozenColumnCount);
+        if (frozenWidth == 0 || getColumnIndex(child) < frozenColumnCount) {
+            return super.drawChild(canvas, child, drawingTime);
+        }
+
+        // scrolled cells must not be drawn below the frozen ones
+        final int saveCount = canvas.save();
+        canvas.clipRect(getPaddingLeft() + frozenWidth, 0, getWidth(), getHeight());
+        final boolean result = super.drawChild(canvas, child, drawingTime);
+        canvas.restoreToCount(saveCount);
+        return result;
+    }
+
+    @Override
+    protected boolean checkLayoutParams(final ViewGroup.LayoutParams layoutParams) {
+        return layoutParams instanceof LayoutParams;
+    }
+
+    @Override
+    protected LayoutParams generateDefaultLayoutParams() {
+        return new LayoutParams(0);
+    }
+
+    @Override
+    protected LayoutParams generateLayoutParams(final ViewGroup.LayoutParams layoutParams) {
+        return new LayoutParams(0);
+    }
+
+    private void layoutCells() {
+        final int contentHeight = getHeight() - getPaddingTop() - getPaddingBottom();
+
+        for (int childIndex = 0; childIndex < getChildCount(); childIndex++) {
+            final View cellView = getChildAt(childIndex);
+            if (cellView.getVisibility() == GONE) {
+                continue;
+            }
+
+            final int columnIndex = getColumnIndex(cellView);
+            int cellLeft = getPaddingLeft() + getColumnStart(columnIndex);
+            if (columnIndex >= frozenColumnCount) {
+                cellLeft -= horizontalScrollOffset;
+            }
+            // the cells are vertically centered within the row
+            final int cellTop = getPaddingTop() + (contentHeight - cellView.getMeasuredHeight()) / 2;
+            cellView.layout(cellLeft, cellTop, cellLeft + cellView.getMeasuredWidth(), cellTop + cellView.getMeasuredHeight());
+        }
+    }
+
+    /**
+     * Gives the number of columns of the table.
+     *
+     * @return The number of columns, whose widths have been set.
+     */
+    int getColumnCount() {
+        return columnWidths.length;
+    }
+
+    /**
+     * Gives the width of the column with the given index.
+     *
+     * @param columnIndex The index of the column.
+     * @return The width of the column in pixels.
+     */
+    int getColumnWidth(final int columnIndex) {
+        return columnIndex < columnWidths.length ? columnWidths[columnIndex] : 0;
+    }
+
+    /**
+     * Gives the position of the column with the given index, relative to the start of the first column.
+     *
+     * @param columnIndex The index of the column.
+     * @return The number of pixels the columns before the given column take.
+     */
+    int getColumnStart(final int columnIndex) {
+        return columnStarts[Math.min(columnIndex, columnWidths.length)];
+    }
+
+    private static int getColumnIndex(final View cellView) {
+        return ((LayoutParams) cellView.getLayoutParams()).columnIndex;
+    }
+
+    /**
+     * The layout parameters of a cell of a {@link TableRowLayout}. The width of a cell is defined by the width of
+     * its column.
+     *
+     * @author ISchwarz
+     */
+    static class LayoutParams extends ViewGroup.LayoutParams {
+
+        final int columnIndex;
+
+        /**
+         * Creates new LayoutParams for the cell of the given column.
+         *
+         * @param columnIndex The index of the column the cell is displayed in.
+         */
+        LayoutParams(final int columnIndex) {
+            super(WRAP_CONTENT, WRAP_CONTENT);
+            this.columnIndex = columnIndex;
+        }
+    }
+
+}
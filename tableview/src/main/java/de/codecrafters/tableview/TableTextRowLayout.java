@@ -0,0 +1,149 @@
+package de.codecrafters.tableview;
+
+import android.content.Context;
+import android.graphics.Canvas;
+import android.text.TextPaint;
+import android.text.TextUtils;
+import android.view.Gravity;
+
+import java.util.Arrays;
+
+
+/**
+ * A table row that draws the texts of its cells directly, without any child views. All cells are drawn with the
+ * {@link TextPaint} of the given {@link TableCellTextStyle}. The ellipsized texts are taken from the cache of the
+ * style and kept until the text of a cell, the column widths or the style change, so drawing a row again does not
+ * measure any text.
+ *
+ * @author ISchwarz
+ */
+class TableTextRowLayout extends TableRowLayout {
+
+    private TableCellTextStyle textStyle;
+    private int textStyleVersion;
+    private CharSequence[] cellTexts = new CharSequence[0];
+    private TableCellTextStyle.TextLayout[] textLayouts = new TableCellTextStyle.TextLayout[0];
+
+
+    /**
+     * Creates a new TableTextRowLayout.
+     *
+     * @param context The context that shall be used.
+     */
+    TableTextRowLayout(final Context context) {
+        super(context);
+        setWillNotDraw(false);
+    }
+
+    /**
+     * Sets the style the cell texts are drawn with. The row is laid out again if the style has changed since the
+     * last call.
+     *
+     * @param textStyle The {@link TableCellTextStyle} that shall be used.
+     */
+    void setTextStyle(final TableCellTextStyle textStyle) {
+        if (this.textStyle != textStyle || textStyleVersion != textStyle.getVersion()) {
+            this.textStyle = textStyle;
+            this.textStyleVersion = textStyle.getVersion();
+            Arrays.fill(textLayouts, null);
+            requestLayout();
+            invalidate();
+        }
+    }
+
+    /**
+     * Sets the text of the cell in the column with the given index. (Hint: set the column widths before, as they
+     * define the number of cells of this row)
+     *
+     * @param columnIndex The index of the column of the cell.
+     * @param text        The text that shall be drawn or {@code NULL} if the cell shall be empty.
+     */
+    void setCellText(final int columnIndex, final CharSequence text) {
+        if (!TextUtils.equals(cellTexts[columnIndex], text)) {
+            cellTexts[columnIndex] = text;
+            textLayouts[columnIndex] = null;
+            invalidate();
+        }
+    }
+
+    @Override
+    boolean applyColumnWidths(final int[] columnWidths) {
+        if (!super.applyColumnWidths(columnWidths)) {
+            return false;
+        }
+
+        if (cellTexts.length != columnWidths.length) {
+            cellTexts = Arrays.copyOf(cellTexts, columnWidths.length);
+            textLayouts = new TableCellTextStyle.TextLayout[columnWidths.length];
+        } else {
+            Arrays.fill(textLayouts, null);
+        }
+        invalidate();
+        return true;
+    }
+
+    @Override
+    protected void onMeasure(final int widthMeasureSpec, final int heightMeasureSpec) {
+        final int cellHeight = textStyle != null ? textStyle.getCellHeight() : 0;
+        final int height = Math.max(cellHeight + getPaddingTop() + getPaddingBottom(), getSuggestedMinimumHeight());
+        setMeasuredDimension(MeasureSpec.getSize(widthMeasureSpec), resolveSize(height, heightMeasureSpec));
+    }
+
+    @Override
+    protected void onDraw(final Canvas canvas) {
+        if (textStyle == null) {
+            return;
+        }
+
+        final int contentHeight = getHeight() - getPaddingTop() - getPaddingBottom();
+        // the texts are vertically centered within the row, like the cell views of other rows
+        final int baseline = getPaddingTop() + (contentHeight - textStyle.getCellHeight()) / 2 + textStyle.getBaseline();
+        final int frozenCellCount = Math.min(getFrozenColumnCount(), getColumnCount());
+        final int scrolledCellsLeft = getPaddingLeft() + getColumnStart(frozenCellCount);
+
+        // scrolled cells must not be drawn below the frozen ones
+        final int saveCount = canvas.save();
+        canvas.clipRect(scrolledCellsLeft, 0, getWidth(), getHeight());
+        for (int columnIndex = frozenCellCount; columnIndex < getColumnCount(); columnIndex++) {
+            final int cellLeft = getPaddingLeft() + getColumnStart(columnIndex) - getHorizontalScrollOffset();
+            if (cellLeft >= getWidth()) {
+                break;
+            }
+            if (cellLeft + getColumnWidth(columnIndex) > scrolledCellsLeft) {
+                drawCellText(canvas, columnIndex, cellLeft, baseline);
+            }
+        }
+        canvas.restoreToCount(saveCount);
+
+        for (int columnIndex = 0; columnIndex < frozenCellCount; columnIndex++) {
+            drawCellText(canvas, columnIndex, getPaddingLeft() + getColumnStart(columnIndex), baseline);
+        }
+    }
+
+    private void drawCellText(final Canvas canvas, final int columnIndex, final int cellLeft, final int baseline) {
+        final CharSequence text = cellTexts[columnIndex];
+        final int availableWidth = textStyle.getAvailableTextWidth(getColumnWidth(columnIndex));
+        if (TextUtils.isEmpty(text) || availableWidth <= 0) {
+            return;
+        }
+
+        TableCellTextStyle.TextLayout textLayout = textLayouts[columnIndex];
+        if (textLayout == null) {
+            textLayout = textStyle.getTextLayout(text, availableWidth);
+            textLayouts[columnIndex] = textLayout;
+        }
+
+        int textLeft = cellLeft + textStyle.getPaddingLeft();
+        final int freeWidth = Math.max(0, availableWidth - textLayout.width);
+        switch (textStyle.getGravity() & Gravity.HORIZONTAL_GRAVITY_MASK) {
+            case Gravity.CENTER_HORIZONTAL:
+                textLeft += freeWidth / 2;
+                break;
+            case Gravity.RIGHT:
+                textLeft += freeWidth;
+                break;
+        }
+        canvas.drawText(textLayout.text, 0, textLayout.text.length(), textLeft, baseline, textStyle.getTextPaint());
+    }
+
+}
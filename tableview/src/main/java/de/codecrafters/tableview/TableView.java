@@ -13,10 +13,14 @@ import android.support.v4.view.ViewCompat;
 import android.support.v4.widget.SwipeRefreshLayout;
 import android.util.AttributeSet;
 import android.util.Log;
+import android.util.SparseArray;
+import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.*;
 import de.codecrafters.tableview.colorizers.TableDataRowColorizer;
+import de.codecrafters.tableview.extractors.ColumnTextExtractor;
+import de.codecrafters.tableview.filters.TableDataRowFilter;
 import de.codecrafters.tableview.listeners.*;
 import de.codecrafters.tableview.model.TableColumnModel;
 import de.codecrafters.tableview.model.TableColumnWeightModel;
@@ -24,6 +28,7 @@ import de.codecrafters.tableview.providers.TableDataRowBackgroundProvider;
 import de.codecrafters.tableview.toolkit.TableDataRowBackgroundProviders;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -41,10 +46,15 @@ public class TableView<T> extends LinearLayout {
     private static final int DEFAULT_COLUMN_COUNT = 4;
     private static final int DEFAULT_HEADER_ELEVATION = 1;
     private static final int DEFAULT_HEADER_COLOR = 0xFFCCCCCC;
+    private static final int DEFAULT_ROW_PREFETCH_COUNT = 4;
 
     private final Set<TableDataLongClickListener<T>> dataLongClickListeners = new HashSet<>();
     private final Set<TableDataClickListener<T>> dataClickListeners = new HashSet<>();
     private final Set<OnScrollListener> onScrollListeners = new HashSet<>();
+    private final RowPrefetcher rowPrefetcher = new RowPrefetcher(DEFAULT_ROW_PREFETCH_COUNT);
+    private final SparseArray<ColumnSearchIndex<T>> columnSearchIndices = new SparseArray<>();
+    private final TableDataChangeObserver searchIndexObserver = new SearchIndexDataChangeObserver();
+    private final RowViewsChangedListener rowViewsChangedListener = new InternalRowViewsChangedListener();
     private final LayoutTransition layoutTransition;
 
     private TableDataRowBackgroundProvider<? super T> dataRowBackgroundProvider =
@@ -55,10 +65,19 @@ public class TableView<T> extends LinearLayout {
     private ListView tableDataView;
     private TableDataAdapter<T> tableDataAdapter;
     private TableHeaderAdapter tableHeaderAdapter;
+    private TableDataRowFilter<? super T> rowFilter;
+    private int lastMatchRowIndex = -1;
+    private int lastMatchColumnIndex;
+    private String lastMatchQuery;
 
     private int headerElevation;
     private int headerColor;
 
+    private HorizontalScrollHandler horizontalScrollHandler;
+    private boolean horizontalScrollingEnabled;
+    private int horizontalScrollOffset;
+    private int frozenColumnCount;
+
 
     /**
      * Creates a new TableView with the given context.\n
@@ -96,6 +115,7 @@ public class TableView<T> extends LinearLayout {
         setupTableDataView(attributes, styleAttributes);
 
         layoutTransition = new LayoutTransition();
+        horizontalScrollHandler = new HorizontalScrollHandler(this, new InternalHorizontalScrollTarget());
     }
 
     /**
@@ -106,6 +126,8 @@ public class TableView<T> extends LinearLayout {
     protected void setHeaderView(final TableHeaderView headerView) {
         this.tableHeaderView = headerView;
 
+        tableHeaderView.setHorizontalScrollOffset(horizontalScrollOffset);
+        tableHeaderView.setFrozenColumnCount(getEffectiveFrozenColumnCount());
         tableHeaderView.setAdapter(tableHeaderAdapter);
         tableHeaderView.setBackgroundColor(headerColor);
         tableHeaderView.setId(R.id.table_header_view);
@@ -117,7 +139,7 @@ public class TableView<T> extends LinearLayout {
         addView(tableHeaderView, 0);
         setHeaderElevation(headerElevation);
 
-        forceRefresh();
+        forceLayoutRefresh();
     }
 
     /**
@@ -401,7 +423,7 @@ public class TableView<T> extends LinearLayout {
         tableHeaderAdapter = headerAdapter;
         tableHeaderAdapter.setColumnModel(columnModel);
         tableHeaderView.setAdapter(tableHeaderAdapter);
-        forceRefresh();
+        forceLayoutRefresh();
     }
 
     /**
@@ -419,11 +441,32 @@ public class TableView<T> extends LinearLayout {
      * @param dataAdapter The {@link TableDataAdapter} that should be set.
      */
     public void setDataAdapter(final TableDataAdapter<T> dataAdapter) {
+        if (tableDataAdapter != null) {
+            tableDataAdapter.cancelPendingRowFilter();
+            tableDataAdapter.unregisterDataChangeObserver(searchIndexObserver);
+            tableDataAdapter.setRowViewsChangedListener(null);
+        }
         tableDataAdapter = dataAdapter;
+        if (!tableDataAdapter.isFullyLoaded() && (rowFilter != null || columnSearchIndices.size() > 0)) {
+            Log.w(LOG_TAG, "Removing the row filter and the search indices. Reason: the rows of the data adapter " +
+                    "are loaded on demand.");
+            rowFilter = null;
+            clearColumnSearchIndices();
+        }
+        tableDataAdapter.registerDataChangeObserver(searchIndexObserver);
+        tableDataAdapter.setRowViewsChangedListener(rowViewsChangedListener);
         tableDataAdapter.setColumnModel(columnModel);
         tableDataAdapter.setRowBackgroundProvider(dataRowBackgroundProvider);
+        tableDataAdapter.setHorizontalScrollingEnabled(horizontalScrollingEnabled);
+        tableDataAdapter.setHorizontalScrollOffset(horizontalScrollOffset);
+        tableDataAdapter.setFrozenColumnCount(getEffectiveFrozenColumnCount());
         tableDataView.setAdapter(tableDataAdapter);
-        forceRefresh();
+        rowPrefetcher.setAdapter(tableDataAdapter);
+        refreshDataView();
+        // the filter is set after the data change has been notified, which would test all rows once again
+        if (rowFilter != null) {
+            tableDataAdapter.setRowFilter(rowFilter, false);
+        }
     }
 
     /**
@@ -444,7 +487,9 @@ public class TableView<T> extends LinearLayout {
         this.columnModel = columnModel;
         this.tableHeaderAdapter.setColumnModel(this.columnModel);
         this.tableDataAdapter.setColumnModel(this.columnModel);
-        forceRefresh();
+        // the new model may have another number of columns
+        tableHeaderAdapter.notifyDataSetChanged();
+        forceLayoutRefresh();
     }
 
     /**
@@ -463,7 +508,8 @@ public class TableView<T> extends LinearLayout {
      */
     public void setColumnCount(final int columnCount) {
         columnModel.setColumnCount(columnCount);
-        forceRefresh();
+        tableHeaderAdapter.notifyDataSetChanged();
+        forceLayoutRefresh();
     }
 
     /**
@@ -479,7 +525,7 @@ public class TableView<T> extends LinearLayout {
         if (columnModel instanceof TableColumnWeightModel) {
             TableColumnWeightModel columnWeightModel = (TableColumnWeightModel) columnModel;
             columnWeightModel.setColumnWeight(columnIndex, columnWeight);
-            forceRefresh();
+            forceLayoutRefresh();
         }
     }
 
@@ -500,6 +546,302 @@ public class TableView<T> extends LinearLayout {
         return -1;
     }
 
+    /**
+     * Enables or disables the horizontal scrolling of this table. If enabled, the columns of the table can be wider
+     * than the table itself (e.g. by using a {@link de.codecrafters.tableview.model.TableColumnDpWidthModel}) and
+     * the user can scroll through them horizontally. Only the cells of the columns that intersect the viewport are
+     * materialized, the cells of the columns that are scrolled out of the viewport are recycled. By default the
+     * horizontal scrolling is disabled.
+     *
+     * @param enabled Whether the horizontal scrolling shall be enabled or not.
+     */
+    public void setHorizontalScrollingEnabled(final boolean enabled) {
+        horizontalScrollingEnabled = enabled;
+        if (!enabled) {
+            horizontalScrollHandler.stopFling();
+            horizontalScrollOffset = 0;
+            tableHeaderView.setHorizontalScrollOffset(0);
+            tableDataAdapter.setHorizontalScrollOffset(0);
+        }
+        tableDataAdapter.setHorizontalScrollingEnabled(enabled);
+        tableHeaderView.setFrozenColumnCount(getEffectiveFrozenColumnCount());
+        tableDataAdapter.setFrozenColumnCount(getEffectiveFrozenColumnCount());
+        forceLayoutRefresh();
+    }
+
+    /**
+     * Gives information whether the horizontal scrolling of this table is enabled or not.
+     *
+     * @return Boolean indication whether the horizontal scrolling is enabled or not.
+     */
+    public boolean isHorizontalScrollingEnabled() {
+        return horizontalScrollingEnabled;
+    }
+
+    /**
+     * Scrolls the table horizontally to the given offset. The offset is limited to the range in which the table
+     * can be scrolled. This method has no effect if the horizontal scrolling is disabled.
+     *
+     * @param horizontalScrollOffset The horizontal scroll offset in pixels.
+     */
+    public void setHorizontalScrollOffset(final int horizontalScrollOffset) {
+        if (!horizontalScrollingEnabled) {
+            return;
+        }
+
+        final int clampedScrollOffset = ColumnWindow.clampScrollOffset(getColumnWidths(), tableDataView.getWidth(), horizontalScrollOffset);
+        if (clampedScrollOffset == this.horizontalScrollOffset) {
+            return;
+        }
+
+        this.horizontalScrollOffset = clampedScrollOffset;
+        tableHeaderView.setHorizontalScrollOffset(clampedScrollOffset);
+        tableDataAdapter.setHorizontalScrollOffset(clampedScrollOffset);
+
+        final int firstVisibleRowIndex = tableDataView.getFirstVisiblePosition();
+        for (int childIndex = 0; childIndex < tableDataView.getChildCount(); childIndex++) {
+            final View rowView = tableDataView.getChildAt(childIndex);
+            if (rowView instanceof TableRowLayout) {
+                tableDataAdapter.updateVisibleColumns((TableRowLayout) rowView, firstVisibleRowIndex + childIndex, tableDataView);
+            }
+        }
+    }
+
+    /**
+     * Gives the offset the table is scrolled horizontally.
+     *
+     * @return The horizontal scroll offset in pixels.
+     */
+    public int getHorizontalScrollOffset() {
+        return ColumnWindow.clampScrollOffset(getColumnWidths(), tableDataView.getWidth(), horizontalScrollOffset);
+    }
+
+    /**
+     * Sets the number of leading columns, that stay in place while the table is scrolled horizontally (e.g. a
+     * column identifying the rows). The cells of the frozen columns are kept in place within each row, so they
+     * are neither moved nor bound again on horizontal scrolls. The frozen columns only take effect while the
+     * horizontal scrolling is enabled (see {@link #setHorizontalScrollingEnabled(boolean)}).
+     *
+     * @param frozenColumnCount The number of frozen columns. By default no column is frozen.
+     */
+    public void setFrozenColumnCount(final int frozenColumnCount) {
+        if (frozenColumnCount < 0) {
+            throw new IllegalArgumentException("Frozen column count must not be negative: " + frozenColumnCount);
+        }
+        this.frozenColumnCount = frozenColumnCount;
+        tableHeaderView.setFrozenColumnCount(getEffectiveFrozenColumnCount());
+        tableDataAdapter.setFrozenColumnCount(getEffectiveFrozenColumnCount());
+        forceLayoutRefresh();
+    }
+
+    /**
+     * Gives the number of leading columns, that stay in place while the table is scrolled horizontally.
+     *
+     * @return The number of frozen columns.
+     */
+    public int getFrozenColumnCount() {
+        return frozenColumnCount;
+    }
+
+    /**
+     * Sets the filter that decides which rows of the data are displayed. The filter does not modify the data of the
+     * {@link TableDataAdapter} and the rows keep their current order, so a sorted table is not sorted again. Large
+     * tables are filtered in chunks across several frames, while the previous result stays displayed.
+     *
+     * @param rowFilter The {@link TableDataRowFilter} that shall be used or {@code NULL} if all rows shall be
+     *                  displayed.
+     */
+    public void setRowFilter(final TableDataRowFilter<? super T> rowFilter) {
+        setRowFilter(rowFilter, false);
+    }
+
+    /**
+     * Sets the filter that decides which rows of the data are displayed. If the given filter only accepts rows that
+     * are accepted by the current filter (e.g. one more character has been typed into a search field), only the
+     * currently displayed rows are tested.
+     *
+     * @param rowFilter            The {@link TableDataRowFilter} that shall be used or {@code NULL} if all rows
+     *                             shall be displayed.
+     * @param narrowsCurrentFilter Whether the given filter only accepts rows that are accepted by the current filter.
+     */
+    public void setRowFilter(final TableDataRowFilter<? super T> rowFilter, final boolean narrowsCurrentFilter) {
+        if (rowFilter != null && !tableDataAdapter.isFullyLoaded()) {
+            Log.w(LOG_TAG, "Unable to filter the table data. Reason: the rows of the data adapter are loaded " +
+                    "on demand.");
+            return;
+        }
+        this.rowFilter = rowFilter;
+        tableDataAdapter.setRowFilter(rowFilter, narrowsCurrentFilter && rowFilter != null);
+    }
+
+    /**
+     * Gives the filter that decides which rows of the data are displayed.
+     *
+     * @return The current {@link TableDataRowFilter} or {@code NULL} if all rows are displayed.
+     */
+    public TableDataRowFilter<? super T> getRowFilter() {
+        return rowFilter;
+    }
+
+    /**
+     * Sets the extractor of the texts the column with the given index is searched by (see
+     * {@link #findRows(int, String)}). The texts of all rows are indexed on a background thread. Afterwards the
+     * index is updated whenever the {@link TableDataAdapter} is notified about inserted, changed or removed rows.
+     * Until the index is built, a search checks the texts of all rows.
+     *
+     * @param columnIndex   The index of the column that shall be searchable.
+     * @param textExtractor The {@link ColumnTextExtractor} giving the text of a row or {@code NULL} if the column
+     *                      shall not be searchable anymore.
+     */
+    public void setColumnSearchIndex(final int columnIndex, final ColumnTextExtractor<? super T> textExtractor) {
+        final ColumnSearchIndex<T> oldSearchIndex = columnSearchIndices.get(columnIndex);
+        if (oldSearchIndex != null) {
+            oldSearchIndex.cancel();
+            columnSearchIndices.remove(columnIndex);
+        }
+        if (textExtractor != null && !tableDataAdapter.isFullyLoaded()) {
+            Log.w(LOG_TAG, "Unable to index column with index " + columnIndex + ". Reason: the rows of the data " +
+                    "adapter are loaded on demand.");
+            return;
+        }
+        if (textExtractor != null) {
+            final ColumnSearchIndex<T> searchIndex = new ColumnSearchIndex<>(textExtractor);
+            searchIndex.build(tableDataAdapter.getData());
+            columnSearchIndices.put(columnIndex, searchIndex);
+        }
+    }
+
+    /**
+     * Finds the rows containing the given query in the column with the given index, ignoring the case. Only the
+     * displayed rows are found, so rows hidden by the row filter are left out.
+     *
+     * @param columnIndex The index of the column, which has to be searchable (see
+     *                    {@link #setColumnSearchIndex(int, ColumnTextExtractor)}).
+     * @param query       The text to search for.
+     * @return The indices of the matching rows in ascending order.
+     */
+    public int[] findRows(final int columnIndex, final String query) {
+        final ColumnSearchIndex<T> searchIndex = columnSearchIndices.get(columnIndex);
+        if (searchIndex == null) {
+            throw new IllegalArgumentException("No search index set for column " + columnIndex);
+        }
+        return tableDataAdapter.getRowIndices(searchIndex.find(tableDataAdapter.getData(), query));
+    }
+
+    /**
+     * Scrolls to the next row containing the given query in the column with the given index. If this method has
+     * been called with the same column and query before, the row after the last found row is searched, else the
+     * first matching row starting from the first visible row. After the last match the search starts over at the
+     * first row.
+     *
+     * @param columnIndex The index of the column, which has to be searchable.
+     * @param query       The text to search for.
+     * @return The index of the found row or -1 if no row matches.
+     */
+    public int scrollToNextMatch(final int columnIndex, final String query) {
+        final int[] matchingRowIndices = findRows(columnIndex, query);
+        if (matchingRowIndices.length == 0) {
+            return scrollToMatch(columnIndex, query, -1);
+        }
+
+        final int startRowIndex = isLastMatch(columnIndex, query)
+                ? lastMatchRowIndex + 1 : tableDataView.getFirstVisiblePosition();
+        int position = Arrays.binarySearch(matchingRowIndices, startRowIndex);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        return scrollToMatch(columnIndex, query, matchingRowIndices[position % matchingRowIndices.length]);
+    }
+
+    /**
+     * Scrolls to the previous row containing the given query in the column with the given index. If this method or
+     * {@link #scrollToNextMatch(int, String)} has been called with the same column and query before, the row before
+     * the last found row is searched, else the last matching row before the first visible row. Before the first
+     * match the search starts over at the last row.
+     *
+     * @param columnIndex The index of the column, which has to be searchable.
+     * @param query       The text to search for.
+     * @return The index of the found row or -1 if no row matches.
+     */
+    public int scrollToPreviousMatch(final int columnIndex, final String query) {
+        final int[] matchingRowIndices = findRows(columnIndex, query);
+        if (matchingRowIndices.length == 0) {
+            return scrollToMatch(columnIndex, query, -1);
+        }
+
+        final int startRowIndex = isLastMatch(columnIndex, query)
+                ? lastMatchRowIndex - 1 : tableDataView.getFirstVisiblePosition() - 1;
+        int position = Arrays.binarySearch(matchingRowIndices, startRowIndex);
+        if (position < 0) {
+            // the position of the last match before the start row
+            position = -position - 2;
+        }
+        if (position < 0) {
+            position = matchingRowIndices.length - 1;
+        }
+        return scrollToMatch(columnIndex, query, matchingRowIndices[position]);
+    }
+
+    private boolean isLastMatch(final int columnIndex, final String query) {
+        return lastMatchRowIndex >= 0 && lastMatchColumnIndex == columnIndex && query.equals(lastMatchQuery);
+    }
+
+    private int scrollToMatch(final int columnIndex, final String query, final int rowIndex) {
+        lastMatchRowIndex = rowIndex;
+        lastMatchColumnIndex = columnIndex;
+        lastMatchQuery = query;
+        if (rowIndex >= 0) {
+            tableDataView.setSelection(rowIndex);
+        }
+        return rowIndex;
+    }
+
+    /**
+     * Sets the number of rows that are prepared ahead of the viewport in scroll direction, while the main thread is
+     * idle between two frames. Preparing a row means looking up its background and calling
+     * {@link TableDataAdapter#prepareRow(int)}. The faster the table is scrolled, the more rows are prepared ahead.
+     *
+     * @param rowCount The number of rows that shall be prepared or {@code 0} if no rows shall be prepared. By
+     *                 default {@value #DEFAULT_ROW_PREFETCH_COUNT} rows are prepared.
+     */
+    public void setRowPrefetchCount(final int rowCount) {
+        if (rowCount < 0) {
+            throw new IllegalArgumentException("Row prefetch count must not be negative: " + rowCount);
+        }
+        rowPrefetcher.setPrefetchRowCount(rowCount);
+    }
+
+    /**
+     * Gives the number of rows that are prepared ahead of the viewport in scroll direction.
+     *
+     * @return The number of rows that are prepared.
+     */
+    public int getRowPrefetchCount() {
+        return rowPrefetcher.getPrefetchRowCount();
+    }
+
+    @Override
+    public boolean onInterceptTouchEvent(final MotionEvent event) {
+        if (horizontalScrollingEnabled && horizontalScrollHandler.onInterceptTouchEvent(event)) {
+            return true;
+        }
+        return super.onInterceptTouchEvent(event);
+    }
+
+    @Override
+    public boolean onTouchEvent(final MotionEvent event) {
+        if (horizontalScrollingEnabled && horizontalScrollHandler.onTouchEvent(event)) {
+            return true;
+        }
+        return super.onTouchEvent(event);
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        rowPrefetcher.cancel();
+    }
+
     @Override
     public void setSaveEnabled(final boolean enabled) {
         super.setSaveEnabled(enabled);
@@ -507,11 +849,35 @@ public class TableView<T> extends LinearLayout {
         tableDataView.setSaveEnabled(enabled);
     }
 
-    private void forceRefresh() {
+    private int getEffectiveFrozenColumnCount() {
+        return horizontalScrollingEnabled ? frozenColumnCount : 0;
+    }
+
+    private int[] getColumnWidths() {
+        return TableColumnWidths.of(columnModel, tableDataView.getWidth());
+    }
+
+    private void clearColumnSearchIndices() {
+        for (int i = 0; i < columnSearchIndices.size(); i++) {
+            columnSearchIndices.valueAt(i).cancel();
+        }
+        columnSearchIndices.clear();
+    }
+
+    private void forceLayoutRefresh() {
+        // only the presentation of the rows has changed, so the data is neither sorted nor filtered again and the
+        // header views are only measured again (they are created again where the columns change)
         if (tableHeaderView != null) {
+            tableHeaderView.requestLayout();
             tableHeaderView.invalidate();
-            tableHeaderAdapter.notifyDataSetChanged();
         }
+        if (tableDataView != null) {
+            tableDataView.invalidate();
+            tableDataAdapter.notifyRowViewsChanged();
+        }
+    }
+
+    private void refreshDataView() {
         if (tableDataView != null) {
             tableDataView.invalidate();
             tableDataAdapter.notifyDataSetChanged();
@@ -550,6 +916,8 @@ public class TableView<T> extends LinearLayout {
             tableDataAdapter = new DefaultTableDataAdapter(getContext());
         }
         tableDataAdapter.setRowBackgroundProvider(dataRowBackgroundProvider);
+        tableDataAdapter.registerDataChangeObserver(searchIndexObserver);
+        tableDataAdapter.setRowViewsChangedListener(rowViewsChangedListener);
 
         tableDataView = new ListView(getContext(), attributes, styleAttributes);
         tableDataView.setOnItemClickListener(new InternalDataClickListener());
@@ -557,6 +925,7 @@ public class TableView<T> extends LinearLayout {
         tableDataView.setLayoutParams(new LayoutParams(LayoutParams.MATCH_PARENT, LayoutParams.MATCH_PARENT));
         tableDataView.setAdapter(tableDataAdapter);
         tableDataView.setId(R.id.table_data_view);
+        rowPrefetcher.setAdapter(tableDataAdapter);
         tableDataView.setOnScrollListener(new InternalOnScrollListener());
 
         swipeRefreshLayout = new SwipeRefreshLayout(getContext());
@@ -629,6 +998,29 @@ public class TableView<T> extends LinearLayout {
         }
     }
 
+    /**
+     * Internal {@link HorizontalScrollHandler.ScrollTarget} that scrolls the header and the data rows horizontally.
+     *
+     * @author ISchwarz
+     */
+    private class InternalHorizontalScrollTarget implements HorizontalScrollHandler.ScrollTarget {
+
+        @Override
+        public int getHorizontalScrollOffset() {
+            return TableView.this.getHorizontalScrollOffset();
+        }
+
+        @Override
+        public int getMaxHorizontalScrollOffset() {
+            return Math.max(0, TableColumnWidths.sum(getColumnWidths()) - tableDataView.getWidth());
+        }
+
+        @Override
+        public void setHorizontalScrollOffset(final int horizontalScrollOffset) {
+            TableView.this.setHorizontalScrollOffset(horizontalScrollOffset);
+        }
+    }
+
     /**
      * Internal on {@link android.widget.AbsListView.OnScrollListener} that dispatches the callbacks to the registered
      * {@link OnScrollListener}s.
@@ -648,6 +1040,7 @@ public class TableView<T> extends LinearLayout {
 
         @Override
         public void onScroll(final AbsListView absListView, final int firstVisibleItem, final int visibleItemCount, final int totalItemCount) {
+            rowPrefetcher.onScroll(firstVisibleItem, visibleItemCount, totalItemCount);
 
             for (final OnScrollListener onScrollListener : onScrollListeners) {
                 onScrollListener.onScroll(tableDataView, firstVisibleItem, visibleItemCount, totalItemCount);
@@ -655,6 +1048,82 @@ public class TableView<T> extends LinearLayout {
         }
     }
 
+    /**
+     * Renders the visible rows again, whose data has changed while all rows have kept their position. The row views
+     * are bound again in place, so the {@link ListView} does not have to lay out all rows again.
+     *
+     * @author ISchwarz
+     */
+    private class InternalRowViewsChangedListener implements RowViewsChangedListener {
+
+        @Override
+        public void onRowViewsChanged(final int[] rowIndices) {
+            final int firstVisibleRowIndex = tableDataView.getFirstVisiblePosition();
+            for (int childIndex = 0; childIndex < tableDataView.getChildCount(); childIndex++) {
+                final int rowIndex = firstVisibleRowIndex + childIndex;
+                if (Arrays.binarySearch(rowIndices, rowIndex) < 0) {
+                    continue;
+                }
+
+                final View rowView = tableDataView.getChildAt(childIndex);
+                if (tableDataAdapter.getView(rowIndex, rowView, tableDataView) != rowView) {
+                    // the row view could not be bound again in place
+                    tableDataAdapter.notifyRowViewsChanged();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps the search indices of the columns up to date, when the data of the {@link TableDataAdapter} changes.
+     *
+     * @author ISchwarz
+     */
+    private class SearchIndexDataChangeObserver implements TableDataChangeObserver {
+
+        @Override
+        public void onDataSetChanged() {
+            lastMatchRowIndex = -1;
+            for (int i = 0; i < columnSearchIndices.size(); i++) {
+                columnSearchIndices.valueAt(i).build(tableDataAdapter.getData());
+            }
+        }
+
+        @Override
+        public void onRowsInserted(final int dataIndexStart, final int rowCount) {
+            lastMatchRowIndex = -1;
+            for (int i = 0; i < columnSearchIndices.size(); i++) {
+                columnSearchIndices.valueAt(i).onRowsInserted(tableDataAdapter.getData(), dataIndexStart, rowCount);
+            }
+        }
+
+        @Override
+        public void onRowsChanged(final int dataIndexStart, final int rowCount) {
+            for (int i = 0; i < columnSearchIndices.size(); i++) {
+                columnSearchIndices.valueAt(i).onRowsChanged(tableDataAdapter.getData(), dataIndexStart, rowCount);
+            }
+        }
+
+        @Override
+        public void onRowsRemoved(final int dataIndexStart, final int rowCount) {
+            lastMatchRowIndex = -1;
+            for (int i = 0; i < columnSearchIndices.size(); i++) {
+                columnSearchIndices.valueAt(i).onRowsRemoved(tableDataAdapter.getData(), dataIndexStart, rowCount);
+            }
+        }
+
+        @Override
+        public void onBatchApplied(final DataChangeBatch batch) {
+            if (batch.isStructural()) {
+                lastMatchRowIndex = -1;
+            }
+            for (int i = 0; i < columnSearchIndices.size(); i++) {
+                columnSearchIndices.valueAt(i).onBatchApplied(tableDataAdapter.getData(), batch);
+            }
+        }
+    }
+
     /**
      * The {@link TableHeaderAdapter} that is used by default. It contains the column model of the
      * table but no headers.
@@ -0,0 +1,21 @@
+package de.codecrafters.tableview.extractors;
+
+
+/**
+ * Extractor of the double key a column of a {@link de.codecrafters.tableview.SortableTableView} is sorted by. The keys
+ * are stored in a primitive array, so sorting by them needs no boxing and can use a radix sort.
+ *
+ * @param <T> The type of the row data.
+ * @author ISchwarz
+ */
+public interface ColumnDoubleKeyExtractor<T> {
+
+    /**
+     * Gives the key of the given row data, by which the column is sorted.
+     *
+     * @param rowData The data of the row to get the sort key of.
+     * @return The sort key of the given row data.
+     */
+    double getSortKey(final T rowData);
+
+}
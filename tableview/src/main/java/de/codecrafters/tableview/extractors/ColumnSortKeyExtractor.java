@@ -0,0 +1,23 @@
+package de.codecrafters.tableview.extractors;
+
+
+/**
+ * Extractor of the key a column of a {@link de.codecrafters.tableview.SortableTableView} is sorted by. In contrast
+ * to a {@link java.util.Comparator}, the key of each row is extracted only once and cached by the table until the
+ * row is changed, so expensive getters or string operations are not executed on every comparison.
+ *
+ * @param <T> The type of the row data.
+ * @param <K> The type of the sort key.
+ * @author ISchwarz
+ */
+public interface ColumnSortKeyExtractor<T, K> {
+
+    /**
+     * Gives the key of the given row data, by which the column is sorted.
+     *
+     * @param rowData The data of the row to get the sort key of.
+     * @return The sort key of the given row data.
+     */
+    K getSortKey(final T rowData);
+
+}
@@ -0,0 +1,21 @@
+package de.codecrafters.tableview.extractors;
+
+
+/**
+ * Extractor of the text a column of a {@link de.codecrafters.tableview.TableView} is searched by. The texts are
+ * extracted into a search index, so finding the rows containing a text does not need to look at the row data.
+ *
+ * @param <T> The type of the row data.
+ * @author ISchwarz
+ */
+public interface ColumnTextExtractor<T> {
+
+    /**
+     * Gives the text of the given row data, that is searched in.
+     *
+     * @param rowData The data of the row to get the text of.
+     * @return The text of the given row data or {@code NULL} if the row has no text.
+     */
+    String getText(final T rowData);
+
+}
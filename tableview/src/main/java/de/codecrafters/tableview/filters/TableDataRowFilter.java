@@ -0,0 +1,17 @@
+package de.codecrafters.tableview.filters;
+
+/**
+ * An interface for a table data row filter. It decides which rows of a {@link de.codecrafters.tableview.TableView}
+ * are displayed.
+ */
+public interface TableDataRowFilter<T> {
+
+    /**
+     * Checks if the row holding the given data shall be displayed.
+     *
+     * @param rowData The data of the row.
+     * @return True if the row shall be displayed, false if it shall be hidden.
+     */
+    boolean accept(final T rowData);
+
+}
@@ -0,0 +1,131 @@
+package de.codecrafters.tableview.model;
+
+import java.util.Arrays;
+
+/**
+ * Base class of the {@link TableColumnModel}s, that holds one int value per column (e.g. the weight or the width
+ * of a column) and caches the widths of all columns for the width of the table. The column values are stored in
+ * a growable int array, columns without a value set have the default value. The widths are calculated once and
+ * given to the table as array, so rendering a row does not need to calculate the width of every cell.
+ * Implementations have to call {@link #invalidateColumnWidths()} whenever a change affects the widths of the
+ * columns, that is not made using the methods of this class.
+ *
+ * @author ISchwarz
+ */
+public abstract class AbstractTableColumnModel implements TableColumnModel {
+
+    private final int defaultColumnValue;
+    private int[] columnValues = new int[0];
+    private int columnCount;
+
+    private int[] cachedColumnWidths;
+    private int cachedTableWidth;
+
+    /**
+     * Creates a new AbstractTableColumnModel with the given number of columns.
+     *
+     * @param columnCount        The number of columns.
+     * @param defaultColumnValue The value of columns, that have no value set.
+     */
+    protected AbstractTableColumnModel(final int columnCount, final int defaultColumnValue) {
+        this.columnCount = columnCount;
+        this.defaultColumnValue = defaultColumnValue;
+    }
+
+    @Override
+    public int getColumnCount() {
+        return columnCount;
+    }
+
+    @Override
+    public void setColumnCount(final int columnCount) {
+        this.columnCount = columnCount;
+        invalidateColumnWidths();
+    }
+
+    /**
+     * Gives the widths of all columns for the given table width. The widths are cached until the table width
+     * changes or {@link #invalidateColumnWidths()} is called. (Hint: the returned array must not be modified)
+     *
+     * @param tableWidthInPx The width of the table where it should be used.
+     * @return The widths of all columns, ordered by column index.
+     */
+    public int[] getColumnWidths(final int tableWidthInPx) {
+        if (cachedColumnWidths == null || cachedTableWidth != tableWidthInPx) {
+            cachedColumnWidths = calculateColumnWidths(tableWidthInPx);
+            cachedTableWidth = tableWidthInPx;
+        }
+        return cachedColumnWidths;
+    }
+
+    /**
+     * Calculates the widths of all columns for the given table width. By default the width of every column is
+     * given by {@link #getColumnWidth(int, int)}.
+     *
+     * @param tableWidthInPx The width of the table where it should be used.
+     * @return The widths of all columns, ordered by column index.
+     */
+    protected int[] calculateColumnWidths(final int tableWidthInPx) {
+        final int[] widths = new int[getColumnCount()];
+        for (int columnIndex = 0; columnIndex < widths.length; columnIndex++) {
+            widths[columnIndex] = getColumnWidth(columnIndex, tableWidthInPx);
+        }
+        return widths;
+    }
+
+    /**
+     * Removes the cached column widths, so they are calculated again when needed.
+     */
+    protected void invalidateColumnWidths() {
+        cachedColumnWidths = null;
+    }
+
+    /**
+     * Gives the value of the column at the given index.
+     *
+     * @param columnIndex The index of the column.
+     * @return The value of the column at the given index or the default value, if no value is set for this column.
+     */
+    protected int getColumnValue(final int columnIndex) {
+        if (columnIndex < 0 || columnIndex >= columnValues.length) {
+            return defaultColumnValue;
+        }
+        return columnValues[columnIndex];
+    }
+
+    /**
+     * Sets the value of the column at the given index.
+     *
+     * @param columnIndex The index of the column.
+     * @param columnValue The value that shall be set to the column at the given index.
+     */
+    protected void setColumnValue(final int columnIndex, final int columnValue) {
+        if (columnIndex < 0) {
+            throw new IllegalArgumentException("The column index must not be negative, but was " + columnIndex + ".");
+        }
+        ensureCapacity(columnIndex + 1);
+        columnValues[columnIndex] = columnValue;
+        invalidateColumnWidths();
+    }
+
+    /**
+     * Sets the values of the columns, starting with the column at index 0. The column widths are invalidated only
+     * once for all the given values.
+     *
+     * @param values The values that shall be set to the columns, ordered by column index.
+     */
+    protected void setColumnValues(final int... values) {
+        ensureCapacity(values.length);
+        System.arraycopy(values, 0, columnValues, 0, values.length);
+        invalidateColumnWidths();
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (columnValues.length < capacity) {
+            final int oldLength = columnValues.length;
+            columnValues = Arrays.copyOf(columnValues, Math.max(capacity, oldLength * 2));
+            Arrays.fill(columnValues, oldLength, columnValues.length, defaultColumnValue);
+        }
+    }
+
+}
@@ -3,22 +3,16 @@ package de.codecrafters.tableview.model;
 import android.content.Context;
 import android.util.DisplayMetrics;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * A {@link TableColumnModel} implementation holding absolute column widths in dp.
  *
  * @author ISchwarz
  */
-public class TableColumnDpWidthModel implements TableColumnModel {
+public class TableColumnDpWidthModel extends AbstractTableColumnModel {
 
     private static final int DEFAULT_COLUMN_WIDTH_IN_DP = 100;
 
-    private final Map<Integer, Integer> columnWidths;
     private final DisplayMetrics displayMetrics;
-    private int columnCount;
-    private int defaultColumnWidth;
 
     /**
      * Creates a new TableColumnModel with the given number of columns. Every column has by default
@@ -65,10 +59,8 @@ public class TableColumnDpWidthModel implements TableColumnModel {
     public TableColumnDpWidthModel(final DisplayMetrics displayMetrics, final int columnCount,
                                    final int defaultColumnWidthInDp) {
 
-        this.columnWidths = new HashMap<>();
+        super(columnCount, toPixel(displayMetrics, defaultColumnWidthInDp));
         this.displayMetrics = displayMetrics;
-        this.columnCount = columnCount;
-        this.defaultColumnWidth = toPixel(defaultColumnWidthInDp);
     }
 
     /**
@@ -78,29 +70,28 @@ public class TableColumnDpWidthModel implements TableColumnModel {
      * @param columnWidthInDp The width of the column in dp.
      */
     public void setColumnWidth(int columnIndex, int columnWidthInDp) {
-        this.columnWidths.put(columnIndex, toPixel(columnWidthInDp));
+        setColumnValue(columnIndex, toPixel(displayMetrics, columnWidthInDp));
     }
 
-    @Override
-    public void setColumnCount(final int columnCount) {
-        this.columnCount = columnCount;
-    }
-
-    @Override
-    public int getColumnCount() {
-        return columnCount;
+    /**
+     * Sets the column widths of the columns, starting with the column at index 0.
+     *
+     * @param columnWidthsInDp The widths of the columns in dp, ordered by column index.
+     */
+    public void setColumnWidths(final int... columnWidthsInDp) {
+        final int[] columnWidthsInPx = new int[columnWidthsInDp.length];
+        for (int columnIndex = 0; columnIndex < columnWidthsInDp.length; columnIndex++) {
+            columnWidthsInPx[columnIndex] = toPixel(displayMetrics, columnWidthsInDp[columnIndex]);
+        }
+        setColumnValues(columnWidthsInPx);
     }
 
     @Override
     public int getColumnWidth(int columnIndex, int tableWidthInPx) {
-        final Integer columnWidth = columnWidths.get(columnIndex);
-        if (columnWidth == null) {
-            return defaultColumnWidth;
-        }
-        return columnWidth;
+        return getColumnValue(columnIndex);
     }
 
-    private int toPixel(final int dp) {
+    private static int toPixel(final DisplayMetrics displayMetrics, final int dp) {
         return Math.round(dp * (displayMetrics.xdpi / DisplayMetrics.DENSITY_DEFAULT));
     }
 }
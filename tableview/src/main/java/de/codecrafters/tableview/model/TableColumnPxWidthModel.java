@@ -1,20 +1,14 @@
 package de.codecrafters.tableview.model;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * A {@link TableColumnModel} implementation holding absolute column widths in pixel.
  *
  * @author ISchwarz
  */
-public class TableColumnPxWidthModel implements TableColumnModel {
+public class TableColumnPxWidthModel extends AbstractTableColumnModel {
 
     private static final int DEFAULT_COLUMN_WIDTH_IN_PX = 200;
 
-    private final Map<Integer, Integer> columnWidths;
-    private int columnCount;
-    private int defaultColumnWidth;
 
     /**
      * Creates a new TableColumnModel with the given number of columns. Every column has by default
@@ -33,9 +27,7 @@ public class TableColumnPxWidthModel implements TableColumnModel {
      * @param defaultColumnWidthInPx The default width of columns in pixels.
      */
     public TableColumnPxWidthModel(final int columnCount, final int defaultColumnWidthInPx) {
-        this.columnWidths = new HashMap<>();
-        this.columnCount = columnCount;
-        this.defaultColumnWidth = defaultColumnWidthInPx;
+        super(columnCount, defaultColumnWidthInPx);
     }
 
     /**
@@ -45,25 +37,20 @@ public class TableColumnPxWidthModel implements TableColumnModel {
      * @param columnWidthInPx The width of the column in pixel.
      */
     public void setColumnWidth(int columnIndex, int columnWidthInPx) {
-        this.columnWidths.put(columnIndex, columnWidthInPx);
-    }
-
-    @Override
-    public void setColumnCount(final int columnCount) {
-        this.columnCount = columnCount;
+        setColumnValue(columnIndex, columnWidthInPx);
     }
 
-    @Override
-    public int getColumnCount() {
-        return columnCount;
+    /**
+     * Sets the column widths of the columns, starting with the column at index 0.
+     *
+     * @param columnWidthsInPx The widths of the columns in pixel, ordered by column index.
+     */
+    public void setColumnWidths(final int... columnWidthsInPx) {
+        setColumnValues(columnWidthsInPx);
     }
 
     @Override
     public int getColumnWidth(int columnIndex, int tableWidthInPx) {
-        final Integer columnWidth = columnWidths.get(columnIndex);
-        if (columnWidth == null) {
-            return defaultColumnWidth;
-        }
-        return columnWidth;
+        return getColumnValue(columnIndex);
     }
 }
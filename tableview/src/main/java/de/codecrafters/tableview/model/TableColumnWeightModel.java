@@ -2,9 +2,6 @@ package de.codecrafters.tableview.model;
 
 import de.codecrafters.tableview.TableView;
 
-import java.util.HashMap;
-import java.util.Map;
-
 
 /**
  * A model holding the column information of a {@link TableView}.
@@ -13,13 +10,10 @@ import java.util.Map;
  *
  * @author ISchwarz
  */
-public class TableColumnWeightModel implements TableColumnModel {
+public class TableColumnWeightModel extends AbstractTableColumnModel {
 
     private static final int DEFAULT_COLUMN_WEIGHT = 1;
 
-    private final Map<Integer, Integer> columnWeights;
-    private int columnCount;
-
     /**
      * Creates a new TableColumnModel with the given number of columns. Every column has by default
      * a weight (relative width) of 1.
@@ -27,24 +21,43 @@ public class TableColumnWeightModel implements TableColumnModel {
      * @param columnCount The number of columns.
      */
     public TableColumnWeightModel(final int columnCount) {
-        this.columnWeights = new HashMap<>();
-        this.columnCount = columnCount;
+        super(columnCount, DEFAULT_COLUMN_WEIGHT);
     }
 
     @Override
-    public int getColumnCount() {
-        return columnCount;
+    public int getColumnWidth(int columnIndex, int tableWidthInPx) {
+        final int[] columnWidths = getColumnWidths(tableWidthInPx);
+        if (columnIndex < 0 || columnIndex >= columnWidths.length) {
+            return 0;
+        }
+        return columnWidths[columnIndex];
     }
 
+    /**
+     * Calculates the widths of all columns. The table width is split by the column weights, where the pixels that
+     * remain from the integer division are distributed to the columns, so the columns fill the whole table width.
+     *
+     * @param tableWidthInPx The width of the table where it should be used.
+     * @return The widths of all columns, ordered by column index.
+     */
     @Override
-    public void setColumnCount(final int columnCount) {
-        this.columnCount = columnCount;
-    }
+    protected int[] calculateColumnWidths(final int tableWidthInPx) {
+        final int columnCount = getColumnCount();
+        final int[] columnWidths = new int[columnCount];
+        final int weightSum = getColumnWeightSum();
+        if (weightSum <= 0) {
+            return columnWidths;
+        }
 
-    @Override
-    public int getColumnWidth(int columnIndex, int tableWidthInPx) {
-        final int widthUnit = (tableWidthInPx / getColumnWeightSum());
-        return widthUnit * getColumnWeight(columnIndex);
+        long weightUntilColumn = 0;
+        int columnStart = 0;
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            weightUntilColumn += getColumnWeight(columnIndex);
+            final int columnEnd = (int) (tableWidthInPx * weightUntilColumn / weightSum);
+            columnWidths[columnIndex] = columnEnd - columnStart;
+            columnStart = columnEnd;
+        }
+        return columnWidths;
     }
 
     /**
@@ -54,7 +67,17 @@ public class TableColumnWeightModel implements TableColumnModel {
      * @param columnWeight The weight that should be set to the column at the given index.
      */
     public void setColumnWeight(final int columnIndex, final int columnWeight) {
-        columnWeights.put(columnIndex, columnWeight);
+        setColumnValue(columnIndex, columnWeight);
+    }
+
+    /**
+     * Sets the column weights (the relative widths of the columns) of the columns, starting with the column at
+     * index 0.
+     *
+     * @param columnWeights The weights that should be set to the columns, ordered by column index.
+     */
+    public void setColumnWeights(final int... columnWeights) {
+        setColumnValues(columnWeights);
     }
 
     /**
@@ -64,11 +87,7 @@ public class TableColumnWeightModel implements TableColumnModel {
      * @return The column weight of the column at the given index.
      */
     public int getColumnWeight(final int columnIndex) {
-        Integer columnWeight = columnWeights.get(columnIndex);
-        if (columnWeight == null) {
-            columnWeight = DEFAULT_COLUMN_WEIGHT;
-        }
-        return columnWeight;
+        return getColumnValue(columnIndex);
     }
 
     /**
@@ -79,7 +98,7 @@ public class TableColumnWeightModel implements TableColumnModel {
     public int getColumnWeightSum() {
         int weightSum = 0;
 
-        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+        for (int columnIndex = 0; columnIndex < getColumnCount(); columnIndex++) {
             weightSum += getColumnWeight(columnIndex);
         }
 
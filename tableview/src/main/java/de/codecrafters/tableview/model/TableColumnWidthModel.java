@@ -1,8 +1,5 @@
 package de.codecrafters.tableview.model;
 
-import java.util.HashMap;
-import java.util.Map;
-
 
 /**
  * A {@link TableColumnModel} implementation holding absolute column widths.
@@ -11,13 +8,10 @@ import java.util.Map;
  * @deprecated This class has been deprecated in version 2.4.1. Use the {@link TableColumnPxWidthModel} instead.
  */
 @Deprecated
-public class TableColumnWidthModel implements TableColumnModel {
+public class TableColumnWidthModel extends AbstractTableColumnModel {
 
     private static final int DEFAULT_COLUMN_WIDTH = 200;
 
-    private final Map<Integer, Integer> columnWidths;
-    private int columnCount;
-    private int defaultColumnWidth;
 
     /**
      * Creates a new TableColumnModel with the given number of columns. Every column has by default
@@ -36,9 +30,7 @@ public class TableColumnWidthModel implements TableColumnModel {
      * @param defaultColumnWidth The column width that is used, if not specified differently.
      */
     public TableColumnWidthModel(final int columnCount, final int defaultColumnWidth) {
-        this.columnWidths = new HashMap<>();
-        this.columnCount = columnCount;
-        this.defaultColumnWidth = defaultColumnWidth;
+        super(columnCount, defaultColumnWidth);
     }
 
     /**
@@ -48,25 +40,20 @@ public class TableColumnWidthModel implements TableColumnModel {
      * @param columnWidth The width of the column.
      */
     public void setColumnWidth(int columnIndex, int columnWidth) {
-        this.columnWidths.put(columnIndex, columnWidth);
-    }
-
-    @Override
-    public void setColumnCount(final int columnCount) {
-        this.columnCount = columnCount;
+        setColumnValue(columnIndex, columnWidth);
     }
 
-    @Override
-    public int getColumnCount() {
-        return columnCount;
+    /**
+     * Sets the column widths of the columns, starting with the column at index 0.
+     *
+     * @param columnWidths The widths of the columns, ordered by column index.
+     */
+    public void setColumnWidths(final int... columnWidths) {
+        setColumnValues(columnWidths);
     }
 
     @Override
     public int getColumnWidth(int columnIndex, int tableWidthInPx) {
-        final Integer columnWidth = columnWidths.get(columnIndex);
-        if (columnWidth == null) {
-            return defaultColumnWidth;
-        }
-        return columnWidth;
+        return getColumnValue(columnIndex);
     }
 }
@@ -19,6 +19,9 @@ import java.util.List;
  */
 public abstract class LongPressAwareTableDataAdapter<T> extends TableDataAdapter<T> {
 
+    private static final int DEFAULT_CELL_VIEW_TYPE = 0;
+    private static final int LONG_PRESS_CELL_VIEW_TYPE = 1;
+
     private int expandedRow = -1;
 
     /**
@@ -45,6 +48,22 @@ public abstract class LongPressAwareTableDataAdapter<T> extends TableDataAdapter
         return view;
     }
 
+    @Override
+    public final boolean bindCellView(final int rowIndex, final int columnIndex, final View recycledView) {
+        if (rowIndex == expandedRow) {
+            return bindLongPressCellView(rowIndex, columnIndex, recycledView);
+        }
+        return bindDefaultCellView(rowIndex, columnIndex, recycledView);
+    }
+
+    @Override
+    public final int getCellViewType(final int rowIndex, final int columnIndex) {
+        if (rowIndex == expandedRow) {
+            return LONG_PRESS_CELL_VIEW_TYPE;
+        }
+        return DEFAULT_CELL_VIEW_TYPE;
+    }
+
     /**
      * The cell view that is displayed to the user when the row is collapsed.
      *
@@ -65,12 +84,40 @@ public abstract class LongPressAwareTableDataAdapter<T> extends TableDataAdapter
      */
     public abstract View getLongPressCellView(final int rowIndex, final int columnIndex, final ViewGroup parentView);
 
+    /**
+     * Rebinds a recycled cell view, that was created by {@link #getDefaultCellView(int, int, ViewGroup)}, to the
+     * given collapsed cell.
+     *
+     * @param rowIndex     The index of the row where this cell is displayed.
+     * @param columnIndex  The index of the column where this cell is displayed.
+     * @param recycledView The recycled "default-version" of a cell view of this column.
+     * @return {@code TRUE} if the recycled view has been rebound, {@code FALSE} if a new cell view shall be
+     * created.
+     */
+    public boolean bindDefaultCellView(final int rowIndex, final int columnIndex, final View recycledView) {
+        return false;
+    }
+
+    /**
+     * Rebinds a recycled cell view, that was created by {@link #getLongPressCellView(int, int, ViewGroup)}, to the
+     * given long pressed cell.
+     *
+     * @param rowIndex     The index of the row where this cell is displayed.
+     * @param columnIndex  The index of the column where this cell is displayed.
+     * @param recycledView The recycled "long-press-version" of a cell view of this column.
+     * @return {@code TRUE} if the recycled view has been rebound, {@code FALSE} if a new cell view shall be
+     * created.
+     */
+    public boolean bindLongPressCellView(final int rowIndex, final int columnIndex, final View recycledView) {
+        return false;
+    }
+
     private class InternalDataLongClickListener implements TableDataLongClickListener<T> {
 
         @Override
         public boolean onDataLongClicked(final int rowIndex, final T clickedData) {
             expandedRow = rowIndex;
-            notifyDataSetChanged();
+            notifyRowViewsChanged();
             return true;
         }
     }
@@ -80,7 +127,7 @@ public abstract class LongPressAwareTableDataAdapter<T> extends TableDataAdapter
         @Override
         public void onDataClicked(final int rowIndex, final T clickedData) {
             expandedRow = -1;
-            notifyDataSetChanged();
+            notifyRowViewsChanged();
         }
     }
 }
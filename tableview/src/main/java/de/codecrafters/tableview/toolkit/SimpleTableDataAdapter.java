@@ -6,10 +6,12 @@ import android.os.Build;
 import android.support.annotation.RequiresApi;
 import android.text.TextUtils;
 import android.util.Log;
-import android.view.Gravity;
 import android.view.View;
 import android.view.ViewGroup;
 import android.widget.TextView;
+import de.codecrafters.tableview.ColumnarTableData;
+import de.codecrafters.tableview.R;
+import de.codecrafters.tableview.TableCellTextStyle;
 import de.codecrafters.tableview.TableDataAdapter;
 
 import java.util.List;
@@ -23,45 +25,85 @@ public final class SimpleTableDataAdapter extends TableDataAdapter<String[]> {
 
     private static final String LOG_TAG = SimpleTableDataAdapter.class.getName();
 
-    private int paddingLeft = 20;
-    private int paddingTop = 15;
-    private int paddingRight = 20;
-    private int paddingBottom = 15;
-    private int textSize = 18;
-    private int typeface = Typeface.NORMAL;
-    private int textColor = 0x99000000;
-    private int gravity = Gravity.START;
+    private final TableCellTextStyle textStyle;
+    private final ColumnarTableData columnarData;
 
 
     public SimpleTableDataAdapter(final Context context, final String[][] data) {
         super(context, data);
+        textStyle = new TableCellTextStyle(context);
+        columnarData = null;
     }
 
     public SimpleTableDataAdapter(final Context context, final List<String[]> data) {
         super(context, data);
+        textStyle = new TableCellTextStyle(context);
+        columnarData = data instanceof ColumnarTableData ? (ColumnarTableData) data : null;
     }
 
     @Override
     public View getCellView(final int rowIndex, final int columnIndex, final ViewGroup parentView) {
         final TextView textView = new TextView(getContext());
-        textView.setPadding(paddingLeft, paddingTop, paddingRight, paddingBottom);
-        textView.setTypeface(textView.getTypeface(), typeface);
-        textView.setTextSize(textSize);
-        textView.setTextColor(textColor);
-        textView.setSingleLine();
-        textView.setEllipsize(TextUtils.TruncateAt.END);
+        renderCell(rowIndex, columnIndex, textView);
+        return textView;
+    }
+
+    @Override
+    public boolean bindCellView(final int rowIndex, final int columnIndex, final View recycledView) {
+        if (recycledView instanceof TextView) {
+            renderCell(rowIndex, columnIndex, (TextView) recycledView);
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isCellViewTypeColumnIndependent(final int cellViewType) {
+        return true;
+    }
 
+    @Override
+    public CharSequence getCellText(final int rowIndex, final int columnIndex) {
         try {
-            final String textToShow = getItem(rowIndex)[columnIndex];
-            textView.setText(textToShow);
-            textView.setGravity(gravity);
+            if (columnarData != null) {
+                // the cell is read from its column, without creating the array of the whole row
+                return columnarData.getString(getDataIndex(rowIndex), columnIndex);
+            }
+            return getItem(rowIndex)[columnIndex];
         } catch (final IndexOutOfBoundsException e) {
             Log.w(LOG_TAG, "No Sting given for row " + rowIndex + ", column " + columnIndex + ". "
                     + "Caught exception: " + e.toString());
-            // Show no text
+            return null;
         }
+    }
 
-        return textView;
+    private void renderCell(final int rowIndex, final int columnIndex, final TextView textView) {
+        // a recycled text view only needs to be styled again, if the style has changed in the meantime
+        final Object styleVersion = textView.getTag(R.id.table_cell_text_style_version);
+        if (styleVersion == null || (Integer) styleVersion != textStyle.getVersion()) {
+            textView.setPadding(textStyle.getPaddingLeft(), textStyle.getPaddingTop(), textStyle.getPaddingRight(), textStyle.getPaddingBottom());
+            // the style is applied to a default typeface, as a recycled text view may still have another style
+            textView.setTypeface(Typeface.defaultFromStyle(textStyle.getTypeface()), textStyle.getTypeface());
+            textView.setTextSize(textStyle.getTextSize());
+            textView.setTextColor(textStyle.getTextColor());
+            textView.setSingleLine();
+            textView.setEllipsize(TextUtils.TruncateAt.END);
+            textView.setGravity(textStyle.getGravity());
+            textView.setTag(R.id.table_cell_text_style_version, textStyle.getVersion());
+        }
+        textView.setText(getCellText(rowIndex, columnIndex));
+    }
+
+    /**
+     * Sets whether the cells shall be drawn directly by the rows instead of using a {@link TextView} for every cell.
+     * This reduces the number of views of a row to one, which makes binding and scrolling cheaper. The cell texts
+     * are drawn using the same paddings, text size, typeface, text color and gravity. Clicks and long clicks are
+     * still handled per row. (Hint: call this method before the adapter is set to the table.)
+     *
+     * @param enabled Whether the cells shall be drawn as plain text or not. By default a {@link TextView} is used.
+     */
+    public void setTextOnlyRenderingEnabled(final boolean enabled) {
+        setCellTextStyle(enabled ? textStyle : null);
     }
 
     /**
@@ -69,7 +111,7 @@ public final class SimpleTableDataAdapter extends TableDataAdapter<String[]> {
      * @param gravity Sets the gravity of the text inside the data cell.
      */
     public void setGravity(int gravity) {
-        this.gravity = gravity;
+        textStyle.setGravity(gravity);
     }
 
     /**
@@ -81,10 +123,7 @@ public final class SimpleTableDataAdapter extends TableDataAdapter<String[]> {
      * @param bottom The padding on the bottom side.
      */
     public void setPaddings(final int left, final int top, final int right, final int bottom) {
-        paddingLeft = left;
-        paddingTop = top;
-        paddingRight = right;
-        paddingBottom = bottom;
+        textStyle.setPaddings(left, top, right, bottom);
     }
 
     /**
@@ -93,7 +132,7 @@ public final class SimpleTableDataAdapter extends TableDataAdapter<String[]> {
      * @param paddingLeft The padding on the left side.
      */
     public void setPaddingLeft(final int paddingLeft) {
-        this.paddingLeft = paddingLeft;
+        textStyle.setPaddings(paddingLeft, textStyle.getPaddingTop(), textStyle.getPaddingRight(), textStyle.getPaddingBottom());
     }
 
     /**
@@ -102,7 +141,7 @@ public final class SimpleTableDataAdapter extends TableDataAdapter<String[]> {
      * @param paddingTop The padding on the top side.
      */
     public void setPaddingTop(final int paddingTop) {
-        this.paddingTop = paddingTop;
+        textStyle.setPaddings(textStyle.getPaddingLeft(), paddingTop, textStyle.getPaddingRight(), textStyle.getPaddingBottom());
     }
 
     /**
@@ -111,7 +150,7 @@ public final class SimpleTableDataAdapter extends TableDataAdapter<String[]> {
      * @param paddingRight The padding on the right side.
      */
     public void setPaddingRight(final int paddingRight) {
-        this.paddingRight = paddingRight;
+        textStyle.setPaddings(textStyle.getPaddingLeft(), textStyle.getPaddingTop(), paddingRight, textStyle.getPaddingBottom());
     }
 
     /**
@@ -120,7 +159,7 @@ public final class SimpleTableDataAdapter extends TableDataAdapter<String[]> {
      * @param paddingBottom The padding on the bottom side.
      */
     public void setPaddingBottom(final int paddingBottom) {
-        this.paddingBottom = paddingBottom;
+        textStyle.setPaddings(textStyle.getPaddingLeft(), textStyle.getPaddingTop(), textStyle.getPaddingRight(), paddingBottom);
     }
 
     /**
@@ -129,7 +168,7 @@ public final class SimpleTableDataAdapter extends TableDataAdapter<String[]> {
      * @param textSize The text size that shall be used.
      */
     public void setTextSize(final int textSize) {
-        this.textSize = textSize;
+        textStyle.setTextSize(textSize);
     }
 
     /**
@@ -138,7 +177,7 @@ public final class SimpleTableDataAdapter extends TableDataAdapter<String[]> {
      * @param typeface The type face that shall be used.
      */
     public void setTypeface(final int typeface) {
-        this.typeface = typeface;
+        textStyle.setTypeface(typeface);
     }
 
     /**
@@ -147,7 +186,7 @@ public final class SimpleTableDataAdapter extends TableDataAdapter<String[]> {
      * @param textColor The text color that shall be used.
      */
     public void setTextColor(final int textColor) {
-        this.textColor = textColor;
+        textStyle.setTextColor(textColor);
     }
 
 
@@ -0,0 +1,94 @@
+package de.codecrafters.tableview;
+
+import de.codecrafters.tableview.extractors.ColumnSortKeyExtractor;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Test for {@link ColumnSortKeys} class.
+ *
+ * @author ISchwarz
+ */
+public class ColumnSortKeysTest {
+
+    private final List<String> data = new ArrayList<>(Arrays.asList("c", "a", "d", "b"));
+
+    private int extractionCount;
+    private ObjectColumnSortKeys<String, String> columnSortKeys;
+
+
+    @Before
+    public void setUp() throws Exception {
+        extractionCount = 0;
+        columnSortKeys = new ObjectColumnSortKeys<>(new ColumnSortKeyExtractor<String, String>() {
+            @Override
+            public String getSortKey(final String rowData) {
+                extractionCount++;
+                return rowData;
+            }
+        }, String.CASE_INSENSITIVE_ORDER);
+    }
+
+    @Test
+    public void shouldExtractKeysOnlyOnce() throws Exception {
+        // when
+        columnSortKeys.getKeys(data);
+        columnSortKeys.getKeys(data);
+
+        // then
+        assertEquals(data.size(), extractionCount);
+    }
+
+    @Test
+    public void shouldExtractOnlyInsertedAndChangedKeys() throws Exception {
+        // given
+        columnSortKeys.getKeys(data);
+
+        // when
+        data.add(1, "e");
+        columnSortKeys.onRowsInserted(1, 1);
+        data.set(3, "f");
+        columnSortKeys.onRowsChanged(3, 1);
+        final ColumnSortKeys.Keys keys = columnSortKeys.getKeys(data);
+
+        // then
+        assertEquals(6, extractionCount);
+        assertArrayEquals(data.toArray(), (Object[]) keys.values);
+    }
+
+    @Test
+    public void shouldKeepKeysOfRemainingRows() throws Exception {
+        // given
+        columnSortKeys.getKeys(data);
+
+        // when
+        data.subList(1, 3).clear();
+        columnSortKeys.onRowsRemoved(1, 2);
+        final ColumnSortKeys.Keys keys = columnSortKeys.getKeys(data);
+
+        // then
+        assertEquals(4, extractionCount);
+        assertArrayEquals(data.toArray(), (Object[]) keys.values);
+    }
+
+    @Test
+    public void shouldSortRowsByKeys() throws Exception {
+        // given
+        final ColumnSortKeys.Keys keys = columnSortKeys.getKeys(data);
+        final int[] rowOrder = RowOrderSorter.identity(data.size());
+
+        // when
+        RowOrderSorter.sort(rowOrder, columnSortKeys.createIndexComparator(keys, SortingOrder.DESCENDING));
+
+        // then
+        assertArrayEquals(new int[]{2, 0, 3, 1}, rowOrder);
+    }
+}
@@ -0,0 +1,89 @@
+package de.codecrafters.tableview;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Test for {@link ColumnWindow} class.
+ *
+ * @author ISchwarz
+ */
+public class ColumnWindowTest {
+
+    private static final int[] COLUMN_WIDTHS = {100, 100, 100, 100, 100, 100, 100, 100, 100, 100};
+
+
+    @Test
+    public void shouldContainVisibleColumnsAndOneExtraColumnOnEachSide() throws Exception {
+        // when
+        final ColumnWindow columnWindow = ColumnWindow.of(COLUMN_WIDTHS, 0, 250, 350);
+
+        // then
+        assertEquals(2, columnWindow.getFirstColumnIndex());
+        assertEquals(6, columnWindow.getLastColumnIndex());
+        assertEquals(200, columnWindow.getFirstColumnStart());
+        assertEquals(350, columnWindow.getScrollOffset());
+        assertFalse(columnWindow.contains(1));
+        assertTrue(columnWindow.contains(5));
+        assertFalse(columnWindow.contains(7));
+    }
+
+    @Test
+    public void shouldNotExceedTheColumnsOfTheTable() throws Exception {
+        // when
+        final ColumnWindow firstColumns = ColumnWindow.of(COLUMN_WIDTHS, 0, 250, 0);
+        final ColumnWindow lastColumns = ColumnWindow.of(COLUMN_WIDTHS, 0, 250, 750);
+
+        // then
+        assertEquals(0, firstColumns.getFirstColumnIndex());
+        assertEquals(3, firstColumns.getLastColumnIndex());
+        assertEquals(6, lastColumns.getFirstColumnIndex());
+        assertEquals(9, lastColumns.getLastColumnIndex());
+    }
+
+    @Test
+    public void shouldClampScrollOffset() throws Exception {
+        // when
+        final ColumnWindow beyondEnd = ColumnWindow.of(COLUMN_WIDTHS, 0, 250, 5000);
+        final ColumnWindow beforeStart = ColumnWindow.of(COLUMN_WIDTHS, 0, 250, -100);
+        final ColumnWindow notScrollable = ColumnWindow.of(new int[]{100, 100}, 0, 250, 100);
+
+        // then
+        assertEquals(750, beyondEnd.getScrollOffset());
+        assertEquals(0, beforeStart.getScrollOffset());
+        assertEquals(0, notScrollable.getScrollOffset());
+        assertEquals(0, notScrollable.getFirstColumnIndex());
+        assertEquals(1, notScrollable.getLastColumnIndex());
+    }
+
+    @Test
+    public void shouldNotContainFrozenColumns() throws Exception {
+        // when
+        final ColumnWindow firstColumns = ColumnWindow.of(COLUMN_WIDTHS, 2, 450, 0);
+        final ColumnWindow scrolledColumns = ColumnWindow.of(COLUMN_WIDTHS, 2, 450, 250);
+
+        // then
+        assertEquals(2, firstColumns.getFirstColumnIndex());
+        assertEquals(5, firstColumns.getLastColumnIndex());
+        assertEquals(0, firstColumns.getFirstColumnStart());
+        assertEquals(3, scrolledColumns.getFirstColumnIndex());
+        assertEquals(7, scrolledColumns.getLastColumnIndex());
+        assertEquals(100, scrolledColumns.getFirstColumnStart());
+    }
+
+    @Test
+    public void shouldContainAllColumnsIfViewportIsUnknown() throws Exception {
+        // when
+        final ColumnWindow columnWindow = ColumnWindow.of(COLUMN_WIDTHS, 0, 0, 350);
+
+        // then
+        assertEquals(0, columnWindow.getFirstColumnIndex());
+        assertEquals(9, columnWindow.getLastColumnIndex());
+        assertEquals(0, columnWindow.getFirstColumnStart());
+    }
+
+}
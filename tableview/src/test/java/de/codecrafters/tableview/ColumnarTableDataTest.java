@@ -0,0 +1,105 @@
+package de.codecrafters.tableview;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Test for {@link ColumnarTableData} class.
+ *
+ * @author ISchwarz
+ */
+public class ColumnarTableDataTest {
+
+    @Test
+    public void shouldGiveRowsOfAllColumnTypes() throws Exception {
+        // given
+        final ColumnarTableData data = new ColumnarTableData(2, 5);
+        data.setStringColumn(0, new String[]{"a", null});
+        data.setDictionaryColumn(1, new String[]{"x", "x"});
+        data.setIntColumn(2, new int[]{1, -2});
+        data.setLongColumn(3, new long[]{3L, 4L});
+        data.setDoubleColumn(4, new double[]{0.5, 1.5});
+
+        // then
+        assertEquals(2, data.size());
+        assertArrayEquals(new String[]{"a", "x", "1", "3", "0.5"}, data.get(0));
+        assertArrayEquals(new String[]{null, "x", "-2", "4", "1.5"}, data.get(1));
+    }
+
+    @Test
+    public void shouldEncodeLowCardinalityColumnsOfRows() throws Exception {
+        // given
+        final ColumnarTableData data = ColumnarTableData.fromRows(Arrays.asList(
+                new String[]{"b", "1"}, new String[]{"a", "2"}, new String[]{"b", "3"}, new String[]{null, "4"}), 2);
+
+        // then
+        assertArrayEquals(new String[]{"b", "1"}, data.get(0));
+        assertArrayEquals(new String[]{null, "4"}, data.get(3));
+        assertTrue(data.createSortKeys(0) instanceof IntColumnSortKeys);
+        assertTrue(data.createSortKeys(1) instanceof ObjectColumnSortKeys);
+    }
+
+    @Test
+    public void shouldSortDictionaryColumnByCodes() throws Exception {
+        // given
+        final ColumnarTableData data = new ColumnarTableData(4, 1);
+        data.setDictionaryColumn(0, new String[]{"c", null, "a", "c"});
+        final ColumnSortKeys<String[]> columnSortKeys = data.createSortKeys(0);
+        final int[] rowOrder = RowOrderSorter.identity(data.size());
+
+        // when
+        final ColumnSortKeys.Keys keys = columnSortKeys.getKeys(data);
+        columnSortKeys.sort(rowOrder, keys, SortingOrder.ASCENDING);
+
+        // then
+        assertArrayEquals(new int[]{-1, 0, 1, 1}, sortedKeys((int[]) keys.values, rowOrder));
+        assertArrayEquals(new int[]{1, 2, 0, 3}, rowOrder);
+    }
+
+    @Test
+    public void shouldCompareRowsLikeSortKeys() throws Exception {
+        // given
+        final ColumnarTableData data = new ColumnarTableData(3, 1);
+        data.setDoubleColumn(0, new double[]{2.5, -1.0, 0.0});
+
+        // when
+        final int result = data.createSortKeys(0).getComparator().compare(data.get(1), data.get(2));
+
+        // then
+        assertTrue(result < 0);
+    }
+
+    @Test
+    public void shouldGiveNullForColumnsWithoutValues() throws Exception {
+        // given
+        final ColumnarTableData data = new ColumnarTableData(1, 2);
+
+        // then
+        assertNull(data.getString(0, 1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectColumnsOfWrongLength() throws Exception {
+        // given
+        final ColumnarTableData data = new ColumnarTableData(2, 1);
+
+        // when
+        data.setIntColumn(0, new int[]{1});
+    }
+
+    private static int[] sortedKeys(final int[] keys, final int[] rowOrder) {
+        final int[] sortedKeys = new int[rowOrder.length];
+        for (int i = 0; i < rowOrder.length; i++) {
+            sortedKeys[i] = keys[rowOrder[i]];
+        }
+        return sortedKeys;
+    }
+
+}
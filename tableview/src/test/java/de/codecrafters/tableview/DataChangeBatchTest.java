@@ -0,0 +1,95 @@
+package de.codecrafters.tableview;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+
+/**
+ * Test for {@link DataChangeBatch} class.
+ *
+ * @author ISchwarz
+ */
+public class DataChangeBatchTest {
+
+    @Test
+    public void shouldKeepDataIndicesIfRowsAreOnlyAppendedAndUpdated() throws Exception {
+        // given
+        final DataChangeBatch.Builder builder = new DataChangeBatch.Builder(4);
+
+        // when
+        builder.onRowUpdated(2);
+        builder.onRowInserted(4);
+        builder.onRowInserted(5);
+        builder.onRowUpdated(4);
+        final DataChangeBatch batch = builder.build();
+
+        // then
+        assertTrue(batch.isStructural());
+        assertEquals(6, batch.getNewRowCount());
+        assertArrayEquals(new int[]{2, 4, 5}, batch.getChangedDataIndices());
+        assertEquals(0, batch.getNewDataIndex(0));
+        assertEquals(-1, batch.getNewDataIndex(2));
+        assertEquals(3, batch.getNewDataIndex(3));
+    }
+
+    @Test
+    public void shouldNotBeStructuralIfRowsAreOnlyUpdated() throws Exception {
+        // given
+        final DataChangeBatch.Builder builder = new DataChangeBatch.Builder(3);
+
+        // when
+        builder.onRowUpdated(1);
+        builder.onRowUpdated(1);
+        final DataChangeBatch batch = builder.build();
+
+        // then
+        assertFalse(batch.isStructural());
+        assertArrayEquals(new int[]{1}, batch.getChangedDataIndices());
+    }
+
+    @Test
+    public void shouldMapDataIndicesIfRowsAreInsertedAndRemoved() throws Exception {
+        // given
+        final DataChangeBatch.Builder builder = new DataChangeBatch.Builder(5);
+
+        // when
+        builder.onRowUpdated(4);
+        builder.onRowInserted(0);
+        builder.onRowRemoved(3);
+        builder.onRowInserted(2);
+        builder.onRowRemoved(0);
+        final DataChangeBatch batch = builder.build();
+
+        // then
+        assertTrue(batch.isStructural());
+        assertEquals(5, batch.getNewRowCount());
+        assertArrayEquals(new int[]{1, 4}, batch.getChangedDataIndices());
+        assertEquals(0, batch.getNewDataIndex(0));
+        assertEquals(2, batch.getNewDataIndex(1));
+        assertEquals(-1, batch.getNewDataIndex(2));
+        assertEquals(3, batch.getNewDataIndex(3));
+        assertEquals(-1, batch.getNewDataIndex(4));
+    }
+
+    @Test
+    public void shouldCopyKeptValues() throws Exception {
+        // given
+        final DataChangeBatch.Builder builder = new DataChangeBatch.Builder(5);
+        builder.onRowRemoved(1);
+        builder.onRowInserted(3);
+        builder.onRowUpdated(0);
+        final DataChangeBatch batch = builder.build();
+        final int[] newValues = new int[batch.getNewRowCount()];
+
+        // when
+        batch.copyKeptValues(new int[]{10, 11, 12, 13, 14}, newValues);
+
+        // then
+        assertArrayEquals(new int[]{0, 12, 13, 0, 14}, newValues);
+    }
+
+}
@@ -0,0 +1,122 @@
+package de.codecrafters.tableview;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Test for {@link NGramIndex} class.
+ *
+ * @author ISchwarz
+ */
+public class NGramIndexTest {
+
+    private NGramIndex index;
+
+
+    @Before
+    public void setUp() throws Exception {
+        index = new NGramIndex();
+        index.insertRows(0, new String[]{"Audi A4", "BMW 320d", null, "audi Q7", "Mercedes"});
+    }
+
+    @Test
+    public void shouldFindRowsIgnoringCase() throws Exception {
+        // then
+        assertArrayEquals(new int[]{0, 3}, index.find("AUDI"));
+        assertArrayEquals(new int[]{4}, index.find("cedes"));
+        assertArrayEquals(new int[0], index.find("opel"));
+    }
+
+    @Test
+    public void shouldFindRowsByShortQuery() throws Exception {
+        // then
+        assertArrayEquals(new int[]{0, 3}, index.find("a"));
+        assertArrayEquals(new int[]{0, 1, 2, 3, 4}, index.find(""));
+    }
+
+    @Test
+    public void shouldNotFindRowsContainingOnlyTheGramsOfTheQuery() throws Exception {
+        // given
+        index.insertRows(0, new String[]{"abcxbcd"});
+
+        // then
+        assertArrayEquals(new int[0], index.find("abcd"));
+    }
+
+    @Test
+    public void shouldShiftRowsOnInsertAndRemove() throws Exception {
+        // when
+        index.insertRows(1, new String[]{"Audi TT"});
+        index.removeRows(0, 1);
+
+        // then
+        assertEquals(5, index.getRowCount());
+        assertArrayEquals(new int[]{0, 3}, index.find("audi"));
+    }
+
+    @Test
+    public void shouldFindChangedRowsByNewText() throws Exception {
+        // when
+        index.changeRows(1, new String[]{"Audi A6"});
+
+        // then
+        assertArrayEquals(new int[]{0, 1, 3}, index.find("audi"));
+        assertArrayEquals(new int[0], index.find("bmw"));
+    }
+
+    @Test
+    public void shouldKeepRowsAfterCompaction() throws Exception {
+        // given
+        final String[] texts = new String[2000];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = "row " + i;
+        }
+        index.insertRows(5, texts);
+
+        // when
+        index.removeRows(5, texts.length);
+
+        // then
+        assertEquals(5, index.getRowCount());
+        assertArrayEquals(new int[]{0, 3}, index.find("audi"));
+        assertArrayEquals(new int[0], index.find("row"));
+    }
+
+    @Test
+    public void shouldApplyBatch() throws Exception {
+        // given
+        final DataChangeBatch.Builder builder = new DataChangeBatch.Builder(5);
+        builder.onRowRemoved(1);
+        builder.onRowInserted(0);
+        builder.onRowUpdated(4);
+        final DataChangeBatch batch = builder.build();
+
+        // when
+        index.applyBatch(batch, new String[]{"Opel Astra", "Audi TT"});
+
+        // then
+        assertEquals(5, index.getRowCount());
+        assertArrayEquals(new int[]{0}, index.find("opel"));
+        assertArrayEquals(new int[]{1, 3, 4}, index.find("audi"));
+        assertArrayEquals(new int[0], index.find("bmw"));
+    }
+
+    @Test
+    public void shouldApplyBatchesOfRanges() throws Exception {
+        // when
+        index.applyBatch(DataChangeBatch.ofRowsInserted(5, 1, 1), new String[]{"Audi TT"});
+        index.applyBatch(DataChangeBatch.ofRowsRemoved(6, 0, 2), new String[0]);
+        index.applyBatch(DataChangeBatch.ofRowsChanged(4, 3, 1), new String[]{"Audi R8"});
+
+        // then
+        assertEquals(4, index.getRowCount());
+        assertArrayEquals(new int[]{0}, index.find("bmw"));
+        assertArrayEquals(new int[]{2, 3}, index.find("audi"));
+        assertArrayEquals(new int[0], index.find("cedes"));
+    }
+
+}
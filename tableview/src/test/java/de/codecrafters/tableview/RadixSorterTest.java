@@ -0,0 +1,113 @@
+package de.codecrafters.tableview;
+
+import de.codecrafters.tableview.extractors.ColumnDoubleKeyExtractor;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+
+/**
+ * Test for {@link RadixSorter} class.
+ *
+ * @author ISchwarz
+ */
+public class RadixSorterTest {
+
+    private static final int TEST_ROW_COUNT = 1000;
+
+    private final int[] intKeys = new int[TEST_ROW_COUNT];
+    private final long[] longKeys = new long[TEST_ROW_COUNT];
+
+
+    @Before
+    public void setUp() throws Exception {
+        final Random random = new Random(42);
+        for (int i = 0; i < TEST_ROW_COUNT; i++) {
+            intKeys[i] = random.nextInt(100) - 50;
+            longKeys[i] = (random.nextInt(100) - 50) * (long) Integer.MAX_VALUE;
+        }
+        intKeys[0] = Integer.MIN_VALUE;
+        intKeys[1] = Integer.MAX_VALUE;
+        longKeys[0] = Long.MIN_VALUE;
+        longKeys[1] = Long.MAX_VALUE;
+    }
+
+    @Test
+    public void shouldSortIntKeysLikeStableSort() throws Exception {
+        for (final SortingOrder sortingOrder : SortingOrder.values()) {
+            // given
+            final int[] rowOrder = RowOrderSorter.identity(TEST_ROW_COUNT);
+
+            // when
+            RadixSorter.sort(rowOrder, intKeys, sortingOrder == SortingOrder.DESCENDING);
+
+            // then
+            final int[] expectedRowOrder = RowOrderSorter.identity(TEST_ROW_COUNT);
+            RowOrderSorter.sort(expectedRowOrder, new IndexComparator() {
+                @Override
+                public int compare(final int dataIndex1, final int dataIndex2) {
+                    final int result = Integer.valueOf(intKeys[dataIndex1]).compareTo(intKeys[dataIndex2]);
+                    return sortingOrder == SortingOrder.ASCENDING ? result : -result;
+                }
+            });
+            assertArrayEquals(expectedRowOrder, rowOrder);
+        }
+    }
+
+    @Test
+    public void shouldSortLongKeysLikeStableSort() throws Exception {
+        for (final SortingOrder sortingOrder : SortingOrder.values()) {
+            // given
+            final int[] rowOrder = RowOrderSorter.identity(TEST_ROW_COUNT);
+
+            // when
+            RadixSorter.sort(rowOrder, longKeys, sortingOrder == SortingOrder.DESCENDING);
+
+            // then
+            final int[] expectedRowOrder = RowOrderSorter.identity(TEST_ROW_COUNT);
+            RowOrderSorter.sort(expectedRowOrder, new IndexComparator() {
+                @Override
+                public int compare(final int dataIndex1, final int dataIndex2) {
+                    final int result = Long.valueOf(longKeys[dataIndex1]).compareTo(longKeys[dataIndex2]);
+                    return sortingOrder == SortingOrder.ASCENDING ? result : -result;
+                }
+            });
+            assertArrayEquals(expectedRowOrder, rowOrder);
+        }
+    }
+
+    @Test
+    public void shouldSortDoubleKeysLikeDoubleCompare() throws Exception {
+        // given
+        final double[] doubles = {3.5, -0.0, Double.NaN, -7.25, 0.0, Double.NEGATIVE_INFINITY, 1e-300, -1e300, 3.5};
+        final LongColumnSortKeys<Double> columnSortKeys = LongColumnSortKeys.forDoubleKeys(new ColumnDoubleKeyExtractor<Double>() {
+            @Override
+            public double getSortKey(final Double rowData) {
+                return rowData;
+            }
+        });
+        final List<Double> data = new ArrayList<>();
+        for (final double value : doubles) {
+            data.add(value);
+        }
+        final int[] rowOrder = RowOrderSorter.identity(doubles.length);
+
+        // when
+        columnSortKeys.sort(rowOrder, columnSortKeys.getKeys(data), SortingOrder.ASCENDING);
+
+        // then
+        final int[] expectedRowOrder = RowOrderSorter.identity(doubles.length);
+        RowOrderSorter.sort(expectedRowOrder, new IndexComparator() {
+            @Override
+            public int compare(final int dataIndex1, final int dataIndex2) {
+                return Double.valueOf(doubles[dataIndex1]).compareTo(doubles[dataIndex2]);
+            }
+        });
+        assertArrayEquals(expectedRowOrder, rowOrder);
+    }
+}
@@ -0,0 +1,181 @@
+package de.codecrafters.tableview;
+
+import android.os.Handler;
+import de.codecrafters.tableview.filters.TableDataRowFilter;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Test for {@link RowFilterIndex} class.
+ *
+ * @author ISchwarz
+ */
+public class RowFilterIndexTest {
+
+    private static final int ROW_COUNT = 200;
+
+    private final List<String> data = new ArrayList<>();
+    private final QueueHandler handler = new QueueHandler();
+
+    private int appliedCount;
+    private int testedRowCount;
+    private RowFilterIndex<String> rowFilterIndex;
+
+
+    @Before
+    public void setUp() throws Exception {
+        for (int dataIndex = 0; dataIndex < ROW_COUNT; dataIndex++) {
+            data.add(dataIndex < ROW_COUNT / 2 ? "a" + dataIndex : "xy" + dataIndex);
+        }
+
+        appliedCount = 0;
+        // without any time budget every chunk tests the least number of rows and posts the next chunk
+        rowFilterIndex = new RowFilterIndex<>(new Runnable() {
+            @Override
+            public void run() {
+                appliedCount++;
+            }
+        }, handler, 0);
+    }
+
+    @Test
+    public void shouldNarrowOnlyAppliedFilter() throws Exception {
+        // given
+        rowFilterIndex.setFilter(data, contains("a"), false);
+        handler.runAll();
+        rowFilterIndex.setFilter(data, contains("x"), false);
+
+        // when
+        rowFilterIndex.setFilter(data, contains("xy"), true);
+        handler.runAll();
+
+        // then
+        final int[] acceptedRowOrder = rowFilterIndex.getAcceptedRowOrder(null, ROW_COUNT);
+        assertEquals(ROW_COUNT / 2, acceptedRowOrder.length);
+        assertEquals(ROW_COUNT / 2, acceptedRowOrder[0]);
+    }
+
+    @Test
+    public void shouldNarrowAppliedFilter() throws Exception {
+        // given
+        rowFilterIndex.setFilter(data, contains("x"), false);
+        handler.runAll();
+
+        // when
+        rowFilterIndex.setFilter(data, contains("xy19"), true);
+        handler.runAll();
+
+        // then
+        assertArrayEquals(new int[]{190, 191, 192, 193, 194, 195, 196, 197, 198, 199},
+                rowFilterIndex.getAcceptedRowOrder(null, ROW_COUNT));
+    }
+
+    @Test
+    public void shouldTestChangedDataInChunks() throws Exception {
+        // given
+        rowFilterIndex.setFilter(data, contains("a"), false);
+        handler.runAll();
+        final int[] acceptedRowOrder = rowFilterIndex.getAcceptedRowOrder(null, ROW_COUNT);
+        data.clear();
+        for (int dataIndex = 0; dataIndex < ROW_COUNT; dataIndex++) {
+            data.add(dataIndex % 4 == 0 ? "a" : "b");
+        }
+
+        // when
+        rowFilterIndex.onDataSetChanged(data);
+
+        // then
+        assertEquals(1, appliedCount);
+        assertArrayEquals(acceptedRowOrder, rowFilterIndex.getAcceptedRowOrder(null, ROW_COUNT));
+        handler.runAll();
+        assertEquals(2, appliedCount);
+        assertEquals(ROW_COUNT / 4, rowFilterIndex.getAcceptedRowOrder(null, ROW_COUNT).length);
+    }
+
+    @Test
+    public void shouldKeepTestedRowsOfPendingFilterIfRowsAreInserted() throws Exception {
+        // given
+        rowFilterIndex.setFilter(data, contains("xy"), false);
+        handler.runNext();
+        data.add(0, "b");
+        data.add(0, "xy");
+
+        // when
+        rowFilterIndex.onRowsInserted(data, 0, 2);
+        handler.runAll();
+
+        // then
+        assertEquals(ROW_COUNT + 2, testedRowCount);
+        final int[] acceptedRowOrder = rowFilterIndex.getAcceptedRowOrder(null, ROW_COUNT + 2);
+        assertEquals(ROW_COUNT / 2 + 1, acceptedRowOrder.length);
+        assertEquals(0, acceptedRowOrder[0]);
+        assertEquals(ROW_COUNT / 2 + 2, acceptedRowOrder[1]);
+    }
+
+    @Test
+    public void shouldKeepRemainingRowsOfPendingNarrowingFilterIfRowsAreRemoved() throws Exception {
+        // given
+        rowFilterIndex.setFilter(data, contains("x"), false);
+        handler.runAll();
+        rowFilterIndex.setFilter(data, contains("xy19"), true);
+        data.subList(190, 195).clear();
+
+        // when
+        rowFilterIndex.onRowsRemoved(data, 190, 5);
+        handler.runAll();
+
+        // then
+        assertEquals(ROW_COUNT + ROW_COUNT / 2 - 5, testedRowCount);
+        assertArrayEquals(new int[]{190, 191, 192, 193, 194},
+                rowFilterIndex.getAcceptedRowOrder(null, ROW_COUNT - 5));
+    }
+
+    private TableDataRowFilter<String> contains(final String text) {
+        return new TableDataRowFilter<String>() {
+            @Override
+            public boolean accept(final String rowData) {
+                testedRowCount++;
+                return rowData.contains(text);
+            }
+        };
+    }
+
+    /**
+     * A {@link Handler} collecting the posted chunks, so the test decides when they are run.
+     *
+     * @author ISchwarz
+     */
+    private static class QueueHandler extends Handler {
+
+        private final List<Runnable> postedRunnables = new ArrayList<>();
+
+        @Override
+        public boolean post(final Runnable runnable) {
+            postedRunnables.add(runnable);
+            return true;
+        }
+
+        @Override
+        public void removeCallbacks(final Runnable runnable) {
+            postedRunnables.remove(runnable);
+        }
+
+        private void runNext() {
+            postedRunnables.remove(0).run();
+        }
+
+        private void runAll() {
+            while (!postedRunnables.isEmpty()) {
+                postedRunnables.remove(0).run();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+package de.codecrafters.tableview;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+
+
+/**
+ * Test for {@link RowOrderSorter} class.
+ *
+ * @author ISchwarz
+ */
+public class RowOrderSorterTest {
+
+    private static final int TEST_ROW_COUNT = 1000;
+
+    private final List<Integer> data = new ArrayList<>();
+
+    private IndexComparator ascendingComparator;
+    private IndexComparator descendingComparator;
+
+
+    @Before
+    public void setUp() throws Exception {
+        final Random random = new Random(42);
+        for (int i = 0; i < TEST_ROW_COUNT; i++) {
+            data.add(random.nextInt(50));
+        }
+
+        ascendingComparator = new IndexComparator() {
+            @Override
+            public int compare(final int dataIndex1, final int dataIndex2) {
+                return data.get(dataIndex1).compareTo(data.get(dataIndex2));
+            }
+        };
+        descendingComparator = new IndexComparator() {
+            @Override
+            public int compare(final int dataIndex1, final int dataIndex2) {
+                return data.get(dataIndex2).compareTo(data.get(dataIndex1));
+            }
+        };
+    }
+
+    @Test
+    public void shouldSortStable() throws Exception {
+        // given
+        final int[] rowOrder = RowOrderSorter.identity(TEST_ROW_COUNT);
+
+        // when
+        RowOrderSorter.sort(rowOrder, ascendingComparator);
+
+        // then
+        assertArrayEquals(expectedRowOrder(false), rowOrder);
+    }
+
+    @Test
+    public void shouldReverseLikeStableDescendingSort() throws Exception {
+        // given
+        final int[] rowOrder = RowOrderSorter.identity(TEST_ROW_COUNT);
+        RowOrderSorter.sort(rowOrder, ascendingComparator);
+
+        // when
+        RowOrderSorter.reverse(rowOrder, ascendingComparator);
+
+        // then
+        final int[] expectedRowOrder = RowOrderSorter.identity(TEST_ROW_COUNT);
+        RowOrderSorter.sort(expectedRowOrder, descendingComparator);
+        assertArrayEquals(expectedRowOrder, rowOrder);
+        assertArrayEquals(expectedRowOrder(true), rowOrder);
+    }
+
+    @Test
+    public void shouldSortRunsLikeStableCompoundSort() throws Exception {
+        // given
+        final IndexComparator tensComparator = new IndexComparator() {
+            @Override
+            public int compare(final int dataIndex1, final int dataIndex2) {
+                return (data.get(dataIndex1) / 10) - (data.get(dataIndex2) / 10);
+            }
+        };
+        final int[] rowOrder = RowOrderSorter.identity(TEST_ROW_COUNT);
+        RowOrderSorter.sort(rowOrder, tensComparator);
+
+        // when
+        RowOrderSorter.sortRuns(rowOrder, tensComparator, ascendingComparator);
+
+        // then
+        assertArrayEquals(expectedRowOrder(false), rowOrder);
+    }
+
+    @Test
+    public void shouldInsertLikeStableSort() throws Exception {
+        // given
+        final int insertedRowCount = 100;
+        final int[] rowOrder = RowOrderSorter.identity(TEST_ROW_COUNT - insertedRowCount);
+        RowOrderSorter.sort(rowOrder, ascendingComparator);
+        final int[] insertedDataIndices = new int[insertedRowCount];
+        for (int i = 0; i < insertedRowCount; i++) {
+            insertedDataIndices[i] = TEST_ROW_COUNT - insertedRowCount + i;
+        }
+
+        // when
+        final int[] result = RowOrderSorter.insert(rowOrder, insertedDataIndices, ascendingComparator);
+
+        // then
+        assertArrayEquals(expectedRowOrder(false), result);
+    }
+
+    @Test
+    public void shouldRemoveAndShiftLikeStableSort() throws Exception {
+        // given
+        final int removedDataIndexStart = 100;
+        final int removedRowCount = 200;
+        final int[] rowOrder = RowOrderSorter.identity(TEST_ROW_COUNT);
+        RowOrderSorter.sort(rowOrder, ascendingComparator);
+
+        // when
+        final int[] result = RowOrderSorter.remove(rowOrder, removedDataIndexStart, removedRowCount);
+        RowOrderSorter.shift(result, removedDataIndexStart, -removedRowCount);
+
+        // then
+        data.subList(removedDataIndexStart, removedDataIndexStart + removedRowCount).clear();
+        assertArrayEquals(expectedRowOrder(false), result);
+    }
+
+    private int[] expectedRowOrder(final boolean descending) {
+        final List<Integer> indices = new ArrayList<>();
+        for (int i = 0; i < data.size(); i++) {
+            indices.add(i);
+        }
+        Collections.sort(indices, new Comparator<Integer>() {
+            @Override
+            public int compare(final Integer index1, final Integer index2) {
+                if (descending) {
+                    return data.get(index2).compareTo(data.get(index1));
+                }
+                return data.get(index1).compareTo(data.get(index2));
+            }
+        });
+
+        final int[] rowOrder = new int[indices.size()];
+        for (int i = 0; i < rowOrder.length; i++) {
+            rowOrder[i] = indices.get(i);
+        }
+        return rowOrder;
+    }
+}
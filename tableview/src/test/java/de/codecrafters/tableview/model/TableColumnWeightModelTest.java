@@ -0,0 +1,71 @@
+package de.codecrafters.tableview.model;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+
+/**
+ * Test for {@link TableColumnWeightModel} class.
+ *
+ * @author ISchwarz
+ */
+public class TableColumnWeightModelTest {
+
+    @Test
+    public void shouldDistributeRemainingPixels() throws Exception {
+        // given
+        final TableColumnWeightModel columnModel = new TableColumnWeightModel(3);
+
+        // when
+        final int[] columnWidths = columnModel.getColumnWidths(100);
+
+        // then
+        assertArrayEquals(new int[]{33, 33, 34}, columnWidths);
+    }
+
+    @Test
+    public void shouldSplitTableWidthByWeights() throws Exception {
+        // given
+        final TableColumnWeightModel columnModel = new TableColumnWeightModel(4);
+        columnModel.setColumnWeight(0, 2);
+        columnModel.setColumnWeight(1, 3);
+        columnModel.setColumnWeight(2, 3);
+        columnModel.setColumnWeight(3, 2);
+
+        // when
+        final int[] columnWidths = columnModel.getColumnWidths(1001);
+
+        // then
+        assertArrayEquals(new int[]{200, 300, 300, 201}, columnWidths);
+        assertEquals(300, columnModel.getColumnWidth(1, 1001));
+    }
+
+    @Test
+    public void shouldSetColumnWeightsAtOnce() throws Exception {
+        // given
+        final TableColumnWeightModel columnModel = new TableColumnWeightModel(5);
+
+        // when
+        columnModel.setColumnWeights(2, 3, 3, 2);
+
+        // then
+        assertEquals(3, columnModel.getColumnWeight(2));
+        assertEquals(1, columnModel.getColumnWeight(4));
+        assertEquals(11, columnModel.getColumnWeightSum());
+    }
+
+    @Test
+    public void shouldRecalculateWidthsAfterChange() throws Exception {
+        // given
+        final TableColumnWeightModel columnModel = new TableColumnWeightModel(2);
+        columnModel.getColumnWidths(100);
+
+        // when
+        columnModel.setColumnWeight(0, 3);
+
+        // then
+        assertArrayEquals(new int[]{75, 25}, columnModel.getColumnWidths(100));
+    }
+}